@@ -0,0 +1,342 @@
+/*
+ * Copyright 2026 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/*
+ *
+ * This file is generated under this project, "open-commons-spring-jdbc".
+ *
+ * Date  : 2026. 10. 18. 오후 9:12:40
+ *
+ * Author: parkjunhong77@gmail.com
+ * 
+ */
+
+package open.commons.spring.jdbc.config;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+import javax.validation.constraints.NotNull;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 조회 요청은 Replica {@link DataSource}로, 그 외 요청은 Primary {@link DataSource}로 연결하는 {@link DataSource}.<br>
+ * <br>
+ * 연결 규칙
+ * <ul>
+ * <li>트랜잭션이 없는 경우: 조회 요청({@link #read()} 범위)은 Replica, 그 외는 Primary
+ * <li>읽기 전용 트랜잭션(<code>@Transactional(readOnly = true)</code>): Replica
+ * <li>읽기/쓰기 트랜잭션: Primary. (트랜잭션 내의 조회 요청도 Primary)
+ * <li>Replica가 없거나 Replica 연결이 실패한 경우: Primary
+ * </ul>
+ * 트랜잭션 시작 시점에는 읽기 전용 여부가 아직 설정되지 않으므로, 읽기 전용 트랜잭션을 Replica로 연결하려면 {@link LazyConnectionDataSourceProxy}로 감싸서 사용해야
+ * 합니다.
+ *
+ * <pre>
+ * 사용 예)
+ * DataSource ds = new LazyConnectionDataSourceProxy(new ReadWriteRoutingDataSource(primary, replicas, ReplicaSelection.LEAST_OUTSTANDING));
+ * </pre>
+ *
+ * @since 2026. 10. 18.
+ * @version 0.6.0
+ * @author parkjunhong77@gmail.com
+ */
+public class ReadWriteRoutingDataSource extends AbstractDataSource {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ReadWriteRoutingDataSource.class);
+
+    /** 현재 쓰레드의 조회 요청 범위 */
+    private static final ThreadLocal<Boolean> READ = new ThreadLocal<>();
+
+    private final DataSource primary;
+    private final List<DataSource> replicas;
+    private final ReplicaSelection selection;
+    /** Replica 별 사용 중인 {@link Connection} 개수 */
+    private final AtomicInteger[] outstanding;
+    /** Replica 순서 */
+    private final AtomicInteger sequence = new AtomicInteger();
+
+    /**
+     * <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @param primary
+     *            Primary {@link DataSource}
+     * @param replicas
+     *            Replica {@link DataSource}
+     * @param selection
+     *            Replica 선택 방식
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     */
+    public ReadWriteRoutingDataSource(@NotNull DataSource primary, @NotNull List<DataSource> replicas, @NotNull ReplicaSelection selection) {
+        if (primary == null) {
+            throw new IllegalArgumentException("Primary DataSource MUST NOT BE null.");
+        }
+        this.primary = primary;
+        this.replicas = Collections.unmodifiableList(new ArrayList<>(replicas));
+        this.selection = selection;
+        this.outstanding = new AtomicInteger[this.replicas.size()];
+        for (int i = 0; i < this.outstanding.length; i++) {
+            this.outstanding[i] = new AtomicInteger();
+        }
+    }
+
+    /**
+     * @see javax.sql.DataSource#getConnection()
+     */
+    @Override
+    public Connection getConnection() throws SQLException {
+        return getConnection(null, null);
+    }
+
+    /**
+     * @see javax.sql.DataSource#getConnection(java.lang.String, java.lang.String)
+     */
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        if (isReadRouting()) {
+            int index = selectReplica();
+            DataSource replica = this.replicas.get(index);
+            try {
+                Connection con = username != null ? replica.getConnection(username, password) : replica.getConnection();
+                return track(con, index);
+            } catch (SQLException e) {
+                this.outstanding[index].decrementAndGet();
+                LOGGER.warn("Fail to get a connection of a replica. Use the primary. replica[{}]={}, cause={}", index, replica, e.getMessage());
+            }
+        }
+
+        return username != null ? this.primary.getConnection(username, password) : this.primary.getConnection();
+    }
+
+    /**
+     * Replica 별 사용 중인 {@link Connection} 개수를 제공합니다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     */
+    public int[] getOutstandingRequests() {
+        int[] counts = new int[this.outstanding.length];
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = this.outstanding[i].get();
+        }
+        return counts;
+    }
+
+    /**
+     * 현재 쓰레드가 조회 요청 범위({@link #read()}) 안에 있는지 여부를 제공합니다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     */
+    public static boolean isReadScope() {
+        return Boolean.TRUE.equals(READ.get());
+    }
+
+    /**
+     * 현재 요청을 Replica로 연결할지 여부를 제공합니다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     */
+    protected boolean isReadRouting() {
+        if (this.replicas.isEmpty()) {
+            return false;
+        } else if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+        } else {
+            return Boolean.TRUE.equals(READ.get());
+        }
+    }
+
+    /**
+     * 조회 요청 범위를 시작합니다. 반환된 객체를 닫으면 이전 상태로 복원됩니다. <br>
+     *
+     * <pre>
+     * 사용 예)
+     * try (ReadScope scope = ReadWriteRoutingDataSource.read()) {
+     *     ...
+     * }
+     *
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     */
+    public static ReadScope read() {
+        Boolean prev = READ.get();
+        READ.set(Boolean.TRUE);
+        return new ReadScope(prev);
+    }
+
+    /**
+     * 설정된 방식으로 Replica를 선택하고, 사용 중인 {@link Connection} 개수를 증가시킵니다.
+     */
+    private int selectReplica() {
+        int count = this.replicas.size();
+        int start = Math.floorMod(this.sequence.getAndIncrement(), count);
+        int index = start;
+
+        if (this.selection == ReplicaSelection.LEAST_OUTSTANDING) {
+            int min = Integer.MAX_VALUE;
+            int cur = 0;
+            for (int i = 0; i < count; i++) {
+                cur = (start + i) % count;
+                if (this.outstanding[cur].get() < min) {
+                    min = this.outstanding[cur].get();
+                    index = cur;
+                }
+            }
+        }
+
+        this.outstanding[index].incrementAndGet();
+        return index;
+    }
+
+    /**
+     * {@link Connection#close()} 호출시 사용 중인 {@link Connection} 개수를 감소시키는 {@link Connection}을 제공합니다.
+     */
+    private Connection track(Connection con, int index) {
+        AtomicBoolean closed = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[] { Connection.class }, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "close":
+                    if (closed.compareAndSet(false, true)) {
+                        this.outstanding[index].decrementAndGet();
+                    }
+                    break;
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "unwrap":
+                    if (((Class<?>) args[0]).isInstance(proxy)) {
+                        return proxy;
+                    }
+                    break;
+                default:
+                    break;
+            }
+
+            try {
+                return method.invoke(con, args);
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+        });
+    }
+
+    /**
+     * 조회 요청 범위.
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     */
+    public static class ReadScope implements AutoCloseable {
+        /** 이전 상태 */
+        private final Boolean prev;
+
+        private ReadScope(Boolean prev) {
+            this.prev = prev;
+        }
+
+        /**
+         * @see java.lang.AutoCloseable#close()
+         */
+        @Override
+        public void close() {
+            if (this.prev != null) {
+                READ.set(this.prev);
+            } else {
+                READ.remove();
+            }
+        }
+    }
+
+    /**
+     * Replica 선택 방식.
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     */
+    public static enum ReplicaSelection {
+        /** 순서대로 선택 */
+        ROUND_ROBIN,
+        /** 사용 중인 {@link Connection}이 가장 적은 Replica 선택 */
+        LEAST_OUTSTANDING,
+    }
+}
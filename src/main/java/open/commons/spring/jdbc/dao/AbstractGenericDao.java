@@ -28,6 +28,9 @@ package open.commons.spring.jdbc.dao;
 import java.sql.PreparedStatement;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
 import javax.validation.constraints.Min;
@@ -158,6 +161,7 @@ public abstract class AbstractGenericDao extends AbstractGenericRetrieve {
      *      날짜    	| 작성자	|	내용
      * ------------------------------------------
      * 2019. 3. 28.		박준홍			최초 작성
+     * 2026. 10. 18.        박준홍         쿼리가 동일한 PreparedStatement 재사용 ({@link PreparedStatementCache})
      * </pre>
      *
      * @param brokers
@@ -186,10 +190,10 @@ public abstract class AbstractGenericDao extends AbstractGenericRetrieve {
                 DefaultConnectionCallback2<E> action = null;
                 int total = 0;
                 int inserted = 0;
-                try {
+                try (PreparedStatementCache statements = new PreparedStatementCache(con)) {
                     for (ConnectionCallbackBroker2<E> broker : brokers) {
                         action = new DefaultConnectionCallback2<E>(broker);
-                        inserted = action.doInConnection(con);
+                        inserted = action.doInConnection(con, statements);
                         total += inserted;
 
                         watch.record("inserted");
@@ -560,4 +564,62 @@ public abstract class AbstractGenericDao extends AbstractGenericRetrieve {
     public Result<Integer> executeUpdate(@NotNull String query, SQLConsumer<PreparedStatement> setter, boolean forStoredProcedure) {
         return executeUpdate(new DefaultConCallbackBroker2(query, setter, forStoredProcedure));
     }
+
+    /**
+     * (Insert/Update/Delete) 쿼리 요청을 비동기로 처리합니다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @param query
+     *            요청쿼리
+     * @param setter
+     *            요청쿼리 파라미터 설정 객체
+     * @return
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     * 
+     * @see #getAsyncExecutor()
+     */
+    public CompletableFuture<Result<Integer>> executeUpdateAsync(@NotNull String query, SQLConsumer<PreparedStatement> setter) {
+        return executeUpdateAsync(query, setter, 0, TimeUnit.MILLISECONDS, getAsyncExecutor());
+    }
+
+    /**
+     * (Insert/Update/Delete) 쿼리 요청을 비동기로 처리합니다. <br>
+     * 제한 시간이 초과되거나 취소된 경우 실행 중인 쿼리를 취소({@link java.sql.Statement#cancel()})합니다.
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @param query
+     *            요청쿼리
+     * @param setter
+     *            요청쿼리 파라미터 설정 객체
+     * @param timeout
+     *            실행 제한 시간. 0 이하인 경우 제한하지 않음.
+     * @param unit
+     *            실행 제한 시간 단위
+     * @param executor
+     *            쿼리 실행 객체
+     * @return
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     */
+    public CompletableFuture<Result<Integer>> executeUpdateAsync(@NotNull String query, SQLConsumer<PreparedStatement> setter, long timeout, @NotNull TimeUnit unit,
+            @NotNull Executor executor) {
+        return AsyncQueries.supplyAsync(canceller -> executeUpdate(query, canceller.wrap(setter)), timeout, unit, executor);
+    }
 }
@@ -39,11 +39,19 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
-import java.util.UUID;
-import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.BiFunction;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import javax.sql.DataSource;
 import javax.validation.constraints.Min;
@@ -61,6 +69,7 @@ import org.springframework.jdbc.datasource.DataSourceUtils;
 import org.springframework.jdbc.datasource.TransactionAwareDataSourceProxy;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.util.Assert;
 
 import open.commons.core.Result;
@@ -78,7 +87,10 @@ import open.commons.core.test.StopWatch;
 import open.commons.core.text.NamedTemplate;
 import open.commons.core.utils.NumberUtils;
 import open.commons.core.utils.SQLUtils;
+import open.commons.spring.jdbc.config.ReadWriteRoutingDataSource;
+import open.commons.spring.jdbc.config.ReadWriteRoutingDataSource.ReadScope;
 import open.commons.spring.jdbc.dao.dto.CountDTO;
+import open.commons.spring.jdbc.exception.RuntimeDataAccessException;
 
 /**
  * DAO 공통 기능 제공 클래스.<br>
@@ -165,6 +177,22 @@ public abstract class AbstractGenericRetrieve implements IGenericDao {
         }
     };
 
+    /**
+     * 대용량 데이터 조회시 기본 Fetch Size
+     * 
+     * @since 2026. 10. 18.
+     * @see #getStreamFetchSize()
+     */
+    protected static final int DEFAULT_STREAM_FETCH_SIZE = 1000;
+
+    /**
+     * 쿼리 1개에 설정할 수 있는 기본 최대 파라미터 개수. (JDBC Driver 대부분이 2 bytes 부호 없는 정수로 전송)
+     * 
+     * @since 2026. 10. 18.
+     * @see #getMaxBindParameters()
+     */
+    protected static final int DEFAULT_MAX_BIND_PARAMETERS = 65535;
+
     protected Logger logger = LoggerFactory.getLogger(getClass());
 
     protected ReloadableResourceBundleMessageSource querySource;
@@ -174,12 +202,31 @@ public abstract class AbstractGenericRetrieve implements IGenericDao {
 
     /**
      * 타입별 객체 생성기<br>
+     * (Entity 타입, 컬럼 목록, 조회 결과 구조) 단위로 생성된 객체 생성 함수를 관리합니다.
+     * 
+     * @since 2026. 10. 18.
+     */
+    private final EntityRowMapperFactory CREATORS = new EntityRowMapperFactory(EntityRowMapperFactory.DEFAULT_CACHE_SIZE);
+    /**
+     * 데이터 개수 조회 쿼리<br>
+     * 조회 쿼리 단위로 생성된 데이터 개수 조회 쿼리를 관리합니다.
+     * 
+     * @since 2026. 10. 18.
+     */
+    private final CountQueryFactory COUNT_QUERIES = new CountQueryFactory(CountQueryFactory.DEFAULT_CACHE_SIZE);
+    /**
+     * 실행 중인 조회 요청<br>
+     * 동시에 요청된 동일한 조회 요청(쿼리, 파라미터, 데이터 타입, 컬럼, 조회 결과 버전)을 1번만 실행합니다.
      * <ul>
-     * <li>key: 클래스 이름 {@link Class#getName()}
-     * <li>value: 객체 생성 함수
+     * <li>key: [{@link QueryKey}, 조회 결과 버전, 조회 요청 범위({@link ReadWriteRoutingDataSource#isReadScope()}) 여부]
+     * <li>value: 조회 결과
      * </ul>
+     * 
+     * @since 2026. 10. 18.
+     * @see #getListShared(String, Object[], Class, String...)
+     * @see #getListShared(String, Object[], Class, long, String...)
      */
-    private final ConcurrentSkipListMap<String, SQLBiFunction<ResultSet, Integer, ?>> CREATORS = new ConcurrentSkipListMap<>();
+    private final SingleFlight<List<Object>, Result<?>> SHARED_QUERIES = new SingleFlight<>();
     /**
      * @param c
      *            {@link Connection}
@@ -355,6 +402,7 @@ public abstract class AbstractGenericRetrieve implements IGenericDao {
      *      날짜    	| 작성자	|	내용
      * ------------------------------------------
      * 2020. 7. 21.		박준홍			최초 작성
+     * 2026. 10. 18.        박준홍         최대 파라미터 개수({@link #getMaxBindParameters()})를 넘지 않도록 분할 크기 조정
      * </pre>
      *
      * @param <E>
@@ -385,6 +433,15 @@ public abstract class AbstractGenericRetrieve implements IGenericDao {
             return new DefaultConCallbackBroker2[0];
         }
 
+        // #0. 최대 파라미터 개수를 넘지 않도록 분할 크기 조정
+        int bindPerRow = (int) valueQuery.chars().filter(c -> c == '?').count();
+        if (bindPerRow > 0 && partitionSize > getMaxBindParameters() / bindPerRow) {
+            int maxRows = Math.max(1, getMaxBindParameters() / bindPerRow);
+            logger.warn("분할 크기가 최대 파라미터 개수를 초과하여 조정합니다. partition.size={} -> {}, parameter.per.row={}, parameter.max={}", partitionSize, maxRows, bindPerRow,
+                    getMaxBindParameters());
+            partitionSize = maxRows;
+        }
+
         // #1. 분할된 데이터를 추가하기 위한 쿼리와 데이터 Setter 생성
         List<ConnectionCallbackBroker2<SQLConsumer<PreparedStatement>>> brokers = new ArrayList<>();
 
@@ -461,9 +518,34 @@ public abstract class AbstractGenericRetrieve implements IGenericDao {
         return createConnectionCallbackBrokers(data, psSetterProvider, partitionSize, headerQuery, valueQuery, concatForVQ, tailQuery);
     }
 
-    private <E> List<E> createObject(@NotNull ResultSet rs, @NotNull Class<E> entity, String... columns) throws SQLException {
+    /**
+     * 조회 결과를 데이터로 변환합니다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         하위 클래스에서 사용할 수 있도록 공개 범위 변경 (private -&gt; protected)
+     * </pre>
+     *
+     * @param <E>
+     *            데이터 타입
+     * @param rs
+     *            조회 결과
+     * @param entity
+     *            데이터 타입
+     * @param columns
+     *            조회 결과에서 필요한 컬럼이름.
+     * @return
+     * @throws SQLException
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     */
+    protected final <E> List<E> createObject(@NotNull ResultSet rs, @NotNull Class<E> entity, String... columns) throws SQLException {
 
-        SQLBiFunction<ResultSet, Integer, E> creator = findCreator(entity, columns);
+        SQLBiFunction<ResultSet, Integer, E> creator = findCreator(rs, entity, columns);
 
         List<E> l = new ArrayList<>();
         int i = 1;
@@ -609,7 +691,33 @@ public abstract class AbstractGenericRetrieve implements IGenericDao {
      * @see CountDTO
      */
     protected Result<Integer> executeCountOf(@NotNull String countQuery, Object... params) {
-        Result<CountDTO> result = getObject(countQuery, SQLConsumer.setParameters(params), CountDTO.class);
+        return executeCountOf(countQuery, SQLConsumer.setParameters(params));
+    }
+
+    /**
+     * 조회된 데이터 개수를 제공합니다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @param countQuery
+     *            데이터 개수 제공 쿼리.
+     * @param setter
+     *            조회 파라미터 설정 객체.
+     * @return
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     * 
+     * @see CountDTO
+     */
+    protected Result<Integer> executeCountOf(@NotNull String countQuery, SQLConsumer<PreparedStatement> setter) {
+        Result<CountDTO> result = getObject(countQuery, setter, CountDTO.class);
 
         if (!result.getResult()) {
             return new Result<Integer>().setMessage(result.getMessage());
@@ -628,6 +736,7 @@ public abstract class AbstractGenericRetrieve implements IGenericDao {
      *      날짜    	| 작성자	|	내용
      * ------------------------------------------
      * 2019. 3. 28.		박준홍			최초 작성
+     * 2026. 10. 18.        박준홍         조회 요청 범위에서 실행 (ReadWriteRoutingDataSource)
      * </pre>
      *
      * @param broker
@@ -655,7 +764,7 @@ public abstract class AbstractGenericRetrieve implements IGenericDao {
         StopWatch watch = new StopWatch();
         watch.start();
         try {
-            data = execute(con -> {
+            data = executeRead(con -> {
                 PreparedStatement pstmt = con.prepareStatement(broker.getQuery());
 
                 IConnectionCallbackSetter setter = broker.getSetter();
@@ -723,6 +832,7 @@ public abstract class AbstractGenericRetrieve implements IGenericDao {
      *      날짜    	| 작성자	|	내용
      * ------------------------------------------
      * 2021. 4. 23.		박준홍			최초 작성
+     * 2026. 10. 18.        박준홍         조회 요청 범위에서 실행 (ReadWriteRoutingDataSource)
      * </pre>
      *
      * @param <S>
@@ -744,7 +854,7 @@ public abstract class AbstractGenericRetrieve implements IGenericDao {
         StopWatch watch = new StopWatch();
         watch.start();
         try {
-            data = execute(con -> {
+            data = executeRead(con -> {
                 PreparedStatement pstmt = con.prepareStatement(broker.getQuery());
                 broker.set(pstmt);
 
@@ -769,6 +879,34 @@ public abstract class AbstractGenericRetrieve implements IGenericDao {
         }
     }
 
+    /**
+     * 조회 요청을 처리하고 결과를 제공합니다. <br>
+     * {@link ReadWriteRoutingDataSource}를 사용하는 경우 Replica {@link DataSource}에서 실행됩니다.
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @param act
+     *            {@link Connection}을 전달받아 요청쿼리를 처리하는 객체
+     * @return 쿼리처리 결과.
+     * @throws SQLException
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     * 
+     * @see ReadWriteRoutingDataSource#read()
+     */
+    protected <R> R executeRead(@NotNull SQLFunction<Connection, R> act) throws SQLException {
+        try (ReadScope scope = ReadWriteRoutingDataSource.read()) {
+            return execute(act);
+        }
+    }
+
     /**
      * 데이타 타입에 맞는 객체 생성자를 제공합니다. <br>
      * 
@@ -778,8 +916,11 @@ public abstract class AbstractGenericRetrieve implements IGenericDao {
      * ------------------------------------------
      * 2019. 3. 28.		박준홍			최초 작성
      * 2020. 6. 12.     박준홍         조회 결과를 java.util.Map 형태로 받는 경우 지원
+     * 2026. 10. 18.    박준홍         조회 결과 구조({@link java.sql.ResultSetMetaData}) 기준으로 생성된 객체 생성 함수 재사용
      * </pre>
      *
+     * @param rs
+     *            쿼리처리 결과
      * @param entity
      *            쿼리처리 결과 데이타 타입
      * @param columns
@@ -789,42 +930,116 @@ public abstract class AbstractGenericRetrieve implements IGenericDao {
      *         <ul>
      *         <li>&lt;T&gt; 요청받을 데이타 타입
      *         </ul>
+     * @throws SQLException
      *
      * @since 2019. 3. 28.
-     * @version 0.0.6
+     * @version 0.6.0
      * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     * 
+     * @see EntityRowMapperFactory
      */
     @SuppressWarnings({ "unchecked", "rawtypes" })
-    private <R> SQLBiFunction<ResultSet, Integer, R> findCreator(@NotNull Class<R> entity, String... columns) {
-        Arrays.sort(columns);
-        String key = String.join("-", entity.getName(), String.valueOf(Arrays.toString(columns).hashCode()));
-        SQLBiFunction<ResultSet, Integer, R> creator = (SQLBiFunction<ResultSet, Integer, R>) CREATORS.get(key);
-
-        if (creator == null) {
-            // begin - PATCH [2020. 6. 12.]: 조회 결과를 java.util.Map 형태로 받는 경우 지원.| Park_Jun_Hong_(parkjunhong77@gmail.com)
-            if (Map.class.isAssignableFrom(entity)) {
-                // DAO Entity가 Map.class 인 경우는 Map.class 가 여러 가지의 데이터 타입을 대신하는 것이기 때문에,
-                // Entity 생성 함수를 별도로 저장하지 않는다.
-                creator = (rs, rowNum) -> {
-                    try {
-                        Map data = (Map) entity.newInstance();
-                        for (String clmn : columns) {
-                            data.put(clmn, rs.getObject(clmn));
-                        }
-
-                        return (R) data;
-                    } catch (InstantiationException | IllegalAccessException e) {
-                        throw new SQLException(String.format("%s 객체 생성시 에러가 발생하였습니다. 원인=%s", entity, e.getMessage()), e);
+    private <R> SQLBiFunction<ResultSet, Integer, R> findCreator(@NotNull ResultSet rs, @NotNull Class<R> entity, String... columns) throws SQLException {
+        // begin - PATCH [2020. 6. 12.]: 조회 결과를 java.util.Map 형태로 받는 경우 지원.| Park_Jun_Hong_(parkjunhong77@gmail.com)
+        if (Map.class.isAssignableFrom(entity)) {
+            // DAO Entity가 Map.class 인 경우는 Map.class 가 여러 가지의 데이터 타입을 대신하는 것이기 때문에,
+            // Entity 생성 함수를 별도로 저장하지 않는다.
+            return (rs0, rowNum) -> {
+                try {
+                    Map data = (Map) entity.newInstance();
+                    for (String clmn : columns) {
+                        data.put(clmn, rs0.getObject(clmn));
                     }
-                };
-                // end - Park_Jun_Hong_(parkjunhong77@gmail.com), 2020. 6. 12.
-            } else {
-                creator = (rs, rowNum) -> SQLUtils.newInstance(entity, rs, columns);
-                CREATORS.put(entity.getName(), creator);
+
+                    return (R) data;
+                } catch (InstantiationException | IllegalAccessException e) {
+                    throw new SQLException(String.format("%s 객체 생성시 에러가 발생하였습니다. 원인=%s", entity, e.getMessage()), e);
+                }
+            };
+        }
+        // end - Park_Jun_Hong_(parkjunhong77@gmail.com), 2020. 6. 12.
+
+        return CREATORS.getRowMapper(entity, rs.getMetaData(), columns);
+    }
+
+    /**
+     * 데이터 조회 결과를 {@link List}로 생성하지 않고, 1건씩 전달합니다. <br>
+     * 대용량 데이터 조회시 사용합니다.
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @param <E>
+     * @param query
+     *            데이터 조회 요청쿼리
+     * @param setter
+     *            요청쿼리 파라미터 설정 객체
+     * @param entity
+     *            결과 데이타 타입
+     * @param action
+     *            데이터 처리 함수
+     * @param columns
+     *            요청쿼리 처리 결과에서 필요한 컬럼이름.
+     *            <li><b><code>entity</code></b> 모델의 메소드에 적용된 {@link ColumnDef#name()} 값들.
+     * @return 처리된 데이터 개수
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     * 
+     * @see #stream(String, SQLConsumer, Class, String...)
+     */
+    public <E> Result<Integer> forEach(@NotNull String query, SQLConsumer<PreparedStatement> setter, @NotNull Class<E> entity, @NotNull SQLConsumer<E> action,
+            String... columns) {
+
+        Result<Integer> result = new Result<>();
+
+        int count = 0;
+        StopWatch watch = new StopWatch();
+        watch.start();
+        try (StreamCursor<E> cursor = openCursor(query, setter, entity, columns)) {
+            E data = null;
+            while ((data = cursor.next()) != null) {
+                action.accept(data);
+                count++;
             }
+            result.andTrue().setData(count);
+        } catch (SQLException e) {
+            logger.warn("Fail to process query. query={}", query, e);
+            result.setMessage(e.getMessage());
+        } finally {
+            watch.stop();
+            logger.trace("Data.count: {}, Elapsed.total: {}", NumberUtils.INT_TO_STR.apply(count), watch.getAsPretty());
         }
 
-        return creator;
+        return result;
+    }
+
+    /**
+     * 비동기 쿼리 실행시 기본으로 사용하는 {@link Executor}를 제공합니다. <br>
+     * 기본값은 쓰레드 개수가 제한된 비동기 쿼리 전용 {@link Executor}({@link AsyncQueries#defaultExecutor()})이며, Connection Pool 크기 등에 맞는 별도의
+     * {@link Executor}를 제공하도록 재정의하는 것을 권장합니다.
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * 2026. 10. 18.        박준홍         기본값을 ForkJoinPool.commonPool()에서 비동기 쿼리 전용 Executor로 변경
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     */
+    protected Executor getAsyncExecutor() {
+        return AsyncQueries.defaultExecutor();
     }
 
     /**
@@ -900,6 +1115,64 @@ public abstract class AbstractGenericRetrieve implements IGenericDao {
         return executeCountOf(query, params);
     }
 
+    /**
+     * 전달된 쿼리에 대한 조회 결과 데이터 개수를 비동기로 제공합니다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @param selectQuery
+     *            데이터 조회 쿼리.
+     * @param params
+     *            조회 파라미터.
+     * @return
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     * 
+     * @see #getAsyncExecutor()
+     */
+    public CompletableFuture<Result<Integer>> getCountAsync(@NotNull String selectQuery, Object... params) {
+        return getCountAsync(selectQuery, 0, TimeUnit.MILLISECONDS, getAsyncExecutor(), params);
+    }
+
+    /**
+     * 전달된 쿼리에 대한 조회 결과 데이터 개수를 비동기로 제공합니다. <br>
+     * 제한 시간이 초과되거나 취소된 경우 실행 중인 쿼리를 취소({@link java.sql.Statement#cancel()})합니다.
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @param selectQuery
+     *            데이터 조회 쿼리.
+     * @param timeout
+     *            실행 제한 시간. 0 이하인 경우 제한하지 않음.
+     * @param unit
+     *            실행 제한 시간 단위
+     * @param executor
+     *            쿼리 실행 객체
+     * @param params
+     *            조회 파라미터.
+     * @return
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     */
+    public CompletableFuture<Result<Integer>> getCountAsync(@NotNull String selectQuery, long timeout, @NotNull TimeUnit unit, @NotNull Executor executor, Object... params) {
+        String query = wrapQueryForCount(selectQuery);
+        return AsyncQueries.supplyAsync(canceller -> executeCountOf(query, canceller.wrap(SQLConsumer.setParameters(params))), timeout, unit, executor);
+    }
+
     /**
      * {@link DataSource}를 {@link TransactionAwareDataSourceProxy}로 감싸서 제공합니다. <br>
      * 
@@ -926,6 +1199,72 @@ public abstract class AbstractGenericRetrieve implements IGenericDao {
         }
     }
 
+    /**
+     * 전달된 쿼리에 대한 조회 결과에서 컬럼의 최소값과 최대값을 제공합니다. <br>
+     * 
+     * <pre>
+     * 패턴: SELECT MIN({key-column}), MAX({key-column}), COUNT(*) - COUNT({key-column}) FROM ( {select-query} ) tbl_key_range
+     * 
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * 2026. 10. 18.        박준홍         조회 요청 범위에서 실행 (ReadWriteRoutingDataSource)
+     * 2026. 10. 18.        박준홍         컬럼 이름 검증, 컬럼값이 null인 데이터 개수 제공
+     * </pre>
+     *
+     * @param selectQuery
+     *            데이터 조회 쿼리.
+     * @param keyColumn
+     *            컬럼 이름. 데이터 조회 쿼리 결과에 포함되어야 합니다. ({@link KeyRangePartitioner#validateKeyColumn(String)})
+     * @param params
+     *            조회 파라미터.
+     * @return [최소값, 최대값, 컬럼값이 null인 데이터 개수]. 데이터가 없는 경우 [null, null, 0]
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     */
+    public Result<Object[]> getKeyRange(@NotNull String selectQuery, @NotNull String keyColumn, Object... params) {
+        String clmn;
+        try {
+            clmn = KeyRangePartitioner.validateKeyColumn(keyColumn);
+        } catch (IllegalArgumentException e) {
+            return new Result<Object[]>().setMessage(e.getMessage());
+        }
+
+        StringBuffer queryBuf = new StringBuffer("SELECT MIN(");
+        queryBuf.append(clmn);
+        queryBuf.append("), MAX(");
+        queryBuf.append(clmn);
+        queryBuf.append("), COUNT(*) - COUNT(");
+        queryBuf.append(clmn);
+        queryBuf.append(") FROM ( ");
+        queryBuf.append(selectQuery);
+        queryBuf.append(" ) tbl_key_range");
+
+        String query = queryBuf.toString();
+
+        logger.debug("Query: {}, params={}", query, Arrays.toString(params));
+
+        Result<Object[]> result = new Result<>();
+        try {
+            Object[] range = executeRead(con -> {
+                try (PreparedStatement pstmt = con.prepareStatement(query)) {
+                    SQLConsumer.setParameters(params).accept(pstmt);
+                    try (ResultSet rs = pstmt.executeQuery()) {
+                        return rs.next() ? new Object[] { rs.getObject(1), rs.getObject(2), rs.getLong(3) } : new Object[] { null, null, 0L };
+                    }
+                }
+            });
+            result.andTrue().setData(range);
+        } catch (SQLException e) {
+            result.setMessage(e.getMessage());
+        }
+
+        return result;
+    }
+
     /**
      * 데이터 조회 요청쿼리를 처리합니다. <br>
      * 
@@ -1229,6 +1568,166 @@ public abstract class AbstractGenericRetrieve implements IGenericDao {
         return getListAsMap(query, null, columns);
     }
 
+    /**
+     * 요청쿼리를 비동기로 처리하고 결과를 제공합니다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @param query
+     *            요청쿼리
+     * @param setter
+     *            요청쿼리 파라미터 설정 객체
+     * @param entity
+     *            결과 데이타 타입.
+     * @param columns
+     *            요청쿼리 처리 결과에서 필요한 컬럼이름.
+     *            <li><b><code>entity</code></b> 모델의 메소드에 적용된 {@link ColumnDef#name()} 값들.
+     * @return
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     * 
+     * @see #getAsyncExecutor()
+     */
+    public <E> CompletableFuture<Result<List<E>>> getListAsync(@NotNull String query, SQLConsumer<PreparedStatement> setter, @NotNull Class<E> entity, String... columns) {
+        return getListAsync(query, setter, entity, 0, TimeUnit.MILLISECONDS, getAsyncExecutor(), columns);
+    }
+
+    /**
+     * 요청쿼리를 비동기로 처리하고 결과를 제공합니다. <br>
+     * 제한 시간이 초과되거나 취소된 경우 실행 중인 쿼리를 취소({@link java.sql.Statement#cancel()})합니다.
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @param query
+     *            요청쿼리
+     * @param setter
+     *            요청쿼리 파라미터 설정 객체
+     * @param entity
+     *            결과 데이타 타입.
+     * @param timeout
+     *            실행 제한 시간. 0 이하인 경우 제한하지 않음.
+     * @param unit
+     *            실행 제한 시간 단위
+     * @param executor
+     *            쿼리 실행 객체
+     * @param columns
+     *            요청쿼리 처리 결과에서 필요한 컬럼이름.
+     *            <li><b><code>entity</code></b> 모델의 메소드에 적용된 {@link ColumnDef#name()} 값들.
+     * @return
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     */
+    public <E> CompletableFuture<Result<List<E>>> getListAsync(@NotNull String query, SQLConsumer<PreparedStatement> setter, @NotNull Class<E> entity, long timeout,
+            @NotNull TimeUnit unit, @NotNull Executor executor, String... columns) {
+        return AsyncQueries.supplyAsync(canceller -> getList(query, canceller.wrap(setter), entity, columns), timeout, unit, executor);
+    }
+
+    /**
+     * 요청쿼리를 처리합니다. 동일한 조회 요청이 실행 중인 경우, 쿼리를 실행하지 않고 실행 중인 조회 결과를 함께 사용합니다. <br>
+     * 쿼리, 파라미터, 데이터 타입, 컬럼이 모두 같은 경우 동일한 조회 요청으로 판단하며, 실행 중인 조회 결과를 기다리는 시간은 {@link #getSingleFlightTimeout()}로
+     * 제한됩니다.<br>
+     * 아래의 경우에는 항상 쿼리를 실행합니다.
+     * <ul>
+     * <li>{@link #getSingleFlightTimeout()}이 0 이하인 경우
+     * <li>트랜잭션이 진행 중인 경우 (트랜잭션마다 조회 결과가 다를 수 있음)
+     * </ul>
+     * 조회 결과 목록은 요청마다 생성되지만, 데이터 객체는 공유되므로 변경하지 않아야 합니다.
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @param query
+     *            요청쿼리
+     * @param params
+     *            요청쿼리 파라미터
+     * @param entity
+     *            결과 데이타 타입.
+     * @param columns
+     *            요청쿼리 처리 결과에서 필요한 컬럼이름.
+     *            <li><b><code>entity</code></b> 모델의 메소드에 적용된 {@link ColumnDef#name()} 값들.
+     * @return 실행 중인 조회 결과를 기다리는 시간이 초과된 경우 실패
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     */
+    public <E> Result<List<E>> getListShared(@NotNull String query, Object[] params, @NotNull Class<E> entity, String... columns) {
+        return getListShared(query, params, entity, 0L, columns);
+    }
+
+    /**
+     * 요청쿼리를 처리합니다. 동일한 조회 요청이 실행 중인 경우, 쿼리를 실행하지 않고 실행 중인 조회 결과를 함께 사용합니다. <br>
+     * {@link #getListShared(String, Object[], Class, String...)}와 같지만, 조회 결과 버전이 다른 요청은 실행 중인 조회 결과를 함께 사용하지 않습니다.<br>
+     * 조회 결과를 버전과 함께 저장하는 경우, 데이터가 변경되기 전에 시작된 조회 결과가 변경 이후의 버전으로 저장되지 않도록 조회를 요청하기 전에 확인한 버전을 전달합니다.
+     * 테이블 버전({@link open.commons.spring.jdbc.view.QueryResultCache#version(String)})을 전달하는 경우, 데이터를 변경한 이후의 요청은 변경 이전에 시작된 조회 결과를 함께
+     * 사용하지 않습니다.<br>
+     * 조회 요청 범위({@link ReadWriteRoutingDataSource#read()}) 여부가 다른 요청은 서로 다른 {@link DataSource}(Primary/Replica)에서 실행될 수 있으므로 조회 결과를 함께
+     * 사용하지 않습니다.
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * 2026. 10. 18.        박준홍         조회 요청 범위(ReadWriteRoutingDataSource) 여부가 다른 요청과 조회 결과 공유 금지
+     * </pre>
+     *
+     * @param query
+     *            요청쿼리
+     * @param params
+     *            요청쿼리 파라미터
+     * @param entity
+     *            결과 데이타 타입.
+     * @param version
+     *            조회 결과 버전
+     * @param columns
+     *            요청쿼리 처리 결과에서 필요한 컬럼이름.
+     *            <li><b><code>entity</code></b> 모델의 메소드에 적용된 {@link ColumnDef#name()} 값들.
+     * @return 실행 중인 조회 결과를 기다리는 시간이 초과된 경우 실패
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     */
+    @SuppressWarnings("unchecked")
+    public <E> Result<List<E>> getListShared(@NotNull String query, Object[] params, @NotNull Class<E> entity, long version, String... columns) {
+        long timeout = getSingleFlightTimeout();
+        if (timeout < 1 || TransactionSynchronizationManager.isActualTransactionActive()) {
+            return getList(query, SQLConsumer.setParameters(params), entity, columns);
+        }
+
+        QueryKey key = new QueryKey(query, params, entity, columns);
+        try {
+            Result<List<E>> result = (Result<List<E>>) SHARED_QUERIES.execute(Arrays.asList(key, version, ReadWriteRoutingDataSource.isReadScope()), () -> getList(query, SQLConsumer.setParameters(params), entity, columns), timeout,
+                    TimeUnit.MILLISECONDS);
+            return result.getResult() && result.getData() != null ? new Result<>(new ArrayList<>(result.getData()), true) : result;
+        } catch (TimeoutException e) {
+            logger.warn("동일한 조회 요청의 결과를 기다리는 시간이 초과되었습니다. timeout={}(ms), {}", timeout, key);
+            return new Result<List<E>>().setMessage("동일한 조회 요청의 결과를 기다리는 시간이 초과되었습니다. timeout=%s(ms)", timeout);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new Result<List<E>>().setMessage("동일한 조회 요청의 결과를 기다리는 도중에 중단되었습니다.");
+        }
+    }
+
     /**
      * 데이터 1개 요청쿼리를 처리합니다. <br>
      * 
@@ -1536,6 +2035,49 @@ public abstract class AbstractGenericRetrieve implements IGenericDao {
         return this.querySource.getMessage(name, args, defaultMessage, locale);
     }
 
+    /**
+     * 쿼리 1개에 설정할 수 있는 최대 파라미터 개수를 제공합니다. <br>
+     * 여러 개의 데이터를 1개의 쿼리로 추가하는 경우 분할 크기는 이 값을 넘지 않도록 조정됩니다. DBMS(JDBC Driver)별로 값이 다른 경우 재정의합니다.
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     */
+    protected int getMaxBindParameters() {
+        return DEFAULT_MAX_BIND_PARAMETERS;
+    }
+
+    /**
+     * 'IN' 목록(<code>{column} IN ( ?, ?, ... )</code>)에 설정할 수 있는 최대 값 개수를 제공합니다. <br>
+     * 여러 개의 값을 'IN' 목록으로 조회하는 경우 이 값을 넘지 않도록 나누어 조회합니다. 최대 파라미터 개수({@link #getMaxBindParameters()})와 별도로 DBMS가 'IN' 목록 크기를
+     * 제한하는 경우 재정의합니다.
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @return 기본값: {@link #getMaxBindParameters()}
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     */
+    protected int getMaxInListSize() {
+        return getMaxBindParameters();
+    }
+
     /**
      * @see open.commons.spring.jdbc.dao.IGenericDao#getQuerySource()
      */
@@ -1544,6 +2086,49 @@ public abstract class AbstractGenericRetrieve implements IGenericDao {
         return this.querySource;
     }
 
+    /**
+     * 동시에 요청된 동일한 조회 요청을 1번만 실행하는 경우, 실행 중인 조회 결과를 기다리는 시간(milliseconds)을 제공합니다. <br>
+     * 0보다 큰 경우 {@link #getListShared(String, Object[], Class, String...)}에서 동일한 조회 요청을 1번만 실행합니다.
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @return 기본값: 0 (사용 안 함)
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     */
+    protected long getSingleFlightTimeout() {
+        return 0;
+    }
+
+    /**
+     * 대용량 데이터 조회({@link #stream(String, SQLConsumer, Class, String...)},
+     * {@link #forEach(String, SQLConsumer, Class, SQLConsumer, String...)})시 사용하는 Fetch Size 를 제공합니다. <br>
+     * DBMS(JDBC Driver)별로 Streaming 방식으로 동작하기 위한 값이 다른 경우 재정의합니다.
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     */
+    protected int getStreamFetchSize() {
+        return DEFAULT_STREAM_FETCH_SIZE;
+    }
+
     /**
      * 특정컬럼 데이터를 조회합니다. <br>
      * <font color="red"><b>DB 조회 결과 데이터 타입과 반환데이터 타입이 서로 일치하는 것이 확실하지 않은 경우,
@@ -1923,6 +2508,69 @@ public abstract class AbstractGenericRetrieve implements IGenericDao {
         return parameters == null ? new Object[0] : parameters;
     }
 
+    /**
+     * 대용량 데이터 조회를 위한 {@link StreamCursor}를 생성합니다. <br>
+     * <ul>
+     * <li>{@link ResultSet#TYPE_FORWARD_ONLY}, {@link ResultSet#CONCUR_READ_ONLY}
+     * <li>Fetch Size: {@link #getStreamFetchSize()}
+     * <li>'auto-commit' 상태인 경우 해제 (PostgreSQL은 'auto-commit' 상태에서는 Fetch Size가 적용되지 않음). 자원 반환시 원래 상태로 복원.
+     * </ul>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * 2026. 10. 18.        박준홍         조회 요청 범위에서 실행 (ReadWriteRoutingDataSource)
+     * </pre>
+     *
+     * @param <E>
+     * @param query
+     *            데이터 조회 요청쿼리
+     * @param setter
+     *            요청쿼리 파라미터 설정 객체
+     * @param entity
+     *            결과 데이타 타입
+     * @param columns
+     *            요청쿼리 처리 결과에서 필요한 컬럼이름.
+     * @return
+     * @throws SQLException
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     */
+    private <E> StreamCursor<E> openCursor(@NotNull String query, SQLConsumer<PreparedStatement> setter, @NotNull Class<E> entity, String... columns) throws SQLException {
+        Object ds = getDataSource();
+        if (!(ds instanceof DataSource)) {
+            throw new UnsupportedOperationException(String.format("단일 DataSource 에서만 지원합니다. dataSource=%s", ds));
+        }
+
+        StreamCursor<E> cursor = new StreamCursor<>((DataSource) ds);
+        // 실제 Connection은 처음 사용할 때 생성될 수 있으므로 조회 쿼리 실행까지 조회 요청 범위를 유지함.
+        try (ReadScope scope = ReadWriteRoutingDataSource.read()) {
+            Connection con = cursor.connection = DataSourceUtils.getConnection(cursor.dataSource);
+            if (con.getAutoCommit()) {
+                con.setAutoCommit(false);
+                cursor.restoreAutoCommit = true;
+            }
+
+            PreparedStatement pstmt = cursor.statement = con.prepareStatement(query, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            pstmt.setFetchSize(getStreamFetchSize());
+            if (setter != null) {
+                setter.accept(pstmt);
+            }
+
+            ResultSet rs = cursor.resultSet = pstmt.executeQuery();
+            cursor.creator = findCreator(rs, entity, columns);
+
+            return cursor;
+        } catch (SQLException | RuntimeException e) {
+            cursor.close();
+            throw e;
+        }
+    }
+
     /**
      * 쿼리 정보 객체를 설정합니다. <br>
      * 
@@ -1941,6 +2589,71 @@ public abstract class AbstractGenericRetrieve implements IGenericDao {
      */
     public abstract void setQuerySource(@NotNull ReloadableResourceBundleMessageSource querySource);
 
+    /**
+     * 데이터 조회 결과를 {@link List}로 생성하지 않고, {@link Stream}으로 제공합니다. <br>
+     * 제공된 {@link Stream}은 {@link Connection}을 점유하고 있기 때문에 반드시 {@link Stream#close()}를 호출해야 합니다. (try-with-resources 권장)<br>
+     * 모든 데이터를 읽은 경우에는 자동으로 자원을 반환합니다.
+     * 
+     * <pre>
+     * try (Stream&lt;Entity&gt; stream = dao.stream(query, setter, Entity.class)) {
+     *     stream.forEach(...);
+     * }
+     * </pre>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @param <E>
+     * @param query
+     *            데이터 조회 요청쿼리
+     * @param setter
+     *            요청쿼리 파라미터 설정 객체
+     * @param entity
+     *            결과 데이타 타입
+     * @param columns
+     *            요청쿼리 처리 결과에서 필요한 컬럼이름.
+     *            <li><b><code>entity</code></b> 모델의 메소드에 적용된 {@link ColumnDef#name()} 값들.
+     * @return
+     * @throws RuntimeDataAccessException
+     *             쿼리 실행 또는 데이터 생성 중 오류가 발생한 경우
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     */
+    public <E> Stream<E> stream(@NotNull String query, SQLConsumer<PreparedStatement> setter, @NotNull Class<E> entity, String... columns)
+            throws RuntimeDataAccessException {
+        final StreamCursor<E> cursor;
+        try {
+            cursor = openCursor(query, setter, entity, columns);
+        } catch (SQLException e) {
+            throw new RuntimeDataAccessException(e.getMessage(), e);
+        }
+
+        Spliterator<E> spliterator = new Spliterators.AbstractSpliterator<E>(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL) {
+            @Override
+            public boolean tryAdvance(Consumer<? super E> action) {
+                try {
+                    E data = cursor.next();
+                    if (data == null) {
+                        return false;
+                    }
+                    action.accept(data);
+                    return true;
+                } catch (SQLException e) {
+                    cursor.close();
+                    throw new RuntimeDataAccessException(e.getMessage(), e);
+                }
+            }
+        };
+
+        return StreamSupport.stream(spliterator, false).onClose(cursor::close);
+    }
+
     /**
      * 특정 쿼리에 대한 개수를 제공하는 쿼리를 제공합니다. <br>
      * 
@@ -1950,6 +2663,7 @@ public abstract class AbstractGenericRetrieve implements IGenericDao {
      * ------------------------------------------
      * 2020. 1. 22.		박준홍			최초 작성
      * 2022. 8. 2.      박준홍     테이블 동적 alias 생성시 오류 수정
+     * 2026. 10. 18.        박준홍         동일한 쿼리 제공 및 재사용, 단순 쿼리는 'SELECT count(*)'로 변환 ({@link CountQueryFactory})
      * </pre>
      *
      * @param query
@@ -1960,14 +2674,84 @@ public abstract class AbstractGenericRetrieve implements IGenericDao {
      * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
      */
     public String wrapQueryForCount(@NotNull String query) {
-        StringBuffer queryBuffer = new StringBuffer("SELECT count(*) AS count FROM (");
-        queryBuffer.append(' ');
-        queryBuffer.append(query);
-        queryBuffer.append(" ) tbl");
-        queryBuffer.append(UUID.randomUUID().toString().replace("-", ""));
-        queryBuffer.append("");
+        return COUNT_QUERIES.get(query);
+    }
 
-        return queryBuffer.toString();
+    /**
+     * 대용량 데이터 조회시 사용하는 자원({@link Connection}, {@link PreparedStatement}, {@link ResultSet})을 관리하는 클래스.
+     * 
+     * @param <E>
+     *            결과 데이타 타입
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     */
+    private class StreamCursor<E> implements AutoCloseable {
+
+        private final DataSource dataSource;
+        private final AtomicBoolean closed = new AtomicBoolean(false);
+        private Connection connection;
+        private boolean restoreAutoCommit;
+        private PreparedStatement statement;
+        private ResultSet resultSet;
+        private SQLBiFunction<ResultSet, Integer, E> creator;
+        private int rowNum = 1;
+
+        private StreamCursor(DataSource dataSource) {
+            this.dataSource = dataSource;
+        }
+
+        /**
+         * @see java.lang.AutoCloseable#close()
+         */
+        @Override
+        public void close() {
+            if (!this.closed.compareAndSet(false, true)) {
+                return;
+            }
+
+            closeQuietly(this.resultSet);
+            closeQuietly(this.statement);
+
+            if (this.connection != null) {
+                if (this.restoreAutoCommit) {
+                    try {
+                        this.connection.commit();
+                        this.connection.setAutoCommit(true);
+                    } catch (SQLException e) {
+                        logger.warn("Fail to restore 'auto-commit'. con={}", this.connection, e);
+                    }
+                }
+                DataSourceUtils.releaseConnection(this.connection, this.dataSource);
+            }
+        }
+
+        private void closeQuietly(AutoCloseable resource) {
+            if (resource == null) {
+                return;
+            }
+            try {
+                resource.close();
+            } catch (Exception e) {
+                logger.trace("Fail to close a resource. resource={}", resource, e);
+            }
+        }
+
+        /**
+         * 다음 데이터를 제공합니다. 더 이상 데이터가 없는 경우 자원을 반환하고 <code>null</code>을 제공합니다.
+         */
+        private E next() throws SQLException {
+            if (this.closed.get()) {
+                return null;
+            }
+
+            if (!this.resultSet.next()) {
+                close();
+                return null;
+            }
+
+            return this.creator.apply(this.resultSet, this.rowNum++);
+        }
     }
 
     /**
@@ -27,9 +27,28 @@
 package open.commons.spring.jdbc.dao;
 
 import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 
 import javax.sql.DataSource;
@@ -37,17 +56,28 @@ import javax.validation.constraints.NotEmpty;
 import javax.validation.constraints.NotNull;
 
 import org.springframework.dao.DataAccessException;
+import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.dao.IncorrectResultSizeDataAccessException;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.datasource.DataSourceUtils;
 import org.springframework.jdbc.datasource.TransactionAwareDataSourceProxy;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.util.Assert;
 import org.springframework.validation.annotation.Validated;
 
+import open.commons.core.Result;
 import open.commons.core.TwoValueObject;
+import open.commons.core.annotation.ColumnValue;
+import open.commons.core.function.SQLConsumer;
 import open.commons.core.function.SQLFunction;
+import open.commons.core.test.StopWatch;
+import open.commons.spring.jdbc.dao.dto.CountDTO;
+import open.commons.spring.jdbc.view.EntityMetadata;
 
 /**
- * 여러 개의 DBMS에 동일한 작업(SQL)를 수행하는 기능을 지원.
+ * 여러 개의 DBMS에 동일한 작업(SQL)를 수행하는 기능을 지원.<br>
+ * 동시 실행(Scatter-Gather)은 작업 쓰레드에서 {@link DataSource}별로 별도의 {@link Connection}을 사용하므로 호출한 쓰레드의 트랜잭션에 참여할 수 없습니다. 따라서 트랜잭션이
+ * 진행 중인 경우({@link TransactionSynchronizationManager#isActualTransactionActive()}) 동시 실행을 사용하지 않습니다.
  * 
  * @since 2020. 4. 15.
  * @version
@@ -56,8 +86,48 @@ import open.commons.core.function.SQLFunction;
 @Validated
 public abstract class AbstractMultiDataSourceDao extends AbstractGenericDao {
 
+    /** 트랜잭션이 진행 중인 경우 동시 실행 오류 메시지 */
+    private static final String MSG_SCATTER_GATHER_IN_TRANSACTION = "트랜잭션이 진행 중인 경우 모든 DataSource 동시 실행(Scatter-Gather)을 지원하지 않습니다.";
+
     protected Collection<DataSource> dataSources;
 
+    /**
+     * 모든 {@link DataSource}에 동시에 작업을 실행하는 객체. <br>
+     * 설정된 경우 {@link #execute(SQLFunction)}는 모든 {@link DataSource}에 동시에 작업을 실행하고 결과를 취합합니다.
+     * 
+     * @since 2026. 10. 18.
+     * @see #setScatterGatherExecutor(Executor)
+     */
+    private Executor scatterGatherExecutor;
+
+    /**
+     * Shard Key에 해당하는 {@link DataSource}를 결정하는 객체
+     * 
+     * @since 2026. 10. 18.
+     * @see #setShardRouter(IShardRouter)
+     */
+    private IShardRouter shardRouter;
+    /**
+     * 현재 쓰레드에서 작업을 실행할 {@link DataSource}.
+     * 
+     * @since 2026. 10. 18.
+     * @see #onShard(Object, Supplier)
+     */
+    private final ThreadLocal<DataSource> boundShard = new ThreadLocal<>();
+    /**
+     * 현재 쓰레드에서 데이터 1개 조회를 실행 중인지 여부. 동시 실행(Scatter-Gather)을 사용하지 않습니다.
+     * 
+     * @since 2026. 10. 18.
+     * @see #getObject(String, SQLConsumer, Class, boolean, String...)
+     */
+    private final ThreadLocal<Boolean> singleRowRead = new ThreadLocal<>();
+    /**
+     * Shard Key 추출에 사용하는 데이터 타입 정보
+     * 
+     * @since 2026. 10. 18.
+     */
+    private final ConcurrentMap<Class<?>, EntityMetadata<?>> shardKeyMetadata = new ConcurrentHashMap<>();
+
     /**
      * <br>
      * 
@@ -84,12 +154,38 @@ public abstract class AbstractMultiDataSourceDao extends AbstractGenericDao {
     }
 
     /**
+     * 모든 {@link DataSource}에 작업을 실행합니다. <br>
+     * {@link #setScatterGatherExecutor(Executor)}가 설정된 경우 모든 {@link DataSource}에 동시에 작업을 실행하고 결과를 취합합니다.
+     * ({@link #mergeResults(List)})<br>
+     * 조회 결과는 {@link DataSource} 순서대로 연결되므로, 'ORDER BY', 'LIMIT'을 전체 결과에 적용하려면
+     * {@link #getListMerged(String, SQLConsumer, Class, Comparator, int, String...)}를 사용해야 합니다. 데이터 1개 조회
+     * ({@link #getObject(String, SQLConsumer, Class, boolean, String...)})는 동시에 실행하지 않습니다.<br>
+     * {@link #onShard(Object, Supplier)}를 통해 실행하는 경우 Shard Key에 해당하는 {@link DataSource}에만 작업을 실행합니다.<br>
+     * 트랜잭션이 진행 중인 경우 동시에 실행하지 않고 호출한 쓰레드에서 {@link DataSource} 순서대로 실행합니다.
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         동시 실행(Scatter-Gather) 지원
+     * 2026. 10. 18.        박준홍         Shard 지정 실행 지원
+     * 2026. 10. 18.        박준홍         데이터 1개 조회는 동시 실행에서 제외
+     * 2026. 10. 18.        박준홍         트랜잭션이 진행 중인 경우 동시 실행에서 제외
+     * </pre>
+     * 
      * @see open.commons.spring.jdbc.dao.AbstractGenericRetrieve#execute(open.commons.core.function.SQLFunction)
      */
     @Override
     protected <R> R execute(@NotNull SQLFunction<Connection, R> act) throws SQLException {
 
-        Collection<DataSource> colDataSources = getDataSource();
+        DataSource shard = this.boundShard.get();
+        if (shard == null && isScatterGather()) {
+            List<NodeResult<R>> results = scatterGather(act, this.scatterGatherExecutor);
+            throwIfFailed(results);
+            return mergeResults(results);
+        }
+
+        Collection<DataSource> colDataSources = shard != null ? Collections.singletonList(shard) : getDataSource();
         ArrayList<TwoValueObject<Connection, DataSource>> cons = new ArrayList<>();
 
         Connection con = null;
@@ -144,6 +240,218 @@ public abstract class AbstractMultiDataSourceDao extends AbstractGenericDao {
         return result;
     }
 
+    /**
+     * 데이터를 Shard 별로 나누어 동시에 변경합니다. <br>
+     * 데이터의 Shard Key는 {@link ColumnValue#primaryKey()}로 설정된 컬럼의 값입니다. ({@link #getShardKey(Object)})
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @param <E>
+     *            데이터 타입
+     * @param data
+     *            변경할 데이터
+     * @param action
+     *            Shard 별 데이터 변경 함수. (예: <code>list -&gt; executeUpdate(list, dataSetter, partitionSize, headerQuery, valueQuery)</code>)
+     * @return
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     * 
+     * @see #executeUpdateByShard(List, Function, Function)
+     */
+    public <E> Result<Integer> executeUpdateByShard(@NotNull List<E> data, @NotNull Function<List<E>, Result<Integer>> action) {
+        return executeUpdateByShard(data, this::getShardKey, action);
+    }
+
+    /**
+     * 데이터를 Shard 별로 나누어 동시에 변경합니다. <br>
+     * Shard 별로 별도의 트랜잭션에서 실행되므로, 실패한 경우 다른 Shard의 변경 내용은 유지될 수 있습니다. 호출한 쓰레드의 트랜잭션에 참여할 수 없으므로, 트랜잭션이 진행 중인 경우
+     * 실행하지 않고 실패 결과를 제공합니다.
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * 2026. 10. 18.        박준홍         트랜잭션이 진행 중인 경우 실행하지 않음
+     * </pre>
+     *
+     * @param <E>
+     *            데이터 타입
+     * @param data
+     *            변경할 데이터
+     * @param shardKey
+     *            Shard Key 제공 함수
+     * @param action
+     *            Shard 별 데이터 변경 함수. (예: <code>list -&gt; executeUpdate(list, dataSetter, partitionSize, headerQuery, valueQuery)</code>)
+     * @return 실패한 Shard가 있는 경우 Shard 별 오류 메시지. 트랜잭션이 진행 중인 경우 실패.
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     * 
+     * @see #getScatterGatherExecutor()
+     */
+    public <E> Result<Integer> executeUpdateByShard(@NotNull List<E> data, @NotNull Function<E, Object> shardKey, @NotNull Function<List<E>, Result<Integer>> action) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return new Result<Integer>().setMessage(MSG_SCATTER_GATHER_IN_TRANSACTION);
+        }
+
+        List<DataSource> colDataSources = getDataSource();
+        IShardRouter router = getShardRouter();
+
+        // #1. Shard 별 데이터 분류
+        Map<Integer, List<E>> groups = new TreeMap<>();
+        for (E datum : data) {
+            groups.computeIfAbsent(router.route(shardKey.apply(datum), colDataSources.size()), k -> new ArrayList<>()).add(datum);
+        }
+
+        // #2. Shard 별 동시 실행
+        Executor executor = getScatterGatherExecutor();
+        List<CompletableFuture<NodeResult<Integer>>> futures = new ArrayList<>();
+        groups.forEach((index, list) -> {
+            DataSource ds = colDataSources.get(index);
+            futures.add(CompletableFuture.supplyAsync(() -> {
+                try {
+                    Result<Integer> r = runOn(ds, () -> action.apply(list));
+                    return r.getResult() //
+                            ? new NodeResult<Integer>(index, ds, r.getData(), null) //
+                            : new NodeResult<Integer>(index, ds, null, new SQLException(r.getMessage()));
+                } catch (RuntimeException e) {
+                    logger.warn("Fail to execute query. datasource[{}]={}", index, ds, e);
+                    return new NodeResult<Integer>(index, ds, null, e);
+                }
+            }, executor));
+        });
+
+        List<NodeResult<Integer>> results = futures.stream().map(CompletableFuture::join).collect(Collectors.toList());
+
+        String errors = getErrorMessage(results);
+        if (errors != null) {
+            return new Result<Integer>().setMessage(errors);
+        }
+
+        return new Result<>(results.stream().mapToInt(r -> r.getData() != null ? r.getData() : 0).sum(), true);
+    }
+
+    /**
+     * 모든 {@link DataSource}에서 데이터를 동시에 조회하고 취합합니다. <br>
+     * 각 {@link DataSource}의 조회 결과는 <code>order</code> 기준으로 정렬되어 있어야 하며(예: <code>order</code>와 동일한 'ORDER BY' 구문), 정렬된 결과를
+     * 병합(k-way merge)하여 전체 결과를 정렬합니다. 'LIMIT'이 포함된 쿼리는 <code>limit</code>을 설정하여 전체 결과에 다시 적용할 수 있습니다.<br>
+     * 호출한 쓰레드의 트랜잭션에 참여할 수 없으므로, 트랜잭션이 진행 중인 경우 실행하지 않고 실패 결과를 제공합니다.
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * 2026. 10. 18.        박준홍         전체 정렬 대신 {@link DataSource}별 정렬 결과 병합(k-way merge) 적용
+     * 2026. 10. 18.        박준홍         트랜잭션이 진행 중인 경우 실행하지 않음
+     * </pre>
+     *
+     * @param <E>
+     *            조회 데이터 타입
+     * @param query
+     *            조회 쿼리
+     * @param setter
+     *            조회 쿼리 파라미터 설정 객체
+     * @param entity
+     *            조회 데이터 타입
+     * @param order
+     *            정렬 기준. <code>null</code>인 경우 {@link DataSource} 순서대로 연결
+     * @param limit
+     *            최대 데이터 개수. 0 이하인 경우 제한하지 않음.
+     * @param columns
+     *            조회 결과에서 필요한 컬럼이름.
+     * @return 실패한 {@link DataSource}가 있는 경우 {@link DataSource}별 오류 메시지. 트랜잭션이 진행 중인 경우 실패.
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     * 
+     * @see #getScatterGatherExecutor()
+     */
+    public <E> Result<List<E>> getListMerged(@NotNull String query, SQLConsumer<PreparedStatement> setter, @NotNull Class<E> entity, Comparator<? super E> order, int limit,
+            String... columns) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return new Result<List<E>>().setMessage(MSG_SCATTER_GATHER_IN_TRANSACTION);
+        }
+
+        List<NodeResult<List<E>>> results = scatterGatherList(query, setter, entity, columns);
+
+        String errors = getErrorMessage(results);
+        if (errors != null) {
+            return new Result<List<E>>().setMessage(errors);
+        }
+
+        List<List<E>> lists = results.stream().map(NodeResult::getData).collect(Collectors.toList());
+        int max = limit > 0 ? limit : Integer.MAX_VALUE;
+
+        return new Result<>(order != null ? mergeSorted(lists, order, max) : concat(lists, max), true);
+    }
+
+    private static <E> List<E> concat(List<List<E>> lists, int limit) {
+        List<E> data = new ArrayList<>();
+        for (List<E> list : lists) {
+            if (data.size() + list.size() > limit) {
+                data.addAll(list.subList(0, limit - data.size()));
+                break;
+            }
+            data.addAll(list);
+        }
+        return data;
+    }
+
+    private static <R> String getErrorMessage(List<NodeResult<R>> results) {
+        String errors = results.stream() //
+                .filter(NodeResult::isFailed) //
+                .map(r -> String.format("datasource[%s]: %s", r.getIndex(), r.getError().getMessage())) //
+                .collect(Collectors.joining(", "));
+        return errors.isEmpty() ? null : errors;
+    }
+
+    private Result<CountDTO> getCountMerged(String query, SQLConsumer<PreparedStatement> setter, boolean required) {
+        List<NodeResult<List<CountDTO>>> results = scatterGatherList(query, setter, CountDTO.class);
+
+        String errors = getErrorMessage(results);
+        if (errors != null) {
+            return new Result<CountDTO>().setMessage(errors);
+        }
+
+        int rows = 0;
+        long sum = 0;
+        for (NodeResult<List<CountDTO>> r : results) {
+            if (r.getData().size() > 1) {
+                throw new IncorrectResultSizeDataAccessException(1, r.getData().size());
+            }
+            for (CountDTO count : r.getData()) {
+                sum += count.getCount();
+                rows++;
+            }
+        }
+
+        if (rows < 1) {
+            if (required) {
+                throw new EmptyResultDataAccessException(1);
+            }
+            return new Result<CountDTO>().andTrue();
+        }
+
+        if (sum > Integer.MAX_VALUE) {
+            return new Result<CountDTO>().setMessage("데이터 개수 합계가 최대값(%,d)을 초과하였습니다. 합계=%,d", Integer.MAX_VALUE, sum);
+        }
+
+        CountDTO count = new CountDTO();
+        count.setCount((int) sum);
+        return new Result<>(count, true);
+    }
+
     /**
      *
      * @since 2025. 6. 11.
@@ -183,6 +491,441 @@ public abstract class AbstractMultiDataSourceDao extends AbstractGenericDao {
         return new JdbcTemplate(dataSource);
     }
 
+    /**
+     * 동시 실행(Scatter-Gather)이 설정된 경우 데이터 1개 조회는 다음과 같이 처리합니다. <br>
+     * <ul>
+     * <li>데이터 개수({@link CountDTO}): 모든 {@link DataSource}에서 동시에 조회한 후 합계를 제공합니다. 합계가 {@link Integer#MAX_VALUE}를 초과하는 경우 실패 결과를
+     * 제공합니다.
+     * <li>그 외: 동시에 실행하지 않고 {@link DataSource} 순서대로 실행하며, 마지막 {@link DataSource}의 조회 결과를 제공합니다.
+     * </ul>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * 2026. 10. 18.        박준홍         데이터 개수 합계가 int 범위를 초과하는 경우 실패
+     * </pre>
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     *
+     * @see open.commons.spring.jdbc.dao.AbstractGenericRetrieve#getObject(java.lang.String, open.commons.core.function.SQLConsumer, java.lang.Class, boolean,
+     *      java.lang.String[])
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> Result<T> getObject(@NotNull String query, SQLConsumer<PreparedStatement> setter, @NotNull Class<T> entity, boolean required, String... columns)
+            throws EmptyResultDataAccessException, IncorrectResultSizeDataAccessException {
+        if (this.boundShard.get() != null || !isScatterGather()) {
+            return super.getObject(query, setter, entity, required, columns);
+        } else if (CountDTO.class.equals(entity)) {
+            return (Result<T>) getCountMerged(query, setter, required);
+        }
+
+        this.singleRowRead.set(Boolean.TRUE);
+        try {
+            return super.getObject(query, setter, entity, required, columns);
+        } finally {
+            this.singleRowRead.remove();
+        }
+    }
+
+    /**
+     * 모든 {@link DataSource}에 동시에 작업을 실행하는 객체를 제공합니다. <br>
+     * 설정되지 않은 경우 {@link #getAsyncExecutor()}를 제공합니다.
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     */
+    protected Executor getScatterGatherExecutor() {
+        return this.scatterGatherExecutor != null ? this.scatterGatherExecutor : getAsyncExecutor();
+    }
+
+    private boolean isScatterGather() {
+        // 작업 쓰레드는 호출한 쓰레드의 트랜잭션에 참여할 수 없음
+        return this.scatterGatherExecutor != null && this.singleRowRead.get() == null && !TransactionSynchronizationManager.isActualTransactionActive();
+    }
+
+    /**
+     * 정렬된 목록들을 병합(k-way merge)합니다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @param <E>
+     *            데이터 타입
+     * @param lists
+     *            <code>order</code> 기준으로 정렬된 목록
+     * @param order
+     *            정렬 기준
+     * @param limit
+     *            최대 데이터 개수
+     * @return
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     */
+    private static <E> List<E> mergeSorted(List<List<E>> lists, Comparator<? super E> order, int limit) {
+        // int[]: { 목록 위치, 데이터 위치 }, 같은 값인 경우 목록 순서 유지
+        PriorityQueue<int[]> heads = new PriorityQueue<>((a, b) -> {
+            int c = order.compare(lists.get(a[0]).get(a[1]), lists.get(b[0]).get(b[1]));
+            return c != 0 ? c : Integer.compare(a[0], b[0]);
+        });
+        for (int i = 0; i < lists.size(); i++) {
+            if (!lists.get(i).isEmpty()) {
+                heads.add(new int[] { i, 0 });
+            }
+        }
+
+        List<E> data = new ArrayList<>();
+        int[] head = null;
+        while (data.size() < limit && (head = heads.poll()) != null) {
+            data.add(lists.get(head[0]).get(head[1]));
+            if (++head[1] < lists.get(head[0]).size()) {
+                heads.add(head);
+            }
+        }
+
+        return data;
+    }
+
+    /**
+     * {@link DataSource}별 작업 결과를 취합합니다. <br>
+     * <ul>
+     * <li>{@link Collection}: {@link DataSource} 순서대로 연결한 {@link List}. ('ORDER BY', 'LIMIT'은 다시 적용되지 않음)
+     * <li>{@link Integer}, {@link Long}: 합계
+     * <li>그 외: 마지막 {@link DataSource}의 결과
+     * </ul>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @param <R>
+     *            결과 타입
+     * @param results
+     *            {@link DataSource}별 작업 결과
+     * @return
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     */
+    @SuppressWarnings("unchecked")
+    protected <R> R mergeResults(@NotNull List<NodeResult<R>> results) {
+        R last = null;
+        List<Object> list = null;
+        Long sum = null;
+        boolean intSum = true;
+
+        for (NodeResult<R> r : results) {
+            R data = r.getData();
+            if (data == null) {
+                continue;
+            }
+            last = data;
+
+            if (data instanceof Collection) {
+                if (list == null) {
+                    list = new ArrayList<>();
+                }
+                list.addAll((Collection<?>) data);
+            } else if (data instanceof Integer || data instanceof Long) {
+                sum = (sum != null ? sum : 0L) + ((Number) data).longValue();
+                intSum &= data instanceof Integer;
+            }
+        }
+
+        if (list != null) {
+            return (R) list;
+        } else if (sum != null) {
+            return (R) (intSum ? (Object) sum.intValue() : (Object) sum);
+        } else {
+            return last;
+        }
+    }
+
+    /**
+     * Shard Key에 해당하는 {@link DataSource}에만 작업을 실행합니다. <br>
+     * 작업에서 호출하는 조회/변경 기능 ({@link #executeUpdate(String, SQLConsumer)}, {@link #getList(String, SQLConsumer, Class, String...)} 등)은 모두 해당
+     * {@link DataSource}에서 실행됩니다.
+     * 
+     * <pre>
+     * 사용 예)
+     * Result&lt;Integer&gt; r = dao.onShard(user.getId(), () -&gt; dao.executeUpdate(query, setter));
+     * 
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @param <R>
+     *            결과 타입
+     * @param key
+     *            Shard Key. 여러 개의 컬럼으로 구성된 경우 {@link List}
+     * @param task
+     *            작업
+     * @return
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     * 
+     * @see #getShard(Object)
+     */
+    public <R> R onShard(@NotNull Object key, @NotNull Supplier<R> task) {
+        return runOn(getShard(key), task);
+    }
+
+    private <R> R runOn(DataSource shard, Supplier<R> task) {
+        DataSource prev = this.boundShard.get();
+        this.boundShard.set(shard);
+        try {
+            return task.get();
+        } finally {
+            if (prev != null) {
+                this.boundShard.set(prev);
+            } else {
+                this.boundShard.remove();
+            }
+        }
+    }
+
+    private <E> List<NodeResult<List<E>>> scatterGatherList(String query, SQLConsumer<PreparedStatement> setter, Class<E> entity, String... columns) {
+        return scatterGather(con -> {
+            try (PreparedStatement pstmt = con.prepareStatement(query)) {
+                if (setter != null) {
+                    setter.accept(pstmt);
+                }
+                try (ResultSet rs = pstmt.executeQuery()) {
+                    return createObject(rs, entity, columns);
+                }
+            }
+        }, getScatterGatherExecutor());
+    }
+
+    /**
+     * 모든 {@link DataSource}에 동시에 작업을 실행합니다. <br>
+     * 모든 작업이 성공한 경우 commit, 하나라도 실패한 경우 모든 {@link DataSource}를 rollback 합니다. commit, rollback 도중 발생한 오류는
+     * {@link DataSource}별 작업 결과에 포함되며, commit에 실패한 경우 이후 {@link DataSource}는 rollback 합니다. (이미 commit된 {@link DataSource}는 되돌릴 수
+     * 없습니다.)<br>
+     * 작업 등록({@link Executor#execute(Runnable)})에 실패하거나 작업 도중 {@link Error}가 발생한 경우에도 이미 실행된 작업의 {@link Connection}은 rollback 후
+     * 반환됩니다.
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * 2026. 10. 18.        박준홍         commit/rollback 오류 반영, 작업 실패시 Connection 정리, auto-commit 복원
+     * </pre>
+     *
+     * @param <R>
+     *            결과 타입
+     * @param act
+     *            작업
+     * @param executor
+     *            작업 실행 객체
+     * @return {@link DataSource} 순서대로 정렬된 작업 결과. 실패한 경우 {@link NodeResult#getError()}에 오류 정보가 포함됨.
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     */
+    protected <R> List<NodeResult<R>> scatterGather(@NotNull SQLFunction<Connection, R> act, @NotNull Executor executor) {
+        List<DataSource> colDataSources = new ArrayList<>(this.<Collection<DataSource>> getDataSource());
+        Connection[] cons = new Connection[colDataSources.size()];
+        boolean[] autoCommits = new boolean[colDataSources.size()];
+
+        StopWatch watch = new StopWatch();
+        watch.start();
+
+        List<CompletableFuture<NodeResult<R>>> futures = new ArrayList<>();
+        List<NodeResult<R>> results = new ArrayList<>();
+        Throwable fatal = null;
+        boolean submitted = false;
+        try {
+            // #1. 동시 실행
+            for (int i = 0; i < colDataSources.size(); i++) {
+                final int index = i;
+                final DataSource ds = colDataSources.get(i);
+                futures.add(CompletableFuture.supplyAsync(() -> {
+                    try {
+                        Connection con = cons[index] = DataSourceUtils.getConnection(ds);
+                        autoCommits[index] = con.getAutoCommit();
+                        con.setAutoCommit(false);
+                        return new NodeResult<R>(index, ds, act.apply(con), null);
+                    } catch (SQLException | RuntimeException e) {
+                        logger.warn("Fail to execute query. datasource[{}]={}", index, ds, e);
+                        return new NodeResult<R>(index, ds, null, e);
+                    }
+                }, executor));
+            }
+            submitted = true;
+        } finally {
+            // #2. 실행된 작업 완료 대기. (작업 등록 도중 실패한 경우에도 이미 실행된 작업의 Connection을 정리하기 위함)
+            for (int i = 0; i < futures.size(); i++) {
+                try {
+                    results.add(futures.get(i).join());
+                } catch (CompletionException | CancellationException e) {
+                    Throwable cause = e.getCause() != null ? e.getCause() : e;
+                    logger.warn("Fail to execute query. datasource[{}]={}", i, colDataSources.get(i), cause);
+                    if (cause instanceof Error && fatal == null) {
+                        fatal = cause;
+                    }
+                    results.add(new NodeResult<R>(i, colDataSources.get(i), null, cause instanceof Exception ? (Exception) cause : new ExecutionException(cause)));
+                }
+            }
+
+            // #3. commit 또는 rollback. commit에 실패한 경우 이후 DataSource는 rollback
+            boolean failed = !submitted || results.stream().anyMatch(NodeResult::isFailed);
+            for (int i = 0; i < futures.size(); i++) {
+                if (cons[i] == null) {
+                    continue;
+                }
+                try {
+                    if (failed) {
+                        cons[i].rollback();
+                    } else {
+                        cons[i].commit();
+                    }
+                } catch (SQLException e) {
+                    logger.warn("Fail to {}. datasource[{}]={}", failed ? "rollback" : "commit", i, colDataSources.get(i), e);
+                    NodeResult<R> r = results.get(i);
+                    if (r.isFailed()) {
+                        r.getError().addSuppressed(e);
+                    } else {
+                        results.set(i, new NodeResult<R>(i, colDataSources.get(i), null, e));
+                    }
+                    failed = true;
+                } finally {
+                    try {
+                        cons[i].setAutoCommit(autoCommits[i]);
+                    } catch (SQLException e) {
+                        logger.warn("Fail to restore auto-commit. datasource[{}]={}", i, colDataSources.get(i), e);
+                    }
+                    DataSourceUtils.releaseConnection(cons[i], colDataSources.get(i));
+                }
+            }
+
+            watch.stop();
+            logger.debug("datasource.count={}, failed={}, Elapsed.total: {}", cons.length, failed, watch.getAsPretty());
+        }
+
+        if (fatal != null) {
+            throw (Error) fatal;
+        }
+
+        return results;
+    }
+
+    /**
+     * Shard Key에 해당하는 {@link DataSource}를 제공합니다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @param key
+     *            Shard Key. 여러 개의 컬럼으로 구성된 경우 {@link List}
+     * @return
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     */
+    public DataSource getShard(@NotNull Object key) {
+        List<DataSource> colDataSources = getDataSource();
+        return colDataSources.get(getShardRouter().route(key, colDataSources.size()));
+    }
+
+    /**
+     * 데이터의 Shard Key를 제공합니다. <br>
+     * {@link ColumnValue#primaryKey()}로 설정된 컬럼이 1개인 경우 컬럼의 값을, 여러 개인 경우 컬럼 순서대로 정렬된 {@link List}를 제공합니다.
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @param <E>
+     *            데이터 타입
+     * @param data
+     *            데이터
+     * @return
+     * @throws IllegalArgumentException
+     *             {@link ColumnValue#primaryKey()}로 설정된 컬럼이 없는 경우
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     */
+    @SuppressWarnings("unchecked")
+    protected <E> Object getShardKey(@NotNull E data) throws IllegalArgumentException {
+        EntityMetadata<E> metadata = (EntityMetadata<E>) this.shardKeyMetadata.computeIfAbsent(data.getClass(),
+                type -> new EntityMetadata<>(type, UnaryOperator.identity()));
+        List<String> pkColumns = metadata.getPrimaryKeyColumns();
+        if (pkColumns.isEmpty()) {
+            throw new IllegalArgumentException(String.format("Primary Key로 설정된 컬럼이 없습니다. entity=%s", data.getClass()));
+        }
+
+        Object[] values = metadata.getColumnValues(data, pkColumns);
+        return values.length == 1 ? values[0] : Arrays.asList(values);
+    }
+
+    /**
+     * Shard Key에 해당하는 {@link DataSource}를 결정하는 객체를 제공합니다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @return
+     * @throws IllegalStateException
+     *             설정되지 않은 경우
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     * 
+     * @see #setShardRouter(IShardRouter)
+     */
+    protected IShardRouter getShardRouter() throws IllegalStateException {
+        if (this.shardRouter == null) {
+            throw new IllegalStateException("IShardRouter가 설정되지 않았습니다.");
+        }
+        return this.shardRouter;
+    }
+
     /**
      * 여러 개의 {@link DataSource} 객체를 제공한다. <br>
      * 
@@ -201,4 +944,124 @@ public abstract class AbstractMultiDataSourceDao extends AbstractGenericDao {
      * 
      */
     public abstract void setDataSources(@NotNull @NotEmpty Collection<DataSource> dataSources);
+
+    /**
+     * 모든 {@link DataSource}에 동시에 작업을 실행하는 객체를 설정합니다. <br>
+     * 설정하지 않은 경우 {@link #execute(SQLFunction)}는 {@link DataSource}별로 순서대로 실행합니다.
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @param scatterGatherExecutor
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     */
+    public void setScatterGatherExecutor(Executor scatterGatherExecutor) {
+        this.scatterGatherExecutor = scatterGatherExecutor;
+    }
+
+    /**
+     * Shard Key에 해당하는 {@link DataSource}를 결정하는 객체를 설정합니다. <br>
+     * {@link DataSource}의 순서는 설정된 순서({@link #setDataSources(Collection)})와 동일합니다.
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @param shardRouter
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     * 
+     * @see ConsistentHashShardRouter
+     * @see RangeShardRouter
+     */
+    public void setShardRouter(IShardRouter shardRouter) {
+        this.shardRouter = shardRouter;
+    }
+
+    /**
+     * 실패한 {@link DataSource}가 있는 경우 {@link DataSource}별 오류를 포함한 {@link SQLException}을 발생시킵니다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @param results
+     * @throws SQLException
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     */
+    private <R> void throwIfFailed(List<NodeResult<R>> results) throws SQLException {
+        String errors = getErrorMessage(results);
+        if (errors == null) {
+            return;
+        }
+
+        SQLException e = new SQLException(errors);
+        results.stream().filter(NodeResult::isFailed).forEach(r -> e.addSuppressed(r.getError()));
+        throw e;
+    }
+
+    /**
+     * {@link DataSource}별 작업 결과.
+     * 
+     * @param <R>
+     *            결과 타입
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     */
+    public static class NodeResult<R> {
+        /** {@link DataSource} 순서 */
+        private final int index;
+        private final DataSource dataSource;
+        /** 작업 결과 */
+        private final R data;
+        /** 오류 */
+        private final Exception error;
+
+        private NodeResult(int index, DataSource dataSource, R data, Exception error) {
+            this.index = index;
+            this.dataSource = dataSource;
+            this.data = data;
+            this.error = error;
+        }
+
+        public R getData() {
+            return data;
+        }
+
+        public DataSource getDataSource() {
+            return dataSource;
+        }
+
+        public Exception getError() {
+            return error;
+        }
+
+        public int getIndex() {
+            return index;
+        }
+
+        public boolean isFailed() {
+            return error != null;
+        }
+    }
 }
@@ -0,0 +1,268 @@
+/*
+ * Copyright 2026 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/*
+ *
+ * This file is generated under this project, "open-commons-spring-jdbc".
+ *
+ * Date  : 2026. 10. 18. 오후 7:14:05
+ *
+ * Author: parkjunhong77@gmail.com
+ * 
+ */
+
+package open.commons.spring.jdbc.dao;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import javax.validation.constraints.NotNull;
+
+import open.commons.core.Result;
+
+/**
+ * {@link CompletableFuture}를 이용한 비동기 쿼리 실행을 지원하는 클래스.<br>
+ * <ul>
+ * <li>실행 제한 시간이 초과되거나, 취소({@link CompletableFuture#cancel(boolean)})된 경우 실행 중인 {@link java.sql.Statement}를 취소합니다.
+ * <li>분할 조회 결과는 완료된 순서로 확인하며, 실패한 작업이 있는 경우 즉시 실패 처리하고 나머지 작업을 취소합니다.
+ * </ul>
+ *
+ * @since 2026. 10. 18.
+ * @version 0.6.0
+ * @author parkjunhong77@gmail.com
+ */
+public final class AsyncQueries {
+
+    /** 실행 제한 시간 처리 */
+    private static final ScheduledThreadPoolExecutor TIMER;
+
+    static {
+        TIMER = new ScheduledThreadPoolExecutor(1, r -> {
+            Thread t = new Thread(r, "open-commons-jdbc-async-timer");
+            t.setDaemon(true);
+            return t;
+        });
+        TIMER.setRemoveOnCancelPolicy(true);
+    }
+
+    /** 기본 {@link Executor} 쓰레드 개수 */
+    public static final int DEFAULT_POOL_SIZE = Math.max(4, Runtime.getRuntime().availableProcessors());
+    /** 기본 {@link Executor} 대기 작업 개수 */
+    public static final int DEFAULT_QUEUE_CAPACITY = 1024;
+
+    private AsyncQueries() {
+    }
+
+    /**
+     * 비동기 쿼리 실행 전용 기본 {@link Executor}를 제공합니다. <br>
+     * 쿼리 실행은 blocking 작업이므로 {@link java.util.concurrent.ForkJoinPool#commonPool()}을 사용하지 않고, 쓰레드 개수({@link #DEFAULT_POOL_SIZE})와 대기 작업
+     * 개수({@link #DEFAULT_QUEUE_CAPACITY})가 제한된 별도의 {@link Executor}를 최초 사용시 생성하여 공유합니다. 대기 작업 개수를 초과한 경우 작업은
+     * {@link java.util.concurrent.RejectedExecutionException}으로 실패합니다.
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     */
+    public static Executor defaultExecutor() {
+        return DefaultExecutorHolder.EXECUTOR;
+    }
+
+    /**
+     * 분할 조회 결과를 순서대로 취합합니다. <br>
+     * 작업 결과는 완료된 순서로 확인하며, 실패한 작업이 있는 경우 즉시 실패 결과를 제공하고 나머지 작업을 취소합니다. 반환된 객체를 취소하는 경우에도 모든 작업을 취소합니다.
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @param <E>
+     *            조회 데이터 타입
+     * @param futures
+     *            분할 조회 작업
+     * @return
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     */
+    public static <E> CompletableFuture<Result<List<E>>> collect(@NotNull List<CompletableFuture<Result<List<E>>>> futures) {
+        CompletableFuture<Result<List<E>>> collected = new CompletableFuture<>();
+
+        // #1. 실패한 작업 확인
+        for (CompletableFuture<Result<List<E>>> future : futures) {
+            future.whenComplete((r, e) -> {
+                if (e != null) {
+                    collected.complete(new Result<List<E>>().setMessage(getMessage(e)));
+                } else if (!r.getResult() || r.getData() == null) {
+                    collected.complete(new Result<List<E>>().setMessage(r.getMessage()));
+                }
+            });
+        }
+
+        // #2. 모든 작업이 성공한 경우 데이터 취합
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).whenComplete((v, e) -> {
+            if (e != null || collected.isDone()) {
+                return;
+            }
+
+            List<E> data = new ArrayList<>();
+            for (CompletableFuture<Result<List<E>>> future : futures) {
+                data.addAll(future.join().getData());
+            }
+            collected.complete(new Result<>(data, true));
+        });
+
+        // #3. 실패 또는 취소된 경우 나머지 작업 취소
+        collected.whenComplete((r, e) -> {
+            if (e != null || !r.getResult()) {
+                futures.forEach(f -> f.cancel(true));
+            }
+        });
+
+        return collected;
+    }
+
+    private static String getMessage(Throwable e) {
+        Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+        return cause.getMessage() != null ? cause.getMessage() : cause.getClass().getName();
+    }
+
+    /**
+     * 주어진 시간 안에 완료되지 않는 경우 {@link TimeoutException}으로 완료시킵니다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @param <R>
+     *            결과 타입
+     * @param future
+     *            작업
+     * @param timeout
+     *            실행 제한 시간. 0 이하인 경우 제한하지 않음.
+     * @param unit
+     *            실행 제한 시간 단위
+     * @return 전달받은 작업
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     */
+    public static <R> CompletableFuture<R> orTimeout(@NotNull CompletableFuture<R> future, long timeout, @NotNull TimeUnit unit) {
+        if (timeout > 0 && !future.isDone()) {
+            ScheduledFuture<?> timer = TIMER.schedule(() -> future.completeExceptionally(new TimeoutException(String.format("실행 제한 시간(%s %s)을 초과하였습니다.", timeout, unit))),
+                    timeout, unit);
+            future.whenComplete((r, e) -> timer.cancel(false));
+        }
+        return future;
+    }
+
+    /**
+     * 작업을 비동기로 실행합니다. <br>
+     * 작업이 실패하거나, 제한 시간이 초과되거나, 취소된 경우 작업에 전달된 {@link StatementCanceller}에 등록된 {@link java.sql.Statement}를 취소합니다.
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @param <R>
+     *            결과 타입
+     * @param task
+     *            작업. 쿼리 파라미터 설정 함수를 {@link StatementCanceller#wrap(open.commons.core.function.SQLConsumer)}로 등록해야 합니다.
+     * @param timeout
+     *            실행 제한 시간. 0 이하인 경우 제한하지 않음.
+     * @param unit
+     *            실행 제한 시간 단위
+     * @param executor
+     *            작업 실행 객체
+     * @return
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     */
+    public static <R> CompletableFuture<R> supplyAsync(@NotNull Function<StatementCanceller, R> task, long timeout, @NotNull TimeUnit unit, @NotNull Executor executor) {
+        StatementCanceller canceller = new StatementCanceller();
+        CompletableFuture<R> future = new CompletableFuture<>();
+
+        future.whenComplete((r, e) -> {
+            if (e != null) {
+                canceller.cancel();
+            }
+        });
+
+        try {
+            executor.execute(() -> {
+                if (future.isDone()) {
+                    return;
+                }
+                try {
+                    future.complete(task.apply(canceller));
+                } catch (Throwable e) {
+                    future.completeExceptionally(e);
+                }
+            });
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+        }
+
+        return orTimeout(future, timeout, unit);
+    }
+
+    /** 기본 {@link Executor} (최초 사용시 생성) */
+    private static final class DefaultExecutorHolder {
+        private static final ThreadPoolExecutor EXECUTOR;
+
+        static {
+            AtomicInteger seq = new AtomicInteger();
+            EXECUTOR = new ThreadPoolExecutor(DEFAULT_POOL_SIZE, DEFAULT_POOL_SIZE, 60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(DEFAULT_QUEUE_CAPACITY), r -> {
+                Thread t = new Thread(r, "open-commons-jdbc-async-" + seq.incrementAndGet());
+                t.setDaemon(true);
+                return t;
+            });
+            EXECUTOR.allowCoreThreadTimeOut(true);
+        }
+    }
+}
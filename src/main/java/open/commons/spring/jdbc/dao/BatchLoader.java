@@ -0,0 +1,276 @@
+/*
+ * Copyright 2026 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/*
+ *
+ * This file is generated under this project, "open-commons-spring-jdbc".
+ *
+ * Date  : 2026. 10. 18. 오후 11:58:14
+ *
+ * Author: parkjunhong77@gmail.com
+ * 
+ */
+
+package open.commons.spring.jdbc.dao;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+
+/**
+ * 짧은 시간 동안 요청된 여러 개의 식별자를 모아서 1번에 조회하는 클래스.<br>
+ * <ul>
+ * <li>첫 요청 이후 대기 시간이 지나거나, 요청된 식별자 개수가 최대 개수에 도달한 경우 모아둔 식별자를 조회 함수에 전달합니다.
+ * <li>대기 중인 식별자와 동일한 식별자가 요청된 경우 동일한 결과 객체를 제공합니다.
+ * <li>조회 결과에 없는 식별자는 <code>null</code>, 조회 함수가 실패한 경우 모든 요청이 동일한 예외로 완료됩니다.
+ * </ul>
+ *
+ * @param <K>
+ *            식별자 타입. ({@link Object#equals(Object)}, {@link Object#hashCode()} 구현 필요)
+ * @param <V>
+ *            조회 결과 타입
+ *
+ * @since 2026. 10. 18.
+ * @version 0.6.0
+ * @author parkjunhong77@gmail.com
+ */
+public class BatchLoader<K, V> {
+
+    /** 대기 시간 처리 */
+    private static final ScheduledThreadPoolExecutor TIMER;
+
+    static {
+        TIMER = new ScheduledThreadPoolExecutor(1, r -> {
+            Thread t = new Thread(r, "open-commons-jdbc-batch-loader-timer");
+            t.setDaemon(true);
+            return t;
+        });
+        TIMER.setRemoveOnCancelPolicy(true);
+    }
+
+    /** 최대 식별자 개수 */
+    private final int maxBatchSize;
+    /** 대기 시간 (nanoseconds) */
+    private final long windowNanos;
+    /** 조회 함수 */
+    private final Function<List<K>, Map<K, V>> batchFunction;
+    /** 조회 함수 실행 */
+    private final Executor executor;
+
+    /** 대기 중인 요청 */
+    private Map<K, CompletableFuture<V>> pending = new LinkedHashMap<>();
+    /** 대기 시간 작업 */
+    private ScheduledFuture<?> timer;
+
+    /**
+     * <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @param maxBatchSize
+     *            1번에 조회하는 최대 식별자 개수
+     * @param window
+     *            첫 요청 이후 대기 시간. 0 이하인 경우 대기하지 않음.
+     * @param unit
+     *            대기 시간 단위
+     * @param batchFunction
+     *            조회 함수. 식별자 목록을 받아서 식별자별 조회 결과를 제공.
+     * @param executor
+     *            조회 함수를 실행할 {@link Executor}
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     */
+    public BatchLoader(@Min(1) int maxBatchSize, long window, @NotNull TimeUnit unit, @NotNull Function<List<K>, Map<K, V>> batchFunction,
+            @NotNull Executor executor) {
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException(String.format("최대 식별자 개수는 0보다 커야 합니다. 입력값=%s", maxBatchSize));
+        }
+
+        this.maxBatchSize = maxBatchSize;
+        this.windowNanos = Math.max(0, unit.toNanos(window));
+        this.batchFunction = batchFunction;
+        this.executor = executor;
+    }
+
+    /**
+     * 조회 함수 실행 전용 기본 {@link Executor}를 제공합니다. <br>
+     * 조회 함수는 쿼리를 실행하는 blocking 작업이므로 {@link java.util.concurrent.ForkJoinPool#commonPool()}을 사용하지 않고, 쓰레드 개수
+     * ({@link AsyncQueries#DEFAULT_POOL_SIZE})와 대기 작업 개수({@link AsyncQueries#DEFAULT_QUEUE_CAPACITY})가 제한된 별도의 {@link Executor}를 최초 사용시 생성하여
+     * 공유합니다. 비동기 쿼리 실행({@link AsyncQueries#defaultExecutor()})과 쓰레드를 공유하지 않으며, 대기 작업 개수를 초과한 경우 대기 중인 요청은
+     * {@link java.util.concurrent.RejectedExecutionException}으로 완료됩니다.
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     */
+    public static Executor defaultExecutor() {
+        return DefaultExecutorHolder.EXECUTOR;
+    }
+
+    /**
+     * 대기 중인 요청을 즉시 조회합니다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     */
+    public void dispatch() {
+        Map<K, CompletableFuture<V>> batch = null;
+        synchronized (this) {
+            if (this.pending.isEmpty()) {
+                return;
+            }
+            batch = this.pending;
+            this.pending = new LinkedHashMap<>();
+            if (this.timer != null) {
+                this.timer.cancel(false);
+                this.timer = null;
+            }
+        }
+
+        Map<K, CompletableFuture<V>> requests = batch;
+        try {
+            this.executor.execute(() -> run(requests));
+        } catch (RuntimeException e) {
+            requests.values().forEach(f -> f.completeExceptionally(e));
+        }
+    }
+
+    /**
+     * 식별자에 해당하는 데이터를 요청합니다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @param key
+     *            식별자
+     * @return 조회 결과. 조회 결과에 없는 경우 <code>null</code>
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     */
+    public CompletableFuture<V> load(@NotNull K key) {
+        CompletableFuture<V> future = null;
+        boolean full = false;
+        synchronized (this) {
+            future = this.pending.get(key);
+            if (future != null) {
+                return future;
+            }
+
+            future = new CompletableFuture<>();
+            this.pending.put(key, future);
+
+            full = this.pending.size() >= this.maxBatchSize || this.windowNanos < 1;
+            if (!full && this.timer == null) {
+                this.timer = TIMER.schedule(this::dispatch, this.windowNanos, TimeUnit.NANOSECONDS);
+            }
+        }
+
+        if (full) {
+            dispatch();
+        }
+
+        return future;
+    }
+
+    private void run(Map<K, CompletableFuture<V>> requests) {
+        try {
+            Map<K, V> values = this.batchFunction.apply(new ArrayList<>(requests.keySet()));
+            requests.forEach((k, f) -> f.complete(values != null ? values.get(k) : null));
+        } catch (Throwable e) {
+            requests.values().forEach(f -> f.completeExceptionally(e));
+        }
+    }
+
+    /**
+     * 대기 중인 요청 개수를 제공합니다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     */
+    public synchronized int size() {
+        return this.pending.size();
+    }
+
+    /** 기본 {@link Executor} (최초 사용시 생성) */
+    private static final class DefaultExecutorHolder {
+        private static final ThreadPoolExecutor EXECUTOR;
+
+        static {
+            AtomicInteger seq = new AtomicInteger();
+            EXECUTOR = new ThreadPoolExecutor(AsyncQueries.DEFAULT_POOL_SIZE, AsyncQueries.DEFAULT_POOL_SIZE, 60L, TimeUnit.SECONDS,
+                    new LinkedBlockingQueue<>(AsyncQueries.DEFAULT_QUEUE_CAPACITY), r -> {
+                        Thread t = new Thread(r, "open-commons-jdbc-batch-loader-" + seq.incrementAndGet());
+                        t.setDaemon(true);
+                        return t;
+                    });
+            EXECUTOR.allowCoreThreadTimeOut(true);
+        }
+    }
+}
@@ -0,0 +1,180 @@
+/*
+ * Copyright 2026 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/*
+ *
+ * This file is generated under this project, "open-commons-spring-jdbc".
+ *
+ * Date  : 2026. 10. 18. 오후 8:33:47
+ *
+ * Author: parkjunhong77@gmail.com
+ * 
+ */
+
+package open.commons.spring.jdbc.dao;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.TreeMap;
+
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+
+/**
+ * Consistent Hashing을 이용하여 Shard를 결정하는 클래스.<br>
+ * Shard 마다 <code>virtualNodes</code> 개의 가상 노드를 Hash Ring에 배치하므로, Shard가 추가/제거되는 경우 일부 데이터만 다른 Shard로 이동합니다.<br>
+ * Shard Key는 문자열로 변환하여 Hash를 계산하므로, 숫자 타입이 다르더라도 (예: 1, 1L) 동일한 Shard를 제공합니다.
+ *
+ * @since 2026. 10. 18.
+ * @version 0.6.0
+ * @author parkjunhong77@gmail.com
+ */
+public class ConsistentHashShardRouter implements IShardRouter {
+
+    /** 기본 가상 노드 개수 */
+    public static final int DEFAULT_VIRTUAL_NODES = 160;
+
+    /** 여러 개의 컬럼으로 구성된 Shard Key 구분자 */
+    private static final char KEY_SEPARATOR = '\u001f';
+
+    /** Shard 별 가상 노드 개수 */
+    private final int virtualNodes;
+    /** 마지막으로 사용한 Hash Ring */
+    private volatile Ring ring;
+
+    /**
+     * <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     *
+     * @see #DEFAULT_VIRTUAL_NODES
+     */
+    public ConsistentHashShardRouter() {
+        this(DEFAULT_VIRTUAL_NODES);
+    }
+
+    /**
+     * <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @param virtualNodes
+     *            Shard 별 가상 노드 개수
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     */
+    public ConsistentHashShardRouter(@Min(1) int virtualNodes) {
+        if (virtualNodes < 1) {
+            throw new IllegalArgumentException("가상 노드 개수는 0보다 커야 합니다. 입력값=" + virtualNodes);
+        }
+        this.virtualNodes = virtualNodes;
+    }
+
+    private static long hash(String value) {
+        try {
+            byte[] digest = MessageDigest.getInstance("MD5").digest(value.getBytes(StandardCharsets.UTF_8));
+            long h = 0;
+            for (int i = 0; i < 8; i++) {
+                h = (h << 8) | (digest[i] & 0xFF);
+            }
+            return h;
+        } catch (NoSuchAlgorithmException e) {
+            // MD5는 모든 JVM에서 제공됨.
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * @see open.commons.spring.jdbc.dao.IShardRouter#route(java.lang.Object, int)
+     */
+    @Override
+    public int route(@NotNull Object key, @Min(1) int shardCount) {
+        if (shardCount < 1) {
+            throw new IllegalArgumentException("Shard 개수는 0보다 커야 합니다. 입력값=" + shardCount);
+        } else if (shardCount == 1) {
+            return 0;
+        }
+
+        Ring ring = this.ring;
+        if (ring == null || ring.shardCount != shardCount) {
+            this.ring = ring = new Ring(shardCount, this.virtualNodes);
+        }
+
+        Map.Entry<Long, Integer> node = ring.nodes.ceilingEntry(hash(toString(key)));
+        return node != null ? node.getValue() : ring.nodes.firstEntry().getValue();
+    }
+
+    private static String toString(Object key) {
+        if (key instanceof Object[]) {
+            key = Arrays.asList((Object[]) key);
+        }
+
+        if (key instanceof Collection) {
+            StringBuilder buf = new StringBuilder();
+            for (Object k : (Collection<?>) key) {
+                if (buf.length() > 0) {
+                    buf.append(KEY_SEPARATOR);
+                }
+                buf.append(k);
+            }
+            return buf.toString();
+        } else {
+            return String.valueOf(key);
+        }
+    }
+
+    /**
+     * Shard 개수에 따른 Hash Ring.
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     */
+    private static class Ring {
+        private final int shardCount;
+        /** 가상 노드. (key: hash, value: Shard 순서) */
+        private final TreeMap<Long, Integer> nodes = new TreeMap<>();
+
+        private Ring(int shardCount, int virtualNodes) {
+            this.shardCount = shardCount;
+            for (int shard = 0; shard < shardCount; shard++) {
+                for (int v = 0; v < virtualNodes; v++) {
+                    this.nodes.put(hash("shard-" + shard + "#" + v), shard);
+                }
+            }
+        }
+    }
+}
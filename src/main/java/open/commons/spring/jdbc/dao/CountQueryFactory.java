@@ -0,0 +1,269 @@
+/*
+ * Copyright 2026 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/*
+ *
+ * This file is generated under this project, "open-commons-spring-jdbc".
+ *
+ * Date  : 2026. 10. 18. 오후 6:07:51
+ *
+ * Author: parkjunhong77@gmail.com
+ * 
+ */
+
+package open.commons.spring.jdbc.dao;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+
+/**
+ * 조회 쿼리에 대한 데이터 개수 조회 쿼리를 생성/관리하는 클래스.<br>
+ * 동일한 조회 쿼리에 대해서는 항상 동일한 쿼리를 제공하며, 생성된 쿼리는 크기가 제한된 LRU 캐시에 저장됩니다.<br>
+ * <br>
+ * 생성 규칙
+ * <ul>
+ * <li><code>SELECT {컬럼} FROM {테이블} [WHERE ...] [ORDER BY ...]</code> 형태의 단순 쿼리: <code>SELECT count(*) AS count FROM {테이블} [WHERE ...]</code>
+ * <li>그 외 (DISTINCT, GROUP BY, UNION, LIMIT, 하위 쿼리, 문자열 상수, 주석, 파라미터가 있는 'ORDER BY' 등이 포함된 경우):
+ * <code>SELECT count(*) AS count FROM ( {조회 쿼리} ) {고정 alias}</code>
+ * </ul>
+ *
+ * @since 2026. 10. 18.
+ * @version 0.6.0
+ * @author parkjunhong77@gmail.com
+ */
+public class CountQueryFactory {
+
+    /** 기본 캐시 크기 */
+    public static final int DEFAULT_CACHE_SIZE = 512;
+
+    /** 데이터 개수 조회 쿼리 시작 */
+    private static final String COUNT_HEADER = "SELECT count(*) AS count FROM";
+    /** 하위 쿼리 alias */
+    private static final String ALIAS = "tbl_count_source";
+
+    /** <code>SELECT {컬럼} FROM {나머지}</code> */
+    private static final Pattern SIMPLE_SELECT = Pattern.compile("^SELECT\\s+(.+?)\\s+FROM\\s+(.+)$", Pattern.CASE_INSENSITIVE | Pattern.DOTALL);
+    /** 데이터 개수가 달라지거나 단순 변환할 수 없는 키워드 */
+    private static final Pattern UNSUPPORTED_KEYWORDS = Pattern.compile(
+            "\\b(SELECT|DISTINCT|GROUP|HAVING|UNION|INTERSECT|EXCEPT|MINUS|LIMIT|OFFSET|FETCH|TOP|FOR|INTO|WINDOW|QUALIFY)\\b",
+            Pattern.CASE_INSENSITIVE);
+    /** 'ORDER BY' 구문 */
+    private static final Pattern ORDER_BY = Pattern.compile("\\bORDER\\s+BY\\b", Pattern.CASE_INSENSITIVE);
+    /** 쿼리 끝의 'ORDER BY' 구문 */
+    private static final Pattern TRAILING_ORDER_BY = Pattern.compile("\\s+ORDER\\s+BY\\s+[^()]+$", Pattern.CASE_INSENSITIVE);
+
+    /**
+     * 데이터 개수 조회 쿼리 캐시.<br>
+     * <ul>
+     * <li>key: 조회 쿼리
+     * <li>value: 데이터 개수 조회 쿼리
+     * </ul>
+     */
+    private final Map<String, String> queries;
+
+    /**
+     * <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @param cacheSize
+     *            캐시 크기
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     */
+    public CountQueryFactory(@Min(1) int cacheSize) {
+        this.queries = LruMap.synchronizedMap(cacheSize);
+    }
+
+    /**
+     * 캐시를 초기화합니다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     */
+    public void clear() {
+        this.queries.clear();
+    }
+
+    /**
+     * 데이터 개수 조회 쿼리를 생성합니다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @param query
+     *            조회 쿼리
+     * @return
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     */
+    public static String createQuery(@NotNull String query) {
+        String rewritten = rewrite(query);
+        return rewritten != null ? rewritten : wrap(query);
+    }
+
+    /**
+     * 조회 쿼리에 대한 데이터 개수 조회 쿼리를 제공합니다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @param query
+     *            조회 쿼리
+     * @return
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     *
+     * @see #createQuery(String)
+     */
+    public String get(@NotNull String query) {
+        String countQuery = this.queries.get(query);
+        if (countQuery == null) {
+            countQuery = createQuery(query);
+            this.queries.put(query, countQuery);
+        }
+        return countQuery;
+    }
+
+    /**
+     * 단순 쿼리를 <code>SELECT count(*)</code> 쿼리로 변환합니다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * 2026. 10. 18.        박준홍         파라미터가 있는 'ORDER BY' 구문 변환 제외
+     * </pre>
+     *
+     * @param query
+     *            조회 쿼리
+     * @return 변환할 수 없는 경우 <code>null</code>
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     */
+    private static String rewrite(String query) {
+        String trimmed = stripSemicolon(query.trim());
+        // 문자열 상수, 주석에 포함된 키워드/괄호를 구분하지 않기 위해 변환하지 않음.
+        if (trimmed.indexOf('\'') >= 0 || trimmed.contains("--") || trimmed.contains("/*")) {
+            return null;
+        }
+
+        Matcher m = SIMPLE_SELECT.matcher(trimmed);
+        if (!m.matches()) {
+            return null;
+        }
+
+        String columns = m.group(1);
+        String from = m.group(2);
+        // 집계/윈도우 함수 등이 포함된 경우 데이터 개수가 달라질 수 있음.
+        if (columns.indexOf('(') >= 0 || UNSUPPORTED_KEYWORDS.matcher(columns).find() || UNSUPPORTED_KEYWORDS.matcher(from).find()) {
+            return null;
+        }
+
+        Matcher orderBy = TRAILING_ORDER_BY.matcher(from);
+        if (orderBy.find()) {
+            // 'ORDER BY' 구문에 파라미터가 있는 경우 삭제하면 파라미터 개수가 달라짐.
+            if (orderBy.group().indexOf('?') >= 0) {
+                return null;
+            }
+            from = from.substring(0, orderBy.start());
+        }
+        if (ORDER_BY.matcher(from).find()) {
+            return null;
+        }
+
+        return String.join(" ", COUNT_HEADER, from);
+    }
+
+    private static String stripSemicolon(String query) {
+        int end = query.length();
+        while (end > 0 && (query.charAt(end - 1) == ';' || Character.isWhitespace(query.charAt(end - 1)))) {
+            end--;
+        }
+        return query.substring(0, end);
+    }
+
+    /**
+     * 조회 쿼리를 하위 쿼리로 사용하는 데이터 개수 조회 쿼리를 생성합니다. <br>
+     * 조회 쿼리에 포함되지 않은 alias를 사용합니다.
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @param query
+     *            조회 쿼리
+     * @return
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     */
+    private static String wrap(String query) {
+        String lower = query.toLowerCase(Locale.ROOT);
+        String alias = ALIAS;
+        for (int i = 1; lower.contains(alias); i++) {
+            alias = ALIAS + i;
+        }
+
+        StringBuffer queryBuffer = new StringBuffer(COUNT_HEADER);
+        queryBuffer.append(" ( ");
+        queryBuffer.append(stripSemicolon(query.trim()));
+        queryBuffer.append(" ) ");
+        queryBuffer.append(alias);
+
+        return queryBuffer.toString();
+    }
+}
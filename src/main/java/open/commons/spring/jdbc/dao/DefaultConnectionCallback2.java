@@ -94,6 +94,42 @@ public class DefaultConnectionCallback2<T> implements ConnectionCallback<Integer
         return count;
     }
 
+    /**
+     * 쿼리가 동일한 {@link PreparedStatement}를 재사용하여 쿼리를 수행합니다. <br>
+     * {@link PreparedStatement}는 전달받은 {@link PreparedStatementCache}가 닫을 때 함께 닫힙니다.
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @param con
+     *            DB 연결 정보
+     * @param statements
+     *            {@link PreparedStatement} 재사용 객체
+     * @return
+     * @throws SQLException
+     * @throws DataAccessException
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     */
+    public Integer doInConnection(Connection con, PreparedStatementCache statements) throws SQLException, DataAccessException {
+        try {
+            PreparedStatement stmt = statements.get(this.broker);
+
+            broker.set(stmt);
+
+            return stmt.executeUpdate();
+        } catch (Exception e) {
+            logger.warn(e.getLocalizedMessage(), e);
+            throw e;
+        }
+    }
+
     /**
      * 콜백처리 객체를 제공한다. <br>
      * 
@@ -0,0 +1,403 @@
+/*
+ * Copyright 2026 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/*
+ *
+ * This file is generated under this project, "open-commons-spring-jdbc".
+ *
+ * Date  : 2026. 10. 18. 오전 10:12:40
+ *
+ * Author: parkjunhong77@gmail.com
+ * 
+ */
+
+package open.commons.spring.jdbc.dao;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import open.commons.core.annotation.ColumnDef;
+import open.commons.core.function.SQLBiFunction;
+import open.commons.core.utils.SQLUtils;
+
+/**
+ * 조회 결과({@link ResultSet})를 Entity 객체로 변환하는 함수를 생성/관리하는 클래스.<br>
+ *
+ * (Entity 타입, 컬럼 목록, {@link ResultSetMetaData} 구조) 단위로 {@link ColumnDef}가 적용된 메소드를 {@link MethodHandle}로 변환하고 컬럼 위치를 미리
+ * 계산한 함수를 한번만 생성하여 제공합니다.<br>
+ * 생성된 함수는 크기가 제한된 LRU 캐시에 저장되며, 지원하지 않는 데이터 타입이 포함된 경우 {@link SQLUtils#newInstance(Class, ResultSet, String...)}를
+ * 이용합니다.
+ *
+ * <pre>
+ * [개정이력]
+ *      날짜      | 작성자   |   내용
+ * ------------------------------------------
+ * 2026. 10. 18.        박준홍         최초 작성
+ * </pre>
+ *
+ * @since 2026. 10. 18.
+ * @version 0.6.0
+ * @author parkjunhong77@gmail.com
+ */
+public class EntityRowMapperFactory {
+
+    /** 기본 캐시 크기 */
+    public static final int DEFAULT_CACHE_SIZE = 256;
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.publicLookup();
+    /** 기본 생성자 타입: () -> Object */
+    private static final MethodType TYPE_CONSTRUCTOR = MethodType.methodType(Object.class);
+    /** Setter 타입: (Object, Object) -> void */
+    private static final MethodType TYPE_SETTER = MethodType.methodType(void.class, Object.class, Object.class);
+
+    /**
+     * 데이터 타입별 컬럼값 조회 함수.<br>
+     * <ul>
+     * <li>key: 데이터 타입
+     * <li>value: 컬럼값 조회 함수. (ResultSet, 컬럼 위치) -> 컬럼값
+     * </ul>
+     */
+    private static final Map<Class<?>, SQLBiFunction<ResultSet, Integer, Object>> READERS = new HashMap<>();
+
+    static {
+        READERS.put(boolean.class, (rs, i) -> rs.getBoolean(i));
+        READERS.put(byte.class, (rs, i) -> rs.getByte(i));
+        READERS.put(short.class, (rs, i) -> rs.getShort(i));
+        READERS.put(int.class, (rs, i) -> rs.getInt(i));
+        READERS.put(long.class, (rs, i) -> rs.getLong(i));
+        READERS.put(float.class, (rs, i) -> rs.getFloat(i));
+        READERS.put(double.class, (rs, i) -> rs.getDouble(i));
+
+        READERS.put(Boolean.class, (rs, i) -> nullable(rs, rs.getBoolean(i)));
+        READERS.put(Byte.class, (rs, i) -> nullable(rs, rs.getByte(i)));
+        READERS.put(Short.class, (rs, i) -> nullable(rs, rs.getShort(i)));
+        READERS.put(Integer.class, (rs, i) -> nullable(rs, rs.getInt(i)));
+        READERS.put(Long.class, (rs, i) -> nullable(rs, rs.getLong(i)));
+        READERS.put(Float.class, (rs, i) -> nullable(rs, rs.getFloat(i)));
+        READERS.put(Double.class, (rs, i) -> nullable(rs, rs.getDouble(i)));
+
+        READERS.put(String.class, (rs, i) -> rs.getString(i));
+        READERS.put(BigDecimal.class, (rs, i) -> rs.getBigDecimal(i));
+        READERS.put(byte[].class, (rs, i) -> rs.getBytes(i));
+        READERS.put(java.sql.Date.class, (rs, i) -> rs.getDate(i));
+        READERS.put(java.sql.Time.class, (rs, i) -> rs.getTime(i));
+        READERS.put(java.sql.Timestamp.class, (rs, i) -> rs.getTimestamp(i));
+        READERS.put(Object.class, (rs, i) -> rs.getObject(i));
+    }
+
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+
+    /**
+     * 객체 생성 함수 캐시.<br>
+     * <ul>
+     * <li>key: {@link #createKey(Class, ResultSetMetaData, String...)}
+     * <li>value: 객체 생성 함수
+     * </ul>
+     */
+    private final Map<String, SQLBiFunction<ResultSet, Integer, ?>> mappers;
+
+    /**
+     * <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @param cacheSize
+     *            캐시 크기
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     */
+    public EntityRowMapperFactory(@Min(1) int cacheSize) {
+        this.mappers = LruMap.synchronizedMap(cacheSize);
+    }
+
+    /**
+     * 캐시를 초기화합니다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     */
+    public void clear() {
+        this.mappers.clear();
+    }
+
+    /**
+     * 객체 생성 함수를 생성합니다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @param <R>
+     * @param entity
+     *            Entity 타입
+     * @param md
+     *            조회 결과 정보
+     * @param columns
+     *            요청쿼리 처리 결과에서 필요한 컬럼이름.
+     * @return
+     * @throws SQLException
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     */
+    private <R> SQLBiFunction<ResultSet, Integer, R> compile(@NotNull Class<R> entity, @NotNull ResultSetMetaData md, String... columns) throws SQLException {
+
+        final MethodHandle constructor;
+        try {
+            constructor = LOOKUP.findConstructor(entity, MethodType.methodType(void.class)).asType(TYPE_CONSTRUCTOR);
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            return fallback(entity, "기본 생성자에 접근할 수 없습니다.", columns);
+        }
+
+        List<ColumnBinder> binders = new ArrayList<>();
+        ColumnDef clmnDef = null;
+        String clmnName = null;
+        int clmnIndex = -1;
+        SQLBiFunction<ResultSet, Integer, Object> reader = null;
+        for (Method m : entity.getMethods()) {
+            if (m.getParameterCount() != 1 || (clmnDef = m.getAnnotation(ColumnDef.class)) == null) {
+                continue;
+            }
+
+            clmnName = SQLUtils.getColumnName(clmnDef.name(), clmnDef.columnNameType(), propertyName(m));
+            // 요청된 컬럼만 설정
+            if (columns.length > 0 && !contains(columns, clmnName, clmnDef.caseSensitive())) {
+                continue;
+            }
+
+            if ((clmnIndex = findColumn(md, clmnName, clmnDef.caseSensitive())) < 1) {
+                return fallback(entity, String.format("조회 결과에 컬럼(%s)이 존재하지 않습니다.", clmnName), columns);
+            }
+
+            Class<?> paramType = m.getParameterTypes()[0];
+            if ((reader = READERS.get(clmnDef.type())) == null //
+                    || !wrap(paramType).isAssignableFrom(wrap(clmnDef.type())) //
+                    || (paramType.isPrimitive() && !clmnDef.type().isPrimitive())) {
+                return fallback(entity, String.format("지원하지 않는 데이터 타입입니다. 메소드=%s, 타입=%s", m.getName(), clmnDef.type()), columns);
+            }
+
+            try {
+                binders.add(new ColumnBinder(clmnIndex, reader, LOOKUP.unreflect(m).asType(TYPE_SETTER)));
+            } catch (IllegalAccessException e) {
+                return fallback(entity, String.format("메소드에 접근할 수 없습니다. 메소드=%s", m.getName()), columns);
+            }
+        }
+
+        final ColumnBinder[] bindersArr = binders.toArray(new ColumnBinder[0]);
+
+        logger.debug("Entity 생성 함수를 생성하였습니다. entity={}, columns={}", entity.getName(), bindersArr.length);
+
+        return (rs, rowNum) -> {
+            try {
+                Object obj = (Object) constructor.invokeExact();
+                for (ColumnBinder binder : bindersArr) {
+                    binder.setter.invokeExact(obj, binder.reader.apply(rs, binder.index));
+                }
+                return entity.cast(obj);
+            } catch (SQLException e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new SQLException(String.format("%s 객체 생성시 에러가 발생하였습니다. 원인=%s", entity, t.getMessage()), t);
+            }
+        };
+    }
+
+    private <R> SQLBiFunction<ResultSet, Integer, R> fallback(@NotNull Class<R> entity, String reason, String... columns) {
+        logger.debug("{} 객체는 {}를 이용합니다. 원인={}", entity.getName(), SQLUtils.class.getName(), reason);
+
+        final String[] fallbackColumns = columns.clone();
+        return (rs, rowNum) -> SQLUtils.newInstance(entity, rs, fallbackColumns);
+    }
+
+    /**
+     * 주어진 Entity 타입과 조회 결과에 맞는 객체 생성 함수를 제공합니다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @param <R>
+     * @param entity
+     *            Entity 타입
+     * @param md
+     *            조회 결과 정보
+     * @param columns
+     *            요청쿼리 처리 결과에서 필요한 컬럼이름.
+     *            <li><b><code>entity</code></b> 모델의 메소드에 적용된 {@link ColumnDef#name()} 값들.
+     * @return
+     * @throws SQLException
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     */
+    @SuppressWarnings("unchecked")
+    public <R> SQLBiFunction<ResultSet, Integer, R> getRowMapper(@NotNull Class<R> entity, @NotNull ResultSetMetaData md, String... columns) throws SQLException {
+        String key = createKey(entity, md, columns);
+
+        SQLBiFunction<ResultSet, Integer, R> mapper = (SQLBiFunction<ResultSet, Integer, R>) this.mappers.get(key);
+        if (mapper == null) {
+            mapper = compile(entity, md, columns);
+            this.mappers.put(key, mapper);
+        }
+
+        return mapper;
+    }
+
+    private static boolean contains(String[] columns, String clmnName, boolean caseSensitive) {
+        for (String clmn : columns) {
+            if (caseSensitive ? clmn.equals(clmnName) : clmn.equalsIgnoreCase(clmnName)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 캐시 키를 생성합니다. <br>
+     * 포맷: {entity}|{정렬된 컬럼 목록}|{컬럼 이름:컬럼 타입, ...}
+     */
+    private static String createKey(@NotNull Class<?> entity, @NotNull ResultSetMetaData md, String... columns) throws SQLException {
+        String[] sorted = columns.clone();
+        Arrays.sort(sorted);
+
+        StringBuffer key = new StringBuffer(entity.getName());
+        key.append('|');
+        key.append(String.join(",", sorted));
+        key.append('|');
+        int count = md.getColumnCount();
+        for (int i = 1; i <= count; i++) {
+            if (i > 1) {
+                key.append(',');
+            }
+            key.append(md.getColumnLabel(i));
+            key.append(':');
+            key.append(md.getColumnType(i));
+        }
+
+        return key.toString();
+    }
+
+    /**
+     * 컬럼 위치를 제공합니다. ('1'부터 시작, 없는 경우 -1)
+     */
+    private static int findColumn(@NotNull ResultSetMetaData md, @NotNull String clmnName, boolean caseSensitive) throws SQLException {
+        int count = md.getColumnCount();
+        String label = null;
+        for (int i = 1; i <= count; i++) {
+            label = md.getColumnLabel(i);
+            if (caseSensitive ? clmnName.equals(label) : clmnName.equalsIgnoreCase(label)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static Object nullable(ResultSet rs, Object value) throws SQLException {
+        return rs.wasNull() ? null : value;
+    }
+
+    /**
+     * Setter 메소드 이름에서 속성 이름을 제공합니다. (예: setUserName -> userName)
+     */
+    private static String propertyName(@NotNull Method m) {
+        String name = m.getName();
+        if (name.length() > 3 && name.startsWith("set")) {
+            return Character.toLowerCase(name.charAt(3)) + name.substring(4);
+        } else {
+            return name;
+        }
+    }
+
+    private static Class<?> wrap(@NotNull Class<?> type) {
+        if (!type.isPrimitive()) {
+            return type;
+        } else if (type == boolean.class) {
+            return Boolean.class;
+        } else if (type == byte.class) {
+            return Byte.class;
+        } else if (type == short.class) {
+            return Short.class;
+        } else if (type == int.class) {
+            return Integer.class;
+        } else if (type == long.class) {
+            return Long.class;
+        } else if (type == float.class) {
+            return Float.class;
+        } else if (type == double.class) {
+            return Double.class;
+        } else if (type == char.class) {
+            return Character.class;
+        } else {
+            return type;
+        }
+    }
+
+    /**
+     * 컬럼 위치, 컬럼값 조회 함수, Setter 정보.
+     */
+    private static class ColumnBinder {
+        private final int index;
+        private final SQLBiFunction<ResultSet, Integer, Object> reader;
+        private final MethodHandle setter;
+
+        private ColumnBinder(int index, SQLBiFunction<ResultSet, Integer, Object> reader, MethodHandle setter) {
+            this.index = index;
+            this.reader = reader;
+            this.setter = setter;
+        }
+    }
+}
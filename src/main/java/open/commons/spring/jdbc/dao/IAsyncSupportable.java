@@ -26,18 +26,29 @@
 
 package open.commons.spring.jdbc.dao;
 
+import java.sql.PreparedStatement;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
 import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
+import javax.validation.constraints.Min;
 import javax.validation.constraints.NotNull;
 
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
@@ -46,6 +57,9 @@ import org.springframework.validation.annotation.Validated;
 
 import open.commons.core.Result;
 import open.commons.core.function.HexaFunction;
+import open.commons.core.function.SQLConsumer;
+import open.commons.core.utils.ArrayUtils;
+import open.commons.spring.jdbc.exception.RuntimeDataAccessException;
 
 /**
  * {@link ThreadPoolTaskExecutor}를 기반으로
@@ -68,6 +82,7 @@ public interface IAsyncSupportable {
      *      날짜      | 작성자   |   내용
      * ------------------------------------------
      * 2020. 1. 21.     박준홍         최초 작성
+     * 2026. 10. 18.        박준홍         {@link CompletableFuture} 제공
      * </pre>
      *
      * @param <E>
@@ -103,29 +118,31 @@ public interface IAsyncSupportable {
         int pos = 0;
 
         while (pos < q) {
-            futures.add(threadPool.submit(new AsyncSelectorBy<E>(m, query, pos * partitionSize, partitionSize, type, params, columns)));
+            futures.add(threadPool.submitListenable(new AsyncSelectorBy<E>(m, query, pos * partitionSize, partitionSize, type, params, columns)).completable());
             pos++;
         }
 
         if (r > 0) {
-            futures.add(threadPool.submit(new AsyncSelectorBy<E>(m, query, pos * partitionSize, partitionSize, type, params, columns)));
+            futures.add(threadPool.submitListenable(new AsyncSelectorBy<E>(m, query, pos * partitionSize, partitionSize, type, params, columns)).completable());
         }
 
         return futures;
     }
 
     /**
-     * 데이터 조회를 설정된 크기로 나누어서 실행한 후 취합한다. <br>
+     * 분할 조회를 비동기로 실행한다. <br>
+     * 각 분할 조회는 {@link AsyncQueries#supplyAsync(Function, long, TimeUnit, Executor)}로 실행되므로, 제한 시간이 초과되거나 취소된 경우 실행 중인 쿼리를
+     * 취소({@link java.sql.Statement#cancel()})한다.
      * 
      * <pre>
      * [개정이력]
-     *      날짜    	| 작성자	|	내용
+     *      날짜      | 작성자   |   내용
      * ------------------------------------------
-     * 2020. 1. 30.		박준홍			최초 작성
+     * 2026. 10. 18.        박준홍         최초 작성
      * </pre>
      *
      * @param <E>
-     *            조회 결과 데이터 모델
+     *            조회 결과 데이터 타입.
      * @param query
      *            데이터 조회 쿼리
      * @param totalCount
@@ -134,25 +151,67 @@ public interface IAsyncSupportable {
      *            조회 데이터 최대 개수
      * @param type
      *            조회 데이터 타입 {@link Class}.
-     * @param parameters
+     * @param params
      *            조회 파라미터
      * @param columns
-     *            읽을 컬럼목록.
+     *            읽을 컬럼 목록.
+     * @param timeout
+     *            분할 조회별 실행 제한 시간. 0 이하인 경우 제한하지 않음.
+     * @param unit
+     *            실행 제한 시간 단위
+     * @param executor
+     *            쿼리 실행 객체
      * @return
      *
-     * @since 2020. 1. 30.
-     * @version 0.0.6
-     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     * 
+     * @see #getList(String, int, int, Class, Supplier, Supplier, StatementCanceller)
      */
-    default <E> Result<List<E>> executeParallel(@NotNull String query, int totalCount, int partitionSize, @NotNull Class<E> type, @NotNull Supplier<Object[]> params,
-            @NotNull Supplier<String[]> columns) {
+    default <E> List<CompletableFuture<Result<List<E>>>> callAsync(@NotNull String query, int totalCount, int partitionSize, @NotNull Class<E> type,
+            @NotNull Supplier<Object[]> params, @NotNull Supplier<String[]> columns, long timeout, @NotNull TimeUnit unit, @NotNull Executor executor) {
+        List<CompletableFuture<Result<List<E>>>> futures = new ArrayList<>();
+        for (int offset = 0; offset < totalCount; offset += partitionSize) {
+            int pos = offset;
+            futures.add(AsyncQueries.supplyAsync(canceller -> getList(query, pos, partitionSize, type, params, columns, canceller), timeout, unit, executor));
+        }
+        return futures;
+    }
+
+    /**
+     * 병렬 처리 결과를 순서대로 취합한다. 실패한 작업이 있는 경우 나머지 작업을 취소한다. <br>
+     * 모든 작업이 {@link CompletableFuture}인 경우 완료된 순서로 결과를 확인하므로, 앞선 작업이 지연되더라도 실패를 즉시 확인한다.
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성. {@link #executeParallel(String, int, int, Class, Supplier, Supplier)}에서 분리
+     * </pre>
+     *
+     * @param <E>
+     *            조회 결과 데이터 모델
+     * @param futures
+     *            비동기 호출 결과
+     * @return
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     */
+    @SuppressWarnings("unchecked")
+    default <E> Result<List<E>> collectParallel(@NotNull List<Future<Result<List<E>>>> futures) {
+
+        // 완료 순서로 결과를 확인하여, 실패한 작업이 발생하면 즉시 나머지 작업을 취소.
+        if (futures.stream().allMatch(f -> f instanceof CompletableFuture)) {
+            return AsyncQueries.collect(futures.stream().map(f -> (CompletableFuture<Result<List<E>>>) f).collect(Collectors.toList())).join();
+        }
 
         List<E> data = new ArrayList<>();
         Consumer<Result<List<E>>> dataCollector = getCollector(data);
         Predicate<Result<List<E>>> failureFilter = t -> !t.getResult() || t.getData() == null;
 
-        // 비동기 호출 결과
-        List<Future<Result<List<E>>>> futures = callAsync(this::getList, query, totalCount, partitionSize, type, params, columns);
         // 실패하는 작업이 발생하는 경우 나머지 작업을 취소하기 위한.
         List<Future<Result<List<E>>>> clones = new ArrayList<>(futures);
 
@@ -192,6 +251,98 @@ public interface IAsyncSupportable {
         return result;
     }
 
+    /**
+     * 데이터 조회를 설정된 크기로 나누어서 실행한 후 취합한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜    	| 작성자	|	내용
+     * ------------------------------------------
+     * 2020. 1. 30.		박준홍			최초 작성
+     * 2026. 10. 18.        박준홍         결과 취합 분리 ({@link #collectParallel(List)})
+     * 2026. 10. 18.        박준홍         실패한 경우 나머지 분할 조회 쿼리 취소
+     * </pre>
+     *
+     * @param <E>
+     *            조회 결과 데이터 모델
+     * @param query
+     *            데이터 조회 쿼리
+     * @param totalCount
+     *            전체 데이터 개수
+     * @param partitionSize
+     *            조회 데이터 최대 개수
+     * @param type
+     *            조회 데이터 타입 {@link Class}.
+     * @param parameters
+     *            조회 파라미터
+     * @param columns
+     *            읽을 컬럼목록.
+     * @return
+     *
+     * @since 2020. 1. 30.
+     * @version 0.0.6
+     * @author Park_Jun_Hong_(parkjunhong77@gmail.com)
+     */
+    default <E> Result<List<E>> executeParallel(@NotNull String query, int totalCount, int partitionSize, @NotNull Class<E> type, @NotNull Supplier<Object[]> params,
+            @NotNull Supplier<String[]> columns) {
+
+        // 비동기 호출 결과
+        List<Future<Result<List<E>>>> futures = new ArrayList<>(
+                callAsync(query, totalCount, partitionSize, type, params, columns, 0, TimeUnit.MILLISECONDS, getThreadPoolExecutor()));
+
+        return collectParallel(futures);
+    }
+
+    /**
+     * 분할 조회를 병렬로 실행하고, 조회 결과를 분할 순서대로 1건씩 전달한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @param <E>
+     *            조회 데이터 타입.
+     * @param query
+     *            조회 쿼리
+     * @param partitionSize
+     *            분할 크기
+     * @param lookAhead
+     *            미리 실행하는 분할 개수
+     * @param type
+     *            조회 데이터 타입.
+     * @param params
+     *            조회 파라미터.
+     * @param columns
+     *            읽을 컬럼 목록.
+     * @param action
+     *            데이터 처리 함수
+     * @return 처리한 데이터 개수
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     * 
+     * @see #streamParallel(String, int, int, Class, Supplier, Supplier)
+     */
+    default <E> Result<Integer> forEachParallel(@NotNull String query, @Min(1) int partitionSize, @Min(1) int lookAhead, @NotNull Class<E> type,
+            @NotNull Supplier<Object[]> params, @NotNull Supplier<String[]> columns, @NotNull Consumer<E> action) {
+        int count = 0;
+        try (Stream<E> stream = streamParallel(query, partitionSize, lookAhead, type, params, columns)) {
+            Iterator<E> itr = stream.iterator();
+            while (itr.hasNext()) {
+                action.accept(itr.next());
+                count++;
+            }
+        } catch (RuntimeDataAccessException e) {
+            return new Result<Integer>(count, false).setMessage(e.getMessage());
+        }
+
+        return new Result<Integer>(count, true);
+    }
+
     /**
      * 
      * <br>
@@ -287,6 +438,31 @@ public interface IAsyncSupportable {
         return m.apply(parameters);
     }
 
+    /**
+     * 전달된 쿼리에 대한 조회 결과에서 컬럼의 최소값과 최대값을 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * 2026. 10. 18.        박준홍         컬럼값이 null인 데이터 개수 제공
+     * </pre>
+     *
+     * @param selectQuery
+     *            데이터 조회 쿼리.
+     * @param keyColumn
+     *            컬럼 이름. 데이터 조회 쿼리 결과에 포함되어야 한다. ({@link KeyRangePartitioner#validateKeyColumn(String)})
+     * @param params
+     *            조회 파라미터.
+     * @return [최소값, 최대값, 컬럼값이 null인 데이터 개수]. 데이터가 없는 경우 [null, null, 0]
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     */
+    public Result<Object[]> getKeyRange(@NotNull String selectQuery, @NotNull String keyColumn, Object... params);
+
     /**
      * 분할 조회를 처리한다. <br>
      * 
@@ -426,6 +602,323 @@ public interface IAsyncSupportable {
     public <E> Result<List<E>> getList(@NotNull String query, int offset, int fetch, @NotNull Class<E> dataType, @NotNull Supplier<Object[]> params,
             @NotNull Supplier<String[]> columns) throws NullPointerException, IllegalArgumentException;
 
+    /**
+     * 설정된 위치부터 최대 정해진 개수만큼의 데이터를 제공한다. <br>
+     * 쿼리를 실행하는 {@link java.sql.Statement}를 <code>canceller</code>에 등록하여 취소할 수 있도록 해야 한다. 기본 구현은 등록하지 않고
+     * {@link #getList(String, int, int, Class, Supplier, Supplier)}를 호출한다.
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @param query
+     *            데이터 조회 쿼리
+     * @param offset
+     *            읽어올 데이터 직전 위치. 데이터는 offset + 1 부터 읽는다.
+     * @param fetch
+     *            읽어올 데이터 개수.
+     * @param dataType
+     *            읽어올 데이터 모델.
+     * @param params
+     *            데이터 조회 쿼리 파라미터.
+     * @param columns
+     *            읽을 컬럼 목록.
+     * @param canceller
+     *            실행 중인 쿼리 취소 객체
+     * @return
+     * @throws NullPointerException
+     * @throws IllegalArgumentException
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     */
+    default <E> Result<List<E>> getList(@NotNull String query, int offset, int fetch, @NotNull Class<E> dataType, @NotNull Supplier<Object[]> params,
+            @NotNull Supplier<String[]> columns, @NotNull StatementCanceller canceller) throws NullPointerException, IllegalArgumentException {
+        return getList(query, offset, fetch, dataType, params, columns);
+    }
+
+    /**
+     * 요청쿼리를 처리하고 결과를 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @param query
+     *            데이터 조회 쿼리
+     * @param setter
+     *            데이터 조회 쿼리 파라미터 설정 객체
+     * @param entity
+     *            읽어올 데이터 모델.
+     * @param columns
+     *            읽을 컬럼 목록.
+     * @return
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     */
+    public <E> Result<List<E>> getList(@NotNull String query, SQLConsumer<PreparedStatement> setter, @NotNull Class<E> entity, String... columns);
+
+    /**
+     * 분할 조회를 비동기로 처리한다. <br>
+     * 데이터 개수 조회와 분할 조회를 {@link #getThreadPoolExecutor()}에서 실행하며, 호출한 쓰레드는 대기하지 않는다.
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * 2026. 10. 18.        박준홍         실패 또는 취소된 경우 분할 조회 쿼리 취소
+     * </pre>
+     *
+     * @param <E>
+     *            조회 데이터 타입.
+     * @param query
+     *            조회 쿼리
+     * @param partitionSize
+     *            분할 크기
+     * @param type
+     *            조회 데이터 타입.
+     * @param params
+     *            조회 파라미터.
+     * @param columns
+     *            읽을 컬럼 목록.
+     * @return
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     * 
+     * @see #getListAsync(String, int, Class, Supplier, Supplier, long, TimeUnit, Executor)
+     */
+    default <E> CompletableFuture<Result<List<E>>> getListAsync(@NotNull String query, int partitionSize, @NotNull Class<E> type, @NotNull Supplier<Object[]> params,
+            @NotNull Supplier<String[]> columns) {
+        return getListAsync(query, partitionSize, type, params, columns, 0, TimeUnit.MILLISECONDS, getThreadPoolExecutor());
+    }
+
+    /**
+     * 분할 조회를 비동기로 처리한다. <br>
+     * 데이터 개수 조회와 분할 조회를 <code>executor</code>에서 실행하며, 호출한 쓰레드는 대기하지 않는다.
+     * <ul>
+     * <li>분할 조회가 실패하거나 제한 시간을 초과한 경우 나머지 분할 조회 쿼리를 취소({@link java.sql.Statement#cancel()})한다.
+     * <li>반환된 객체를 취소하는 경우 데이터 개수 조회 또는 실행 중인 분할 조회를 모두 취소한다.
+     * </ul>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @param <E>
+     *            조회 데이터 타입.
+     * @param query
+     *            조회 쿼리
+     * @param partitionSize
+     *            분할 크기
+     * @param type
+     *            조회 데이터 타입.
+     * @param params
+     *            조회 파라미터.
+     * @param columns
+     *            읽을 컬럼 목록.
+     * @param timeout
+     *            분할 조회별 실행 제한 시간. 0 이하인 경우 제한하지 않음.
+     * @param unit
+     *            실행 제한 시간 단위
+     * @param executor
+     *            쿼리 실행 객체
+     * @return
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     * 
+     * @see AsyncQueries#collect(List)
+     */
+    default <E> CompletableFuture<Result<List<E>>> getListAsync(@NotNull String query, int partitionSize, @NotNull Class<E> type, @NotNull Supplier<Object[]> params,
+            @NotNull Supplier<String[]> columns, long timeout, @NotNull TimeUnit unit, @NotNull Executor executor) {
+        CompletableFuture<Result<List<E>>> collected = new CompletableFuture<>();
+
+        // #1. 조회 데이터 개수
+        CompletableFuture<Result<Integer>> counted = CompletableFuture.supplyAsync(() -> getCount(query, params.get()), executor);
+        counted.whenComplete((resultCount, e) -> {
+            if (collected.isDone()) {
+                return;
+            } else if (e != null) {
+                collected.completeExceptionally(e);
+                return;
+            } else if (!resultCount.getResult()) {
+                collected.complete(new Result<List<E>>().setMessage(resultCount.getMessage()));
+                return;
+            }
+
+            // #2. 분할 조회
+            CompletableFuture<Result<List<E>>> slices = AsyncQueries
+                    .collect(callAsync(query, resultCount.getData(), partitionSize, type, params, columns, timeout, unit, executor));
+            slices.whenComplete((r, se) -> {
+                if (se != null) {
+                    collected.completeExceptionally(se);
+                } else {
+                    collected.complete(r);
+                }
+            });
+            // 반환된 객체가 취소된 경우 분할 조회 취소 (이미 취소된 경우 즉시 실행)
+            collected.whenComplete((r, ce) -> {
+                if (collected.isCancelled()) {
+                    slices.cancel(true);
+                }
+            });
+        });
+
+        collected.whenComplete((r, e) -> {
+            if (collected.isCancelled()) {
+                counted.cancel(true);
+            }
+        });
+
+        return collected;
+    }
+
+    /**
+     * 컬럼값 범위를 나누어 분할 조회를 처리한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @param <E>
+     *            조회 데이터 타입.
+     * @param query
+     *            조회 쿼리
+     * @param keyColumn
+     *            분할 기준 컬럼. 숫자 또는 시간 타입이며, 조회 쿼리 결과에 포함되어야 한다.
+     * @param partitionCount
+     *            분할 개수
+     * @param type
+     *            조회 데이터 타입.
+     * @param params
+     *            조회 파라미터.
+     * @return
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     * 
+     * @see #getListByKeyRange(String, String, int, Class, Supplier, Supplier)
+     */
+    default <E> Result<List<E>> getListByKeyRange(@NotNull String query, @NotNull String keyColumn, @Min(1) int partitionCount, @NotNull Class<E> type, Object... params) {
+        return getListByKeyRange(query, keyColumn, partitionCount, type, () -> params, SUPPLIER_STRING_ARR);
+    }
+
+    /**
+     * 컬럼값 범위를 나누어 분할 조회를 처리한다. <br>
+     * 분할 기준 컬럼의 최소값/최대값을 조회한 후, 서로 겹치지 않는 범위(<code>{key-column} &gt;= ? AND {key-column} &lt; ?</code>)로 나누어 병렬로 조회한다.
+     * 각 조회는 이전 데이터를 건너뛰지 않으므로 'OFFSET' 방식과 달리 분할 개수가 늘어나도 전체 조회 비용이 증가하지 않는다. <br>
+     * 
+     * <ul>
+     * <li>분할 기준 컬럼 이름은 식별자 형식이어야 한다. ({@link KeyRangePartitioner#validateKeyColumn(String)})
+     * <li>분할 기준 컬럼값이 <code>null</code>인 데이터가 있는 경우({@link #getKeyRange(String, String, Object...)}) 별도로 조회한다.
+     * <li>분할 기준 컬럼이 지원하지 않는 타입인 경우 데이터 개수를 이용한 분할 조회({@link #getList(String, int, Class, Supplier, Supplier)})를 처리한다.
+     * <li>결과는 분할 기준 컬럼값 범위 순서로 취합된다.
+     * </ul>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * 2026. 10. 18.        박준홍         컬럼 이름 검증, null 데이터가 없는 경우 null 조회 생략
+     * 2026. 10. 18.        박준홍         실패한 경우 나머지 분할 조회 쿼리 취소
+     * </pre>
+     *
+     * @param <E>
+     *            조회 데이터 타입.
+     * @param query
+     *            조회 쿼리
+     * @param keyColumn
+     *            분할 기준 컬럼. 숫자 또는 시간 타입이며, 조회 쿼리 결과에 포함되어야 한다.
+     * @param partitionCount
+     *            분할 개수
+     * @param type
+     *            조회 데이터 타입.
+     * @param params
+     *            조회 파라미터.
+     * @param columns
+     *            읽을 컬럼 목록.
+     * @return
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     * 
+     * @see KeyRangePartitioner
+     */
+    default <E> Result<List<E>> getListByKeyRange(@NotNull String query, @NotNull String keyColumn, @Min(1) int partitionCount, @NotNull Class<E> type,
+            @NotNull Supplier<Object[]> params, @NotNull Supplier<String[]> columns) {
+        // #1. 분할 기준 컬럼값 범위
+        Result<Object[]> resultRange = getKeyRange(query, keyColumn, params.get());
+        if (!resultRange.getResult()) {
+            return new Result<List<E>>().setMessage(resultRange.getMessage());
+        }
+
+        String clmn = KeyRangePartitioner.validateKeyColumn(keyColumn);
+        Object[] range = resultRange.getData();
+        Object min = range[0];
+        Object max = range[1];
+        // 컬럼값이 null인 데이터 개수를 제공하지 않는 경우 null 데이터가 있는 것으로 간주
+        boolean hasNull = range.length < 3 || !(range[2] instanceof Number) || ((Number) range[2]).longValue() > 0;
+        // 데이터가 없거나 모든 데이터의 컬럼값이 null 인 경우
+        if (min == null || max == null) {
+            return getList(query, SQLConsumer.setParameters(params.get()), type, columns.get());
+        }
+
+        List<Object> bounds = KeyRangePartitioner.split(min, max, partitionCount);
+        // 지원하지 않는 타입인 경우
+        if (bounds.isEmpty()) {
+            Result<Integer> resultCount = getCount(query, params.get());
+            if (!resultCount.getResult()) {
+                return new Result<List<E>>().setMessage(resultCount.getMessage());
+            }
+            int partitionSize = Math.max(1, (resultCount.getData() + partitionCount - 1) / partitionCount);
+            return executeParallel(query, resultCount.getData(), partitionSize, type, params, columns);
+        }
+
+        // #2. 분할 조회 (실패한 경우 나머지 분할 조회 쿼리 취소)
+        ThreadPoolTaskExecutor threadPool = getThreadPoolExecutor();
+
+        String queryHeader = String.join(" ", "SELECT * FROM (", query, ") tbl_key_range WHERE", clmn);
+        String rangeQuery = String.join(" ", queryHeader, ">= ? AND", clmn, "< ?");
+        String lastRangeQuery = String.join(" ", queryHeader, ">= ? AND", clmn, "<= ?");
+
+        List<Future<Result<List<E>>>> futures = new ArrayList<>();
+        int last = bounds.size() - 1;
+        for (int i = 0; i < last; i++) {
+            String sliceQuery = i < last - 1 ? rangeQuery : lastRangeQuery;
+            Object[] sliceParams = ArrayUtils.add(params.get(), bounds.get(i), bounds.get(i + 1));
+            futures.add(AsyncQueries.supplyAsync(canceller -> getList(sliceQuery, canceller.wrap(SQLConsumer.setParameters(sliceParams)), type, columns.get()), 0,
+                    TimeUnit.MILLISECONDS, threadPool));
+        }
+        if (hasNull) {
+            futures.add(AsyncQueries.supplyAsync(canceller -> getList(String.join(" ", queryHeader, "IS NULL"), canceller.wrap(SQLConsumer.setParameters(params.get())), type,
+                    columns.get()), 0, TimeUnit.MILLISECONDS, threadPool));
+        }
+
+        return collectParallel(futures);
+    }
+
     /**
      * {@link ThreadPoolTaskExecutor} 를 제공한다.
      * 
@@ -446,6 +939,62 @@ public interface IAsyncSupportable {
      */
     public @NotNull ThreadPoolTaskExecutor getThreadPoolExecutor();
 
+    /**
+     * 분할 조회를 병렬로 실행하고, 조회 결과를 분할 순서대로 제공한다. <br>
+     * 현재 읽고 있는 분할 이후 최대 <code>lookAhead</code> 개의 분할만 미리 조회하므로, 전체 데이터를 메모리에 유지하지 않는다. 사용 후 반드시
+     * {@link Stream#close()}를 호출해야 한다.
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @param <E>
+     *            조회 데이터 타입.
+     * @param query
+     *            조회 쿼리
+     * @param partitionSize
+     *            분할 크기
+     * @param lookAhead
+     *            미리 실행하는 분할 개수
+     * @param type
+     *            조회 데이터 타입.
+     * @param params
+     *            조회 파라미터.
+     * @param columns
+     *            읽을 컬럼 목록.
+     * @return
+     * @throws RuntimeDataAccessException
+     *             데이터 개수 조회 또는 분할 조회가 실패한 경우
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     * 
+     * @see OrderedPartitionIterator
+     */
+    default <E> Stream<E> streamParallel(@NotNull String query, @Min(1) int partitionSize, @Min(1) int lookAhead, @NotNull Class<E> type,
+            @NotNull Supplier<Object[]> params, @NotNull Supplier<String[]> columns) throws RuntimeDataAccessException {
+        // #1. 조회 데이터 개수
+        Result<Integer> resultCount = getCount(query, params.get());
+        if (!resultCount.getResult()) {
+            throw new RuntimeDataAccessException(resultCount.getMessage());
+        }
+
+        // #2. 분할 조회 작업
+        int totalCount = resultCount.getData();
+        List<Callable<Result<List<E>>>> tasks = new ArrayList<>();
+        for (int offset = 0; offset < totalCount; offset += partitionSize) {
+            tasks.add(new AsyncSelectorBy<E>(this::getList, query, offset, partitionSize, type, params, columns));
+        }
+
+        OrderedPartitionIterator<E> itr = new OrderedPartitionIterator<>(tasks, getThreadPoolExecutor(), lookAhead);
+
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(itr, Spliterator.ORDERED | Spliterator.NONNULL), false).onClose(itr::close);
+    }
+
     @Validated
     public static class AsyncSelectorBy<E> implements Callable<Result<List<E>>> {
 
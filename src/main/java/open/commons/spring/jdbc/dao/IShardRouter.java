@@ -0,0 +1,66 @@
+/*
+ * Copyright 2026 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/*
+ *
+ * This file is generated under this project, "open-commons-spring-jdbc".
+ *
+ * Date  : 2026. 10. 18. 오후 8:31:02
+ *
+ * Author: parkjunhong77@gmail.com
+ * 
+ */
+
+package open.commons.spring.jdbc.dao;
+
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+
+/**
+ * 데이터의 Shard Key를 이용하여 데이터를 저장/조회할 {@link javax.sql.DataSource}를 결정하는 기능을 정의합니다.<br>
+ * 동일한 Shard Key와 동일한 Shard 개수에 대해서는 항상 동일한 Shard를 제공해야 합니다.
+ *
+ * @since 2026. 10. 18.
+ * @version 0.6.0
+ * @author parkjunhong77@gmail.com
+ * 
+ * @see ConsistentHashShardRouter
+ * @see RangeShardRouter
+ */
+public interface IShardRouter {
+
+    /**
+     * Shard Key에 해당하는 Shard 순서를 제공합니다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @param key
+     *            Shard Key. 여러 개의 컬럼으로 구성된 경우 {@link java.util.List}
+     * @param shardCount
+     *            Shard 개수
+     * @return Shard 순서. (0 ~ shardCount - 1)
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     */
+    int route(@NotNull Object key, @Min(1) int shardCount);
+}
@@ -0,0 +1,245 @@
+/*
+ * Copyright 2026 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/*
+ *
+ * This file is generated under this project, "open-commons-spring-jdbc".
+ *
+ * Date  : 2026. 10. 18. 오후 6:38:12
+ *
+ * Author: parkjunhong77@gmail.com
+ * 
+ */
+
+package open.commons.spring.jdbc.dao;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+
+import open.commons.core.utils.ExceptionUtils;
+
+/**
+ * 숫자 또는 시간 타입 컬럼의 최소값/최대값을 이용하여 서로 겹치지 않는 구간으로 나누는 클래스.<br>
+ * 각 구간은 <code>[하한, 상한)</code>이며, 마지막 구간은 <code>[하한, 최대값]</code> 입니다.
+ *
+ * <pre>
+ * 지원 타입
+ * - 정수: Byte, Short, Integer, Long, BigInteger
+ * - 실수: Float, Double, BigDecimal
+ * - 시간: java.util.Date, java.sql.Date, java.sql.Timestamp, LocalDate, LocalDateTime, OffsetDateTime, Instant
+ * </pre>
+ *
+ * @since 2026. 10. 18.
+ * @version 0.6.0
+ * @author parkjunhong77@gmail.com
+ */
+public final class KeyRangePartitioner {
+
+    /**
+     * 분할 기준 컬럼 이름 형식.<br>
+     * 식별자(<code>[A-Za-z_][A-Za-z0-9_$]*</code>) 또는 DBMS 식별자 구분자(<code>"</code>, <code>`</code>, <code>[ ]</code>)로 감싼 이름이며, '.'으로 구분된 테이블 별칭을
+     * 포함할 수 있습니다.
+     */
+    private static final Pattern KEY_COLUMN = Pattern.compile(
+            "^(?:[A-Za-z_][A-Za-z0-9_$]*|\"[^\"]+\"|`[^`]+`|\\[[^\\]]+\\])(?:\\.(?:[A-Za-z_][A-Za-z0-9_$]*|\"[^\"]+\"|`[^`]+`|\\[[^\\]]+\\]))?$");
+
+    private KeyRangePartitioner() {
+    }
+
+    /**
+     * 지원하는 데이터 타입인지 여부를 제공합니다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @param value
+     * @return
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     */
+    public static boolean isSupported(Object value) {
+        return value != null && codec(value) != null;
+    }
+
+    /**
+     * 최소값과 최대값 사이를 주어진 개수만큼 나눈 구간 경계값을 제공합니다. <br>
+     * 정수/시간 타입의 범위가 구간 개수보다 작은 경우 더 적은 개수의 구간이 제공됩니다.
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @param min
+     *            최소값
+     * @param max
+     *            최대값
+     * @param partitionCount
+     *            구간 개수
+     * @return 구간 경계값. (첫번째: 최소값, 마지막: 최대값). 지원하지 않는 타입이거나 최소값과 최대값의 타입이 다른 경우 빈 목록.
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     */
+    public static List<Object> split(@NotNull Object min, @NotNull Object max, @Min(1) int partitionCount) {
+        Codec codec = codec(min);
+        if (codec == null || !min.getClass().equals(max.getClass())) {
+            return Collections.emptyList();
+        }
+
+        BigDecimal lower = codec.encoder.apply(min);
+        BigDecimal upper = codec.encoder.apply(max);
+
+        List<Object> bounds = new ArrayList<>();
+        bounds.add(min);
+
+        if (upper.compareTo(lower) > 0) {
+            BigDecimal step = upper.subtract(lower).divide(BigDecimal.valueOf(partitionCount), 16, RoundingMode.FLOOR);
+            BigDecimal prev = lower;
+            BigDecimal bound = null;
+            for (int i = 1; i < partitionCount; i++) {
+                bound = lower.add(step.multiply(BigDecimal.valueOf(i)));
+                if (codec.integral) {
+                    bound = bound.setScale(0, RoundingMode.FLOOR);
+                }
+                if (bound.compareTo(prev) > 0 && bound.compareTo(upper) < 0) {
+                    bounds.add(codec.decoder.apply(bound));
+                    prev = bound;
+                }
+            }
+        }
+
+        bounds.add(max);
+
+        return bounds;
+    }
+
+    /**
+     * 분할 기준 컬럼 이름이 식별자 형식인지 검증합니다. <br>
+     * 분할 기준 컬럼 이름은 조회 쿼리에 그대로 추가되므로, 식별자가 아닌 문자열(수식, 주석, 쿼리 등)은 허용하지 않습니다. DBMS 예약어인 경우 구분자로 감싸서 전달해야 합니다.
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @param keyColumn
+     *            분할 기준 컬럼 이름
+     * @return 앞뒤 공백을 제거한 컬럼 이름
+     * @throws IllegalArgumentException
+     *             식별자 형식이 아닌 경우
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     */
+    public static String validateKeyColumn(@NotNull String keyColumn) throws IllegalArgumentException {
+        String clmn = keyColumn != null ? keyColumn.trim() : null;
+        if (clmn == null || !KEY_COLUMN.matcher(clmn).matches()) {
+            throw ExceptionUtils.newException(IllegalArgumentException.class, "분할 기준 컬럼 이름이 올바르지 않습니다. 컬럼명=%s", keyColumn);
+        }
+        return clmn;
+    }
+
+    private static Codec codec(Object value) {
+        if (value instanceof Byte) {
+            return new Codec(v -> BigDecimal.valueOf((Byte) v), b -> b.byteValue(), true);
+        } else if (value instanceof Short) {
+            return new Codec(v -> BigDecimal.valueOf((Short) v), b -> b.shortValue(), true);
+        } else if (value instanceof Integer) {
+            return new Codec(v -> BigDecimal.valueOf((Integer) v), b -> b.intValue(), true);
+        } else if (value instanceof Long) {
+            return new Codec(v -> BigDecimal.valueOf((Long) v), b -> b.longValue(), true);
+        } else if (value instanceof BigInteger) {
+            return new Codec(v -> new BigDecimal((BigInteger) v), b -> b.toBigInteger(), true);
+        } else if (value instanceof Float) {
+            return new Codec(v -> BigDecimal.valueOf((Float) v), b -> b.floatValue(), false);
+        } else if (value instanceof Double) {
+            return new Codec(v -> BigDecimal.valueOf((Double) v), b -> b.doubleValue(), false);
+        } else if (value instanceof BigDecimal) {
+            return new Codec(v -> (BigDecimal) v, b -> b, false);
+        } else if (value instanceof java.sql.Timestamp) {
+            return new Codec(v -> BigDecimal.valueOf(((java.sql.Timestamp) v).getTime()), b -> new java.sql.Timestamp(b.longValue()), true);
+        } else if (value instanceof java.sql.Date) {
+            return new Codec(v -> BigDecimal.valueOf(((java.sql.Date) v).toLocalDate().toEpochDay()), b -> java.sql.Date.valueOf(LocalDate.ofEpochDay(b.longValue())),
+                    true);
+        } else if (value instanceof java.sql.Time) {
+            return null;
+        } else if (value instanceof java.util.Date) {
+            return new Codec(v -> BigDecimal.valueOf(((java.util.Date) v).getTime()), b -> new java.util.Date(b.longValue()), true);
+        } else if (value instanceof LocalDate) {
+            return new Codec(v -> BigDecimal.valueOf(((LocalDate) v).toEpochDay()), b -> LocalDate.ofEpochDay(b.longValue()), true);
+        } else if (value instanceof LocalDateTime) {
+            return new Codec(v -> BigDecimal.valueOf(((LocalDateTime) v).toInstant(ZoneOffset.UTC).toEpochMilli()),
+                    b -> LocalDateTime.ofInstant(Instant.ofEpochMilli(b.longValue()), ZoneOffset.UTC), true);
+        } else if (value instanceof OffsetDateTime) {
+            ZoneOffset offset = ((OffsetDateTime) value).getOffset();
+            return new Codec(v -> BigDecimal.valueOf(((OffsetDateTime) v).toInstant().toEpochMilli()), b -> OffsetDateTime.ofInstant(Instant.ofEpochMilli(b.longValue()), offset),
+                    true);
+        } else if (value instanceof Instant) {
+            return new Codec(v -> BigDecimal.valueOf(((Instant) v).toEpochMilli()), b -> Instant.ofEpochMilli(b.longValue()), true);
+        } else {
+            return null;
+        }
+    }
+
+    /**
+     * 데이터와 구간 계산용 숫자를 상호 변환하는 함수.
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     */
+    private static class Codec {
+        /** 데이터 -&gt; 숫자 */
+        private final Function<Object, BigDecimal> encoder;
+        /** 숫자 -&gt; 데이터 */
+        private final Function<BigDecimal, Object> decoder;
+        /** 정수 여부 */
+        private final boolean integral;
+
+        private Codec(Function<Object, BigDecimal> encoder, Function<BigDecimal, Object> decoder, boolean integral) {
+            this.encoder = encoder;
+            this.decoder = decoder;
+            this.integral = integral;
+        }
+    }
+}
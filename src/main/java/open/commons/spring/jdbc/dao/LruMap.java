@@ -0,0 +1,141 @@
+/*
+ * Copyright 2026 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/*
+ *
+ * This file is generated under this project, "open-commons-spring-jdbc".
+ *
+ * Date  : 2026. 10. 18. 오후 11:41:27
+ *
+ * Author: parkjunhong77@gmail.com
+ * 
+ */
+
+package open.commons.spring.jdbc.dao;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.validation.constraints.Min;
+
+/**
+ * 크기가 제한된 LRU(Least Recently Used) {@link Map}.<br>
+ * 저장된 데이터 개수가 최대 크기를 넘는 경우 가장 오래 사용되지 않은 데이터를 삭제합니다.
+ *
+ * @param <K>
+ *            식별자 타입
+ * @param <V>
+ *            데이터 타입
+ *
+ * @since 2026. 10. 18.
+ * @version 0.6.0
+ * @author parkjunhong77@gmail.com
+ */
+public class LruMap<K, V> extends LinkedHashMap<K, V> {
+
+    private static final long serialVersionUID = 1L;
+
+    /** 최대 크기 */
+    private final int maxSize;
+
+    /**
+     * <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @param maxSize
+     *            최대 크기
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     */
+    public LruMap(@Min(1) int maxSize) {
+        super(16, 0.75f, true);
+
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("캐시 크기는 0보다 커야 합니다. 입력값=" + maxSize);
+        }
+
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * 최대 크기를 제공합니다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     */
+    public int getMaxSize() {
+        return this.maxSize;
+    }
+
+    /**
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     *
+     * @see java.util.LinkedHashMap#removeEldestEntry(java.util.Map.Entry)
+     */
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+        return size() > this.maxSize;
+    }
+
+    /**
+     * 여러 Thread에서 사용할 수 있는 크기가 제한된 LRU {@link Map}을 생성합니다. <br>
+     * 조회({@link Map#get(Object)})도 데이터 순서를 변경하기 때문에 {@link Collections#synchronizedMap(Map)}으로 감싸서 제공합니다.
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @param <K>
+     *            식별자 타입
+     * @param <V>
+     *            데이터 타입
+     * @param maxSize
+     *            최대 크기
+     * @return
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     */
+    public static <K, V> Map<K, V> synchronizedMap(@Min(1) int maxSize) {
+        return Collections.synchronizedMap(new LruMap<K, V>(maxSize));
+    }
+}
@@ -0,0 +1,186 @@
+/*
+ * Copyright 2026 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/*
+ *
+ * This file is generated under this project, "open-commons-spring-jdbc".
+ *
+ * Date  : 2026. 10. 18. 오후 7:48:20
+ *
+ * Author: parkjunhong77@gmail.com
+ * 
+ */
+
+package open.commons.spring.jdbc.dao;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+
+import org.springframework.core.task.AsyncListenableTaskExecutor;
+
+import open.commons.core.Result;
+import open.commons.spring.jdbc.exception.RuntimeDataAccessException;
+
+/**
+ * 분할 조회를 병렬로 실행하고, 조회 결과를 분할 순서대로 1건씩 제공하는 {@link Iterator}.<br>
+ * 현재 읽고 있는 분할 이후 최대 <code>lookAhead</code> 개의 분할만 미리 실행하므로, 데이터를 읽는 속도에 맞춰 조회가 진행되며 메모리에는 최대
+ * <code>lookAhead + 1</code> 개의 분할 결과만 유지됩니다.<br>
+ * 조회가 실패한 경우 {@link RuntimeDataAccessException}이 발생하며, 미리 실행 중인 분할 조회는 취소됩니다.
+ *
+ * @param <E>
+ *            조회 데이터 타입
+ *
+ * @since 2026. 10. 18.
+ * @version 0.6.0
+ * @author parkjunhong77@gmail.com
+ */
+public class OrderedPartitionIterator<E> implements Iterator<E>, AutoCloseable {
+
+    /** 분할 조회 작업 */
+    private final Iterator<Callable<Result<List<E>>>> tasks;
+    /** 분할 조회 실행 객체 */
+    private final AsyncListenableTaskExecutor executor;
+    /** 미리 실행하는 분할 개수 */
+    private final int lookAhead;
+    /** 실행 중인 분할 조회. (분할 순서) */
+    private final Deque<CompletableFuture<Result<List<E>>>> window = new ArrayDeque<>();
+
+    /** 현재 분할 조회 결과 */
+    private Iterator<E> current = Collections.emptyIterator();
+    private boolean closed;
+
+    /**
+     * <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @param tasks
+     *            분할 조회 작업. (분할 순서)
+     * @param executor
+     *            분할 조회 실행 객체
+     * @param lookAhead
+     *            미리 실행하는 분할 개수
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     */
+    public OrderedPartitionIterator(@NotNull List<Callable<Result<List<E>>>> tasks, @NotNull AsyncListenableTaskExecutor executor, @Min(1) int lookAhead) {
+        if (lookAhead < 1) {
+            throw new IllegalArgumentException("미리 실행하는 분할 개수는 0보다 커야 합니다. 입력값=" + lookAhead);
+        }
+
+        this.tasks = tasks.iterator();
+        this.executor = executor;
+        this.lookAhead = lookAhead;
+
+        fill();
+    }
+
+    /**
+     * 실행 중인 분할 조회를 취소합니다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     */
+    @Override
+    public void close() {
+        this.closed = true;
+        this.current = Collections.emptyIterator();
+
+        CompletableFuture<Result<List<E>>> future = null;
+        while ((future = this.window.poll()) != null) {
+            future.cancel(true);
+        }
+    }
+
+    /**
+     * 현재 분할 이후 최대 <code>lookAhead</code> 개의 분할 조회를 실행합니다.
+     */
+    private void fill() {
+        while (!this.closed && this.window.size() < this.lookAhead && this.tasks.hasNext()) {
+            this.window.add(this.executor.submitListenable(this.tasks.next()).completable());
+        }
+    }
+
+    /**
+     * @see java.util.Iterator#hasNext()
+     */
+    @Override
+    public boolean hasNext() {
+        while (!this.current.hasNext()) {
+            CompletableFuture<Result<List<E>>> future = this.window.poll();
+            if (future == null) {
+                return false;
+            }
+            // 다음 분할 조회 실행
+            fill();
+
+            Result<List<E>> result;
+            try {
+                result = future.join();
+            } catch (CancellationException | CompletionException e) {
+                close();
+                throw new RuntimeDataAccessException("", e.getCause() != null ? e.getCause() : e);
+            }
+
+            if (!result.getResult() || result.getData() == null) {
+                close();
+                throw new RuntimeDataAccessException(result.getMessage());
+            }
+
+            this.current = result.getData().iterator();
+        }
+
+        return true;
+    }
+
+    /**
+     * @see java.util.Iterator#next()
+     */
+    @Override
+    public E next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return this.current.next();
+    }
+}
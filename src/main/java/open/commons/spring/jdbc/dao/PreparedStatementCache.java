@@ -0,0 +1,219 @@
+/*
+ * Copyright 2026 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/*
+ *
+ * This file is generated under this project, "open-commons-spring-jdbc".
+ *
+ * Date  : 2026. 10. 18. 오후 10:05:17
+ *
+ * Author: parkjunhong77@gmail.com
+ * 
+ */
+
+package open.commons.spring.jdbc.dao;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map.Entry;
+
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import open.commons.core.database.ConnectionCallbackBroker2;
+
+/**
+ * 1개의 {@link Connection}에서 여러 개의 쿼리를 실행하는 동안 쿼리가 동일한 {@link PreparedStatement}를 재사용하기 위한 클래스.<br>
+ * 쿼리 단위로 최대 <code>maxSize</code> 개의 {@link PreparedStatement}를 유지하며, 초과하는 경우 가장 오래 사용하지 않은 {@link PreparedStatement}를 닫습니다.
+ * {@link #close()} 호출시 모든 {@link PreparedStatement}를 닫습니다.
+ *
+ * <pre>
+ * 사용 예)
+ * try (PreparedStatementCache statements = new PreparedStatementCache(con)) {
+ *     for (ConnectionCallbackBroker2&lt;E&gt; broker : brokers) {
+ *         PreparedStatement pstmt = statements.get(broker);
+ *         ...
+ *     }
+ * }
+ * </pre>
+ *
+ * @since 2026. 10. 18.
+ * @version 0.6.0
+ * @author parkjunhong77@gmail.com
+ */
+public class PreparedStatementCache implements AutoCloseable {
+
+    /** 기본 최대 {@link PreparedStatement} 개수 */
+    public static final int DEFAULT_MAX_SIZE = 8;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PreparedStatementCache.class);
+
+    private final Connection con;
+    /** key: 쿼리, value: {@link PreparedStatement} */
+    private final LinkedHashMap<String, PreparedStatement> statements;
+    private final int maxSize;
+
+    /**
+     * <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @param con
+     *            DB 연결 정보
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     */
+    public PreparedStatementCache(@NotNull Connection con) {
+        this(con, DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @param con
+     *            DB 연결 정보
+     * @param maxSize
+     *            최대 {@link PreparedStatement} 개수
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     */
+    public PreparedStatementCache(@NotNull Connection con, @Min(1) int maxSize) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("최대 개수는 0보다 커야 합니다. 입력값=" + maxSize);
+        }
+
+        this.con = con;
+        this.maxSize = maxSize;
+        this.statements = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    /**
+     * 모든 {@link PreparedStatement}를 닫습니다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     */
+    @Override
+    public void close() {
+        for (PreparedStatement pstmt : this.statements.values()) {
+            close(pstmt);
+        }
+        this.statements.clear();
+    }
+
+    private static void close(PreparedStatement pstmt) {
+        try {
+            pstmt.close();
+        } catch (SQLException e) {
+            LOGGER.debug("Fail to close a statement. cause={}", e.getMessage());
+        }
+    }
+
+    /**
+     * 쿼리에 해당하는 {@link PreparedStatement}를 제공합니다. <br>
+     * 재사용되는 {@link PreparedStatement}는 이전에 설정된 파라미터가 삭제된 상태로 제공됩니다.
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @param broker
+     *            쿼리 정보
+     * @return
+     * @throws SQLException
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     */
+    public PreparedStatement get(@NotNull ConnectionCallbackBroker2<?> broker) throws SQLException {
+        // 'Stored Procedure' 여부에 따라 생성되는 객체가 다름.
+        String key = broker.isForStoredProcedure() ? "{call}" + broker.getQuery() : broker.getQuery();
+
+        PreparedStatement pstmt = this.statements.get(key);
+        if (pstmt != null) {
+            pstmt.clearParameters();
+            return pstmt;
+        }
+
+        pstmt = broker.getStatement(this.con);
+        this.statements.put(key, pstmt);
+
+        // 오래된 객체 정리
+        if (this.statements.size() > this.maxSize) {
+            Iterator<Entry<String, PreparedStatement>> itr = this.statements.entrySet().iterator();
+            Entry<String, PreparedStatement> eldest = itr.next();
+            itr.remove();
+            close(eldest.getValue());
+        }
+
+        return pstmt;
+    }
+
+    /**
+     * 유지하고 있는 {@link PreparedStatement} 개수를 제공합니다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     */
+    public int size() {
+        return this.statements.size();
+    }
+}
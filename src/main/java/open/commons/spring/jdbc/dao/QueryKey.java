@@ -0,0 +1,164 @@
+/*
+ * Copyright 2026 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/*
+ *
+ * This file is generated under this project, "open-commons-spring-jdbc".
+ *
+ * Date  : 2026. 10. 18. 오후 11:31:08
+ *
+ * Author: parkjunhong77@gmail.com
+ * 
+ */
+
+package open.commons.spring.jdbc.dao;
+
+import java.util.Arrays;
+
+import javax.validation.constraints.NotNull;
+
+/**
+ * 조회 요청 식별자.<br>
+ * 쿼리, 파라미터, 데이터 타입, 컬럼이 모두 같은 경우 동일한 조회 요청으로 판단합니다. 파라미터와 컬럼은 생성시 복사되며, 배열 파라미터는 내용으로 비교합니다.
+ *
+ * @since 2026. 10. 18.
+ * @version 0.6.0
+ * @author parkjunhong77@gmail.com
+ */
+public final class QueryKey {
+
+    /** 쿼리 */
+    private final String query;
+    /** 쿼리 파라미터 */
+    private final Object[] params;
+    /** 데이터 타입 */
+    private final Class<?> entity;
+    /** 컬럼 */
+    private final String[] columns;
+
+    private final int hash;
+
+    /**
+     * <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @param query
+     *            쿼리
+     * @param params
+     *            쿼리 파라미터
+     * @param entity
+     *            데이터 타입
+     * @param columns
+     *            컬럼
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     */
+    public QueryKey(@NotNull String query, Object[] params, @NotNull Class<?> entity, String... columns) {
+        this.query = query;
+        this.params = params != null ? params.clone() : new Object[0];
+        this.entity = entity;
+        this.columns = columns != null ? columns.clone() : new String[0];
+
+        int h = query.hashCode();
+        h = 31 * h + Arrays.deepHashCode(this.params);
+        h = 31 * h + entity.hashCode();
+        h = 31 * h + Arrays.hashCode(this.columns);
+        this.hash = h;
+    }
+
+    /**
+     * @see java.lang.Object#equals(java.lang.Object)
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof QueryKey)) {
+            return false;
+        }
+        QueryKey other = (QueryKey) obj;
+        return this.hash == other.hash //
+                && this.query.equals(other.query) //
+                && this.entity.equals(other.entity) //
+                && Arrays.equals(this.columns, other.columns) //
+                && Arrays.deepEquals(this.params, other.params);
+    }
+
+    /**
+     * 쿼리 파라미터를 제공합니다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     */
+    public Object[] getParams() {
+        return this.params.clone();
+    }
+
+    /**
+     * 쿼리를 제공합니다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     */
+    public String getQuery() {
+        return this.query;
+    }
+
+    /**
+     * @see java.lang.Object#hashCode()
+     */
+    @Override
+    public int hashCode() {
+        return this.hash;
+    }
+
+    /**
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+        return String.format("query=%s, params=%s, entity=%s, columns=%s", this.query, Arrays.deepToString(this.params), this.entity.getName(), Arrays.toString(this.columns));
+    }
+}
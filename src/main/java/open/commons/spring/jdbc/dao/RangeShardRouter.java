@@ -0,0 +1,131 @@
+/*
+ * Copyright 2026 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/*
+ *
+ * This file is generated under this project, "open-commons-spring-jdbc".
+ *
+ * Date  : 2026. 10. 18. 오후 8:41:19
+ *
+ * Author: parkjunhong77@gmail.com
+ * 
+ */
+
+package open.commons.spring.jdbc.dao;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.NotNull;
+
+/**
+ * Shard Key의 범위를 이용하여 Shard를 결정하는 클래스.<br>
+ * <code>n</code> 개의 경계값으로 <code>n + 1</code> 개의 Shard를 구분하며, Shard Key 보다 작거나 같은 경계값의 개수가 Shard 순서입니다.<br>
+ * 여러 개의 컬럼으로 구성된 Shard Key는 첫번째 값을 사용합니다.
+ *
+ * <pre>
+ * 경계값: [1000, 2000]
+ * - Shard 0: key &lt; 1000
+ * - Shard 1: 1000 &lt;= key &lt; 2000
+ * - Shard 2: 2000 &lt;= key
+ * </pre>
+ *
+ * @since 2026. 10. 18.
+ * @version 0.6.0
+ * @author parkjunhong77@gmail.com
+ */
+public class RangeShardRouter implements IShardRouter {
+
+    /** 오름차순으로 정렬된 경계값 */
+    private final List<Object> bounds;
+
+    /**
+     * <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @param bounds
+     *            오름차순으로 정렬된 경계값. ({@link Comparable})
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     */
+    public RangeShardRouter(@NotNull @NotEmpty List<?> bounds) {
+        if (bounds.isEmpty()) {
+            throw new IllegalArgumentException("경계값이 존재하지 않습니다.");
+        }
+        for (int i = 1; i < bounds.size(); i++) {
+            if (compare(bounds.get(i - 1), bounds.get(i)) >= 0) {
+                throw new IllegalArgumentException(String.format("경계값은 오름차순으로 정렬되어야 합니다. [%s]=%s, [%s]=%s", i - 1, bounds.get(i - 1), i, bounds.get(i)));
+            }
+        }
+        this.bounds = Collections.unmodifiableList(new ArrayList<>(bounds));
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private static int compare(Object o1, Object o2) {
+        if (o1 instanceof Number && o2 instanceof Number) {
+            return new BigDecimal(o1.toString()).compareTo(new BigDecimal(o2.toString()));
+        } else if (o1 instanceof Comparable) {
+            return ((Comparable) o1).compareTo(o2);
+        } else {
+            throw new IllegalArgumentException(String.format("비교할 수 없는 타입입니다. type=%s", o1 != null ? o1.getClass() : null));
+        }
+    }
+
+    /**
+     * @see open.commons.spring.jdbc.dao.IShardRouter#route(java.lang.Object, int)
+     */
+    @Override
+    public int route(@NotNull Object key, @Min(1) int shardCount) {
+        if (shardCount != this.bounds.size() + 1) {
+            throw new IllegalArgumentException(String.format("Shard 개수가 경계값 개수와 맞지 않습니다. Shard 개수=%s, 경계값 개수=%s", shardCount, this.bounds.size()));
+        }
+
+        if (key instanceof Object[]) {
+            key = ((Object[]) key)[0];
+        } else if (key instanceof Collection) {
+            Iterator<?> itr = ((Collection<?>) key).iterator();
+            key = itr.hasNext() ? itr.next() : null;
+        }
+
+        // 경계값 이진 탐색
+        int low = 0;
+        int high = this.bounds.size();
+        int mid = 0;
+        while (low < high) {
+            mid = (low + high) >>> 1;
+            if (compare(key, this.bounds.get(mid)) >= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright 2026 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/*
+ *
+ * This file is generated under this project, "open-commons-spring-jdbc".
+ *
+ * Date  : 2026. 10. 18. 오후 11:52:37
+ *
+ * Author: parkjunhong77@gmail.com
+ * 
+ */
+
+package open.commons.spring.jdbc.dao;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import javax.validation.constraints.NotNull;
+
+/**
+ * 동시에 요청된 동일한 작업을 1번만 실행하고, 실행 결과를 모든 요청에 제공하는 클래스.<br>
+ * 식별자가 같은 작업이 실행 중인 경우 새로운 요청은 작업을 실행하지 않고 실행 중인 작업의 결과를 기다립니다. 작업이 완료되면 식별자는 삭제되므로, 이후의 요청은 작업을 다시
+ * 실행합니다.
+ *
+ * @param <K>
+ *            작업 식별자 타입
+ * @param <V>
+ *            작업 결과 타입
+ *
+ * @since 2026. 10. 18.
+ * @version 0.6.0
+ * @author parkjunhong77@gmail.com
+ */
+public class SingleFlight<K, V> {
+
+    /** 실행 중인 작업 */
+    private final ConcurrentMap<K, CompletableFuture<V>> flights = new ConcurrentHashMap<>();
+
+    /**
+     * <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     */
+    public SingleFlight() {
+    }
+
+    /**
+     * 작업을 실행하거나, 동일한 작업이 실행 중인 경우 실행 결과를 기다립니다. <br>
+     * 작업이 실패한 경우 작업을 기다리던 모든 요청에 동일한 예외가 발생합니다.<br>
+     * 실행 중인 작업의 결과를 기다리는 시간이 초과된 경우 실행 중인 작업이 응답하지 않는 것으로 판단하여 식별자를 삭제하므로, 이후의 요청은 작업을 다시 실행합니다. (실행 중인
+     * 작업은 중단되지 않으며, 작업이 완료되면 이미 기다리고 있던 요청에 결과를 제공합니다.)
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * 2026. 10. 18.        박준홍         기다리는 시간이 초과된 경우 실행 중인 작업 식별자 삭제
+     * </pre>
+     *
+     * @param key
+     *            작업 식별자
+     * @param task
+     *            작업
+     * @param timeout
+     *            실행 중인 작업의 결과를 기다리는 시간. 0 이하인 경우 제한하지 않음.
+     * @param unit
+     *            기다리는 시간 단위
+     * @return
+     * @throws TimeoutException
+     *             실행 중인 작업의 결과를 기다리는 시간이 초과된 경우
+     * @throws InterruptedException
+     *             실행 중인 작업의 결과를 기다리는 도중에 중단된 경우
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     */
+    public V execute(@NotNull K key, @NotNull Supplier<V> task, long timeout, @NotNull TimeUnit unit) throws TimeoutException, InterruptedException {
+        CompletableFuture<V> created = new CompletableFuture<>();
+        CompletableFuture<V> flight = this.flights.putIfAbsent(key, created);
+
+        // 실행 중인 작업이 없는 경우
+        if (flight == null) {
+            try {
+                V value = task.get();
+                created.complete(value);
+                return value;
+            } catch (RuntimeException | Error e) {
+                created.completeExceptionally(e);
+                throw e;
+            } finally {
+                this.flights.remove(key, created);
+            }
+        }
+
+        try {
+            return timeout > 0 ? flight.get(timeout, unit) : flight.get();
+        } catch (TimeoutException e) {
+            // 응답하지 않는 작업이 식별자를 계속 점유하지 않도록 삭제
+            this.flights.remove(key, flight);
+            throw e;
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            } else {
+                throw new IllegalStateException(cause);
+            }
+        }
+    }
+
+    /**
+     * 실행 중인 작업 개수를 제공합니다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     */
+    public int size() {
+        return this.flights.size();
+    }
+}
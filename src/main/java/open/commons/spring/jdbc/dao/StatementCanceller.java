@@ -0,0 +1,165 @@
+/*
+ * Copyright 2026 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/*
+ *
+ * This file is generated under this project, "open-commons-spring-jdbc".
+ *
+ * Date  : 2026. 10. 18. 오후 7:02:33
+ *
+ * Author: parkjunhong77@gmail.com
+ * 
+ */
+
+package open.commons.spring.jdbc.dao;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import open.commons.core.function.SQLConsumer;
+
+/**
+ * 실행 중인 {@link Statement}를 취소하기 위한 클래스.<br>
+ * 파라미터 설정 함수({@link #wrap(SQLConsumer)})를 통해 쿼리를 실행하는 {@link Statement}를 등록하고, {@link #cancel()} 호출시
+ * {@link Statement#cancel()}을 호출합니다.<br>
+ * 취소된 이후에 등록되는 {@link Statement}는 실행되지 않습니다.
+ *
+ * @since 2026. 10. 18.
+ * @version 0.6.0
+ * @author parkjunhong77@gmail.com
+ */
+public class StatementCanceller {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(StatementCanceller.class);
+
+    /** 등록된 {@link Statement} */
+    private final Queue<Statement> statements = new ConcurrentLinkedQueue<>();
+    /** 취소 여부 */
+    private volatile boolean cancelled;
+
+    /**
+     * <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     */
+    public StatementCanceller() {
+    }
+
+    /**
+     * 등록된 {@link Statement}의 실행을 취소합니다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     */
+    public void cancel() {
+        this.cancelled = true;
+
+        Statement stmt = null;
+        while ((stmt = this.statements.poll()) != null) {
+            cancel(stmt);
+        }
+    }
+
+    private static void cancel(Statement stmt) {
+        try {
+            if (!stmt.isClosed()) {
+                stmt.cancel();
+            }
+        } catch (SQLException e) {
+            LOGGER.debug("Fail to cancel a statement. cause={}", e.getMessage());
+        }
+    }
+
+    /**
+     * 취소 여부를 제공합니다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     */
+    public boolean isCancelled() {
+        return this.cancelled;
+    }
+
+    /**
+     * 쿼리 파라미터를 설정하기 전에 {@link PreparedStatement}를 등록하는 함수를 제공합니다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @param setter
+     *            쿼리 파라미터 설정 함수
+     * @return
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     */
+    public SQLConsumer<PreparedStatement> wrap(SQLConsumer<PreparedStatement> setter) {
+        return pstmt -> {
+            if (this.cancelled) {
+                throw new SQLException("요청이 취소되었습니다.");
+            }
+
+            this.statements.add(pstmt);
+            // 등록하는 중에 취소된 경우
+            if (this.cancelled) {
+                cancel(pstmt);
+            }
+
+            if (setter != null) {
+                setter.accept(pstmt);
+            }
+        };
+    }
+}
@@ -35,6 +35,7 @@ import javax.validation.constraints.NotNull;
 import open.commons.core.Result;
 import open.commons.core.function.SQLTripleFunction;
 import open.commons.spring.jdbc.dao.AbstractSingleDataSourceDao;
+import open.commons.spring.jdbc.view.mariadb.MariadbCommons;
 
 /**
  * 하나의 Mariadb DBMS와 연동하는 객체.
@@ -77,4 +78,17 @@ public abstract class AbstractMariadbGenericDao extends AbstractSingleDataSource
             @NotNull String headerQuery, @NotNull String valueQuery) {
         return executeUpdate(data, dataSetter, partitionSize, headerQuery, valueQuery, ",", "");
     }
+
+    /**
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     *
+     * @see open.commons.spring.jdbc.dao.AbstractGenericRetrieve#getStreamFetchSize()
+     */
+    @Override
+    protected int getStreamFetchSize() {
+        return MariadbCommons.STREAM_FETCH_SIZE;
+    }
 }
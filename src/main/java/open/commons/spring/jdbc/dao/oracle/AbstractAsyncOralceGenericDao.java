@@ -26,8 +26,10 @@
 
 package open.commons.spring.jdbc.dao.oracle;
 
+import java.sql.PreparedStatement;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.Executor;
 import java.util.function.Supplier;
 
 import javax.validation.constraints.NotNull;
@@ -37,6 +39,7 @@ import open.commons.core.function.SQLConsumer;
 import open.commons.core.test.StopWatch;
 import open.commons.core.utils.ArrayUtils;
 import open.commons.spring.jdbc.dao.IAsyncSupportable;
+import open.commons.spring.jdbc.dao.StatementCanceller;
 
 /**
  * 
@@ -62,6 +65,16 @@ public abstract class AbstractAsyncOralceGenericDao extends AbstractOracleGeneri
     public AbstractAsyncOralceGenericDao() {
     }
 
+    /**
+     * {@link #getThreadPoolExecutor()}를 제공합니다.
+     * 
+     * @see open.commons.spring.jdbc.dao.AbstractGenericRetrieve#getAsyncExecutor()
+     */
+    @Override
+    protected Executor getAsyncExecutor() {
+        return getThreadPoolExecutor();
+    }
+
     /**
      * @see open.commons.spring.jdbc.dao.IAsyncSupportable#getList(java.lang.String, int, int, java.lang.Class,
      *      java.util.function.Supplier, java.util.function.Supplier)
@@ -69,6 +82,16 @@ public abstract class AbstractAsyncOralceGenericDao extends AbstractOracleGeneri
     @Override
     public <E> Result<List<E>> getList(@NotNull String query, int offset, int fetch, @NotNull Class<E> dataType, @NotNull Supplier<Object[]> params,
             @NotNull Supplier<String[]> columns) throws NullPointerException, IllegalArgumentException {
+        return getList(query, offset, fetch, dataType, params, columns, null);
+    }
+
+    /**
+     * @see open.commons.spring.jdbc.dao.IAsyncSupportable#getList(java.lang.String, int, int, java.lang.Class,
+     *      java.util.function.Supplier, java.util.function.Supplier, open.commons.spring.jdbc.dao.StatementCanceller)
+     */
+    @Override
+    public <E> Result<List<E>> getList(@NotNull String query, int offset, int fetch, @NotNull Class<E> dataType, @NotNull Supplier<Object[]> params,
+            @NotNull Supplier<String[]> columns, StatementCanceller canceller) throws NullPointerException, IllegalArgumentException {
         StringBuffer extendedQuery = new StringBuffer(query);
         extendedQuery.append(' ');
         extendedQuery.append(" OFFSET ? ROWS FETCH NEXT ? ROWS ONLY");
@@ -81,7 +104,8 @@ public abstract class AbstractAsyncOralceGenericDao extends AbstractOracleGeneri
         StopWatch watch = new StopWatch();
         watch.start();
 
-        Result<List<E>> result = getList(extendedQuery.toString(), SQLConsumer.setParameters(parameters), dataType, columns.get());
+        SQLConsumer<PreparedStatement> setter = SQLConsumer.setParameters(parameters);
+        Result<List<E>> result = getList(extendedQuery.toString(), canceller != null ? canceller.wrap(setter) : setter, dataType, columns.get());
 
         watch.stop();
         // end - 성능 측정
@@ -35,6 +35,7 @@ import javax.validation.constraints.NotNull;
 import open.commons.core.Result;
 import open.commons.core.function.SQLTripleFunction;
 import open.commons.spring.jdbc.dao.AbstractMultiDataSourceDao;
+import open.commons.spring.jdbc.view.oracle.OracleCommons;
 
 /**
  * 여러 개의 DBMS 연동을 지원.
@@ -70,4 +71,32 @@ public abstract class AbstractOracleMultiDataSourceDao extends AbstractMultiData
             @NotNull String valueQuery) {
         return super.executeUpdate(data, dataSetter, partitionSize, "INSERT ALL ", valueQuery, " SELECT 1 FROM DUAL");
     }
+
+    /**
+     * 여러 개의 데이터를 'INSERT ALL'로 추가하기 때문에 'INSERT ALL'의 제한을 따릅니다.
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     *
+     * @see open.commons.spring.jdbc.dao.AbstractGenericRetrieve#getMaxBindParameters()
+     */
+    @Override
+    protected int getMaxBindParameters() {
+        return OracleCommons.MAX_INSERT_ALL_BIND_PARAMETERS;
+    }
+
+    /**
+     * 'IN' 목록은 'INSERT ALL'과 별도로 1,000개로 제한됩니다. (ORA-01795)
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     *
+     * @see open.commons.spring.jdbc.dao.AbstractGenericRetrieve#getMaxInListSize()
+     */
+    @Override
+    protected int getMaxInListSize() {
+        return OracleCommons.MAX_IN_LIST_SIZE;
+    }
 }
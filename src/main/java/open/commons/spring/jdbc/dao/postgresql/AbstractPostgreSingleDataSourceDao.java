@@ -32,6 +32,7 @@ import open.commons.core.Result;
 import open.commons.core.function.SQLConsumer;
 import open.commons.core.utils.ArrayUtils;
 import open.commons.spring.jdbc.dao.AbstractSingleDataSourceDao;
+import open.commons.spring.jdbc.view.postgresql.PgSqlCommons;
 
 /**
  * PostgreSQL 연동 DAO 상위 클래스.
@@ -57,6 +58,33 @@ public abstract class AbstractPostgreSingleDataSourceDao extends AbstractSingleD
     public AbstractPostgreSingleDataSourceDao() {
     }
 
+    /**
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     *
+     * @see open.commons.spring.jdbc.dao.AbstractGenericRetrieve#getMaxBindParameters()
+     */
+    @Override
+    protected int getMaxBindParameters() {
+        return PgSqlCommons.MAX_BIND_PARAMETERS;
+    }
+
+    /**
+     * 'IN' 목록의 값은 모두 파라미터이므로 최대 파라미터 개수를 따릅니다.
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     *
+     * @see open.commons.spring.jdbc.dao.AbstractGenericRetrieve#getMaxInListSize()
+     */
+    @Override
+    protected int getMaxInListSize() {
+        return PgSqlCommons.MAX_IN_LIST_SIZE;
+    }
+
     /**
      * 
      * <br>
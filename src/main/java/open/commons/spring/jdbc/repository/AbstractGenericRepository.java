@@ -26,15 +26,22 @@
 
 package open.commons.spring.jdbc.repository;
 
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -42,6 +49,9 @@ import javax.validation.constraints.Min;
 import javax.validation.constraints.NotEmpty;
 import javax.validation.constraints.NotNull;
 
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
 import open.commons.core.Result;
 import open.commons.core.annotation.ColumnDef;
 import open.commons.core.annotation.ColumnValue;
@@ -55,8 +65,11 @@ import open.commons.core.utils.ArrayUtils;
 import open.commons.core.utils.ExceptionUtils;
 import open.commons.core.utils.SQLUtils;
 import open.commons.spring.jdbc.dao.DefaultConnectionCallback2;
+import open.commons.spring.jdbc.dao.PreparedStatementCache;
 import open.commons.spring.jdbc.exception.RuntimeDataAccessException;
 import open.commons.spring.jdbc.view.AbstractGenericView;
+import open.commons.spring.jdbc.view.EntityCache;
+import open.commons.spring.jdbc.view.QueryResultCache;
 
 /**
  * DBMS Table Entity에 기반하여 공통 기능을 제공하는 클래스.
@@ -74,6 +87,13 @@ import open.commons.spring.jdbc.view.AbstractGenericView;
  */
 public abstract class AbstractGenericRepository<T> extends AbstractGenericView<T> implements IGenericRepository<T> {
 
+    /**
+     * JDBC Batch 방식으로 데이터를 추가하는 경우 한번에 전송할 데이터 기본 개수.
+     * 
+     * @see #getBatchSize()
+     */
+    protected static final int DEFAULT_BATCH_SIZE = 1000;
+
     /**
      * 1개의 데이터를 추가하는 쿼리.<br>
      * 패턴:
@@ -109,6 +129,33 @@ public abstract class AbstractGenericRepository<T> extends AbstractGenericView<T
      */
     protected final String QUERY_FOR_PARTITION_TAIL;
 
+    /**
+     * 여러 개의 데이터를 추가하거나 이미 존재하는 경우 아무런 동작을 하지 않는 쿼리<br>
+     * key: 데이터 개수
+     * 
+     * @since 2026. 10. 18.
+     * @see #createQueryForInsertOrIgnore(int)
+     */
+    private final ConcurrentMap<Integer, String> queriesForInsertOrIgnore = new ConcurrentHashMap<>();
+    /**
+     * 여러 개의 데이터를 추가하거나 이미 존재하는 경우 갱신하는 쿼리<br>
+     * key: 데이터 개수
+     * 
+     * @since 2026. 10. 18.
+     * @see #createQueryForUpsert(int)
+     */
+    private final ConcurrentMap<Integer, String> queriesForUpsert = new ConcurrentHashMap<>();
+
+    /**
+     * 여러 개의 데이터를 1개의 쿼리로 처리하는 경우 분할 크기 계산.<br>
+     * 재정의 가능한 설정값을 사용하기 때문에 최초 사용 시점에 생성합니다.
+     * 
+     * @since 2026. 10. 18.
+     * @see #getPartitionSize(List)
+     * @see #getPartitionSizePlanner()
+     */
+    private volatile PartitionSizePlanner partitionSizePlanner;
+
     /**
      * 데이터를 삭제하는 쿼리의 테이블 선언 관련 쿼리<br>
      * 패턴: <code>DELETE FROM {table-name}</code>
@@ -173,6 +220,7 @@ public abstract class AbstractGenericRepository<T> extends AbstractGenericView<T
      *      날짜      | 작성자   |   내용
      * ------------------------------------------
      * 2023. 8. 24.     박준홍         최초 작성
+     * 2026. 10. 18.        박준홍         분할 크기 계산 객체 추가
      * </pre>
      *
      * @param entityType
@@ -198,7 +246,6 @@ public abstract class AbstractGenericRepository<T> extends AbstractGenericView<T
 
         this.QUERY_FOR_DELETE_HEADER = queryForDeleteHeader();
         this.QUERY_FOR_UPDATE_HEADER = queryForUpdateHeader();
-
     }
 
     /**
@@ -552,6 +599,29 @@ public abstract class AbstractGenericRepository<T> extends AbstractGenericView<T
         return data;
     }
 
+    /**
+     * 여러 개의 데이터를 추가하거나 이미 존재하는 경우 아무런 동작을 하지 않는 쿼리를 제공합니다. <br>
+     * 데이터별 파라미터는 {@link #getColumnValues(Object, String...)}의 순서로 연속해서 설정됩니다.
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @param rowCount
+     *            데이터 개수
+     * @return
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     * 
+     * @see #insertOrIgnore(List, int)
+     */
+    protected abstract String createQueryForInsertOrIgnore(@Min(1) int rowCount);
+
     /**
      * 데이터 생성에 사용될 Query를 제공합니다. <br>
      * 
@@ -602,6 +672,66 @@ public abstract class AbstractGenericRepository<T> extends AbstractGenericView<T
      */
     protected abstract String createQueryForInsertOrUpdate(T data, @NotNull Method method, Object... whereArgs);
 
+    /**
+     * 여러 개의 데이터를 추가하는 쿼리를 제공합니다. <br>
+     * 패턴: <code>{@link #QUERY_FOR_PARTITION_HEADER} {@link #QUERY_FOR_PARTITION_VALUE} ( {@link #QUERY_FOR_PARTITION_CONCAT_VQ} {@link #QUERY_FOR_PARTITION_VALUE} )* {@link #QUERY_FOR_PARTITION_TAIL}</code>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @param rowCount
+     *            데이터 개수
+     * @return
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     */
+    protected final String createQueryForPartitionInsert(@Min(1) int rowCount) {
+        StringBuffer queryBuf = new StringBuffer();
+
+        queryBuf.append(QUERY_FOR_PARTITION_HEADER);
+        queryBuf.append(" ");
+        queryBuf.append(QUERY_FOR_PARTITION_VALUE);
+        queryBuf.append(" ");
+        for (int i = 1; i < rowCount; i++) {
+            queryBuf.append(QUERY_FOR_PARTITION_CONCAT_VQ);
+            queryBuf.append(" ");
+            queryBuf.append(QUERY_FOR_PARTITION_VALUE);
+            queryBuf.append(" ");
+        }
+        queryBuf.append(QUERY_FOR_PARTITION_TAIL);
+
+        return queryBuf.toString().trim();
+    }
+
+    /**
+     * 여러 개의 데이터를 추가하거나 이미 존재하는 경우 설정된 데이터를 갱신하는 쿼리를 제공합니다. <br>
+     * 데이터별 파라미터는 {@link #getColumnValues(Object, String...)}의 순서로 연속해서 설정됩니다.
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @param rowCount
+     *            데이터 개수
+     * @return
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     * 
+     * @see #upsert(List, int)
+     */
+    protected abstract String createQueryForUpsert(@Min(1) int rowCount);
+
     /**
      * 주어진 컬럼값을 변경하는 'Set' 구문을 제공합니다. <br>
      * 패턴: <code>SET {column} = ? (, {column} = ? )*</code>
@@ -642,6 +772,7 @@ public abstract class AbstractGenericRepository<T> extends AbstractGenericView<T
      *      날짜      | 작성자   |   내용
      * ------------------------------------------
      * 2021. 11. 29.        박준홍         최초 작성
+     * 2026. 10. 18.        박준홍         Primary Key 조회 데이터 캐시 삭제
      * </pre>
      *
      * @param <V>
@@ -661,7 +792,11 @@ public abstract class AbstractGenericRepository<T> extends AbstractGenericView<T
 
         logger.debug("Query: {}, data={}", query, Arrays.toString(whereArgs));
 
-        return executeUpdate(query, SQLConsumer.setParameters(whereArgs));
+        try {
+            return executeUpdate(query, SQLConsumer.setParameters(whereArgs));
+        } finally {
+            evictEntities(null);
+        }
     }
 
     /**
@@ -688,6 +823,209 @@ public abstract class AbstractGenericRepository<T> extends AbstractGenericView<T
         return deleteBy(getCurrentMethod(1, whereArgs), whereArgs);
     }
 
+    /**
+     * 여러 개의 데이터를 1개의 쿼리로 추가하는 경우 데이터 1건당 쿼리 크기(bytes)를 추정합니다. <br>
+     * 최대 16개의 데이터를 고르게 선택하여 가장 큰 값을 사용합니다.
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @param data
+     *            데이터
+     * @return 데이터가 없는 경우 0
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     */
+    private long estimateRowBytes(@NotNull List<T> data) {
+        if (data.isEmpty()) {
+            return 0;
+        }
+
+        final int SAMPLE_SIZE = 16;
+        int step = Math.max(1, data.size() / SAMPLE_SIZE);
+        long bytes = 0;
+        for (int i = 0; i < data.size(); i += step) {
+            bytes = Math.max(bytes, PartitionSizePlanner.estimateBytes(getColumnValues(data.get(i))));
+        }
+
+        return bytes + QUERY_FOR_PARTITION_VALUE.length() + QUERY_FOR_PARTITION_CONCAT_VQ.length() + 2;
+    }
+
+    /**
+     * 변경된 데이터를 Primary Key 조회 데이터 캐시({@link #entityCache})에서 삭제합니다. <br>
+     * 트랜잭션이 진행 중인 경우, 트랜잭션이 종료(Commit/Rollback)된 이후에 다시 삭제하여 트랜잭션 도중에 다른 요청이 조회한 데이터가 남지 않도록 합니다.
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * 2026. 10. 18.        박준홍         트랜잭션 종료 후 실행 기능 분리
+     * </pre>
+     *
+     * @param data
+     *            변경된 데이터. <code>null</code>인 경우 변경된 데이터를 알 수 없으므로 캐시를 모두 삭제합니다.
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     */
+    protected void evictEntities(Collection<T> data) {
+        EntityCache<T> cache = getEntityCache();
+        if (cache == null) {
+            return;
+        }
+
+        runNowAndAfterCompletion(data == null //
+                ? cache::clear //
+                : () -> data.forEach(datum -> cache.remove(EntityCache.key(getColumnValues(datum, getPrimaryKeyColumns())))));
+    }
+
+    /**
+     * 누적된 Batch 쿼리를 실행하고, 데이터별 처리 결과를 설정합니다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @param pstmt
+     * @param updated
+     *            데이터별 처리 결과
+     * @param pos
+     *            처리 결과를 설정할 시작 위치
+     * @return 다음 처리 결과를 설정할 위치
+     * @throws SQLException
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     */
+    private int executeBatch(@NotNull PreparedStatement pstmt, @NotNull int[] updated, int pos) throws SQLException {
+        int[] counts = pstmt.executeBatch();
+        System.arraycopy(counts, 0, updated, pos, counts.length);
+        pstmt.clearBatch();
+        return pos + counts.length;
+    }
+
+    /**
+     * 여러 개의 데이터를 나누어 데이터 개수별 쿼리로 처리합니다. <br>
+     * Primary Key가 동일한 데이터가 여러 개인 경우 1개만 처리합니다. (DBMS에 따라 하나의 쿼리에서 동일한 데이터를 여러 번 변경할 수 없음)
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * 2026. 10. 18.        박준홍         최대 파라미터 개수, 최대 쿼리 크기에 따른 분할 크기 조정, 실행 시간 기록
+     * </pre>
+     *
+     * @param data
+     *            데이터
+     * @param partitionSize
+     *            한번에 처리할 데이터 개수
+     * @param keepLast
+     *            Primary Key가 동일한 데이터 중 마지막 데이터 사용 여부. (<code>false</code>인 경우 첫번째 데이터 사용)
+     * @param queryProvider
+     *            데이터 개수별 쿼리 제공 함수
+     * @return
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     */
+    private Result<Integer> executeMultiRow(List<T> data, int partitionSize, boolean keepLast, IntFunction<String> queryProvider) {
+        if (partitionSize < 1) {
+            throw ExceptionUtils.newException(IllegalArgumentException.class, "분할 크기는 0보다 커야 합니다. 입력값=%s", partitionSize);
+        } else if (data == null || data.isEmpty()) {
+            return new Result<>(0, true);
+        }
+
+        // #1. Primary Key 기준 중복 제거
+        List<T> rows = data;
+        List<String> pkColumns = getPrimaryKeyColumns();
+        if (!pkColumns.isEmpty()) {
+            Map<List<Object>, T> unique = new LinkedHashMap<>();
+            Object[] pk = null;
+            for (T datum : data) {
+                pk = getColumnValues(datum, pkColumns);
+                // Primary Key 값을 확인할 수 없는 경우 중복 제거를 하지 않음.
+                if (pk.length != pkColumns.size()) {
+                    unique = null;
+                    break;
+                }
+                if (keepLast) {
+                    unique.put(Arrays.asList(pk), datum);
+                } else {
+                    unique.putIfAbsent(Arrays.asList(pk), datum);
+                }
+            }
+            if (unique != null && unique.size() < data.size()) {
+                rows = new ArrayList<>(unique.values());
+            }
+        }
+
+        // #2. 데이터 개수별 쿼리 생성
+        partitionSize = getSafePartitionSize(partitionSize, rows, getMaxBindParametersForUpsert());
+        List<ConnectionCallbackBroker2<SQLConsumer<PreparedStatement>>> brokers = new ArrayList<>();
+        List<T> part = null;
+        List<Object> params = null;
+        for (int from = 0; from < rows.size(); from += partitionSize) {
+            part = rows.subList(from, Math.min(from + partitionSize, rows.size()));
+            params = new ArrayList<>();
+            for (T datum : part) {
+                params.addAll(Arrays.asList(getColumnValues(datum)));
+            }
+            brokers.add(new DefaultConCallbackBroker2(queryProvider.apply(part.size()), SQLConsumer.setParameters(params.toArray()), false));
+        }
+
+        logger.debug("data.size={}, partition.size={}, query.count={}", rows.size(), partitionSize, brokers.size());
+
+        long startedAt = System.nanoTime();
+        Result<Integer> result = executeUpdate(brokers.toArray(new DefaultConCallbackBroker2[0]));
+        recordPartitionLatency(rows.size(), brokers.size(), System.nanoTime() - startedAt);
+
+        return result;
+    }
+
+    /**
+     * 분할된 데이터를 추가합니다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @param pstmt
+     *            데이터 개수에 맞는 다중 데이터 추가 쿼리
+     * @param part
+     *            분할된 데이터
+     * @return 추가된 데이터 개수
+     * @throws SQLException
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     */
+    private int executePartitionInsert(@NotNull PreparedStatement pstmt, @NotNull List<T> part) throws SQLException {
+        List<Object> params = new ArrayList<>();
+        for (T datum : part) {
+            params.addAll(Arrays.asList(getColumnValues(datum)));
+        }
+        SQLConsumer.setParameters(params.toArray()).accept(pstmt);
+        return pstmt.executeUpdate();
+    }
+
     /**
      * 단일/다중 (Insert/Update/Delete) 쿼리 요청을 처리합니다.<br>
      * 
@@ -696,6 +1034,9 @@ public abstract class AbstractGenericRepository<T> extends AbstractGenericView<T
      *      날짜      | 작성자   |   내용
      * ------------------------------------------
      * 2019. 3. 28.     박준홍         최초 작성
+     * 2026. 10. 18.        박준홍         쿼리가 동일한 PreparedStatement 재사용 ({@link PreparedStatementCache})
+     * 2026. 10. 18.        박준홍         조회 결과 캐시 테이블 버전 증가
+     * 2026. 10. 18.        박준홍         Primary Key 조회 데이터 캐시 삭제
      * </pre>
      *
      * @param brokers
@@ -725,10 +1066,10 @@ public abstract class AbstractGenericRepository<T> extends AbstractGenericView<T
                 DefaultConnectionCallback2<E> action = null;
                 int total = 0;
                 int inserted = 0;
-                try {
+                try (PreparedStatementCache statements = new PreparedStatementCache(con)) {
                     for (ConnectionCallbackBroker2<E> broker : brokers) {
                         action = new DefaultConnectionCallback2<E>(broker);
-                        inserted = action.doInConnection(con);
+                        inserted = action.doInConnection(con, statements);
                         total += inserted;
 
                         watch.record("inserted");
@@ -752,6 +1093,10 @@ public abstract class AbstractGenericRepository<T> extends AbstractGenericView<T
         } finally {
             watch.stop();
             logger.trace("Data.count: {}, Elapsed.total: {}", updated, watch.getAsPretty());
+
+            // 쿼리로 변경된 데이터를 알 수 없으므로 모두 삭제
+            evictEntities(null);
+            invalidateQueryResults();
         }
 
         return result;
@@ -962,6 +1307,28 @@ public abstract class AbstractGenericRepository<T> extends AbstractGenericView<T
         return String.join(" = ", getColumnName(cv), cv.variableBinding());
     }
 
+    /**
+     * JDBC Batch 방식으로 여러 개의 데이터를 저장하는 경우 한번에 전송할 데이터 개수를 반환합니다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     * 
+     * @see #insertBatch(List)
+     */
+    protected int getBatchSize() {
+        return DEFAULT_BATCH_SIZE;
+    }
+
     /**
      * {@link ColumnValue#name()}이 기본값 (빈 문자열)일 경우를 {@link Method#getName()}값을 이용하여 컬럼명을 제공합니다.<br>
      * 
@@ -992,193 +1359,728 @@ public abstract class AbstractGenericRepository<T> extends AbstractGenericView<T
     }
 
     /**
-     * 여러 개의 데이터를 저장하는 경우 한번에 저장할 데이터 개수를 반환합니다. <br>
+     * 여러 개의 데이터를 1개의 추가 쿼리({@link #createQueryForPartitionInsert(int)})로 저장하는 경우 쿼리 1개에 설정할 수 있는 최대 파라미터 개수를 제공합니다. <br>
+     * 다중 행 추가 구문에 별도의 제한이 있는 경우 재정의합니다.
      * 
      * <pre>
      * [개정이력]
      *      날짜      | 작성자   |   내용
      * ------------------------------------------
-     * 2021. 11. 26.        박준홍         최초 작성
+     * 2026. 10. 18.        박준홍         최초 작성
      * </pre>
      *
-     * @return
+     * @return 기본값: {@link #getMaxBindParameters()}
      *
-     * @since 2021. 11. 26.
-     * @version 0.3.0
+     * @since 2026. 10. 18.
+     * @version 0.6.0
      * @author parkjunhong77@gmail.com
      */
-    protected int getPartitionSize() {
-        return 100;
+    protected int getMaxBindParametersForInsert() {
+        return getMaxBindParameters();
     }
 
     /**
-     * 변경 대상인 컬럼 목록을 제공합니다.<br>
+     * 여러 개의 데이터를 1개의 쿼리({@link #createQueryForUpsert(int)}, {@link #createQueryForInsertOrIgnore(int)})로 저장하는 경우 쿼리 1개에 설정할 수 있는 최대
+     * 파라미터 개수를 제공합니다. <br>
      * 
      * <pre>
      * [개정이력]
      *      날짜      | 작성자   |   내용
      * ------------------------------------------
-     * 2021. 11. 29.        박준홍         최초 작성
+     * 2026. 10. 18.        박준홍         최초 작성
      * </pre>
      *
-     * @return
+     * @return 기본값: {@link #getMaxBindParameters()}
      *
-     * @since 2021. 11. 29.
-     * @version 0.3.0
+     * @since 2026. 10. 18.
+     * @version 0.6.0
      * @author parkjunhong77@gmail.com
      */
-    protected final List<String> getUpdatableColumnNames() {
-        return getUpdatableColumnsAsStream().map(m -> SQLUtils.getColumnNameByColumnValue(m)).collect(Collectors.toList());
+    protected int getMaxBindParametersForUpsert() {
+        return getMaxBindParameters();
     }
 
     /**
-     * 변경 대상인 컬럼 데이터를 제공하는 {@link Method} 목록을 제공합니다.<br>
+     * 쿼리 1개의 최대 크기(bytes)를 제공합니다. <br>
+     * 여러 개의 데이터를 1개의 쿼리로 저장하는 경우 분할 크기는 추정된 쿼리 크기가 이 값을 넘지 않도록 조정됩니다. DBMS 설정에 따라 재정의합니다.
      * 
      * <pre>
      * [개정이력]
      *      날짜      | 작성자   |   내용
      * ------------------------------------------
-     * 2021. 11. 29.        박준홍         최초 작성
+     * 2026. 10. 18.        박준홍         최초 작성
      * </pre>
      *
-     * @return
+     * @return 기본값: {@link Long#MAX_VALUE}
      *
-     * @since 2021. 11. 29.
-     * @version 0.3.0
+     * @since 2026. 10. 18.
+     * @version 0.6.0
      * @author parkjunhong77@gmail.com
      */
-    protected final List<Method> getUpdatableColumns() {
-        return getUpdatableColumnsAsStream() //
-                .collect(Collectors.toList());
+    protected long getMaxStatementBytes() {
+        return Long.MAX_VALUE;
     }
 
     /**
-     * 변경 대상인 컬럼 데이터를 제공하는 {@link Method} 목록을 {@link Stream}으로 제공합니다.<br>
+     * 여러 개의 데이터를 저장하는 경우 한번에 저장할 데이터 개수를 반환합니다. <br>
      * 
      * <pre>
      * [개정이력]
      *      날짜      | 작성자   |   내용
      * ------------------------------------------
-     * 2021. 12. 14.        박준홍         최초 작성
+     * 2021. 11. 26.        박준홍         최초 작성
      * </pre>
      *
      * @return
      *
-     * @since 2021. 12. 14.
+     * @since 2021. 11. 26.
      * @version 0.3.0
      * @author parkjunhong77@gmail.com
      */
-    protected final Stream<Method> getUpdatableColumnsAsStream() {
-        return getColumnMethods().stream() //
-                .filter(m -> m.getAnnotation(ColumnValue.class).updatable());
+    protected int getPartitionSize() {
+        return 100;
     }
 
     /**
-     * 변경 대상인 컬럼 정보를 {@link Iterator}형태로 제공합니다.<br>
+     * 여러 개의 데이터를 1개의 쿼리로 저장하는 경우 한번에 저장할 데이터 개수를 반환합니다. <br>
+     * 기본 분할 크기({@link #getPartitionSize()})를 사용하되, 아래 조건에 따라 조정됩니다.
+     * <ul>
+     * <li>최대 파라미터 개수({@link #getMaxBindParametersForInsert()}), 최대 쿼리 크기({@link #getMaxStatementBytes()})를 넘지 않는 크기
+     * <li>목표 실행 시간({@link #getPartitionTargetLatency()})이 설정된 경우, 쿼리 실행 시간을 반영한 크기
+     * </ul>
      * 
      * <pre>
      * [개정이력]
      *      날짜      | 작성자   |   내용
      * ------------------------------------------
-     * 2021. 12. 1.     박준홍         최초 작성
+     * 2026. 10. 18.        박준홍         최초 작성
+     * 2026. 10. 18.        박준홍         추가 쿼리 최대 파라미터 개수 적용
      * </pre>
      *
+     * @param data
+     *            저장할 데이터
      * @return
      *
-     * @since 2021. 12. 1.
-     * @version 0.3.0
+     * @since 2026. 10. 18.
+     * @version 0.6.0
      * @author parkjunhong77@gmail.com
      */
-    protected final List<ColumnValue> getUpdatableColumnValues() {
-        return getUpdatableColumnsAsStream().map(m -> m.getAnnotation(ColumnValue.class)) //
-                .collect(Collectors.toList());
+    protected int getPartitionSize(@NotNull List<T> data) {
+        return getPartitionSize(data, getMaxBindParametersForInsert());
     }
 
     /**
-     * 데이터 갱신에 사용될 정보를 제공합니다. <br>
+     * 주어진 최대 파라미터 개수를 넘지 않는 분할 크기를 제공합니다. <br>
      * 
      * <pre>
      * [개정이력]
      *      날짜      | 작성자   |   내용
      * ------------------------------------------
-     * 2021. 12. 1.     박준홍         최초 작성
+     * 2026. 10. 18.        박준홍         최초 작성
      * </pre>
      *
      * @param data
+     *            저장할 데이터
+     * @param maxBindParameters
+     *            쿼리 1개의 최대 파라미터 개수
      * @return
      *
-     * @since 2021. 12. 1.
-     * @version 0.3.0
+     * @since 2026. 10. 18.
+     * @version 0.6.0
      * @author parkjunhong77@gmail.com
      */
-    protected Object[] getUpdateParameters(T data) {
-        return getUpdatableColumns().stream() //
-                .map(m -> {
-                    try {
-                        return m.invoke(data);
-                    } catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
-                        String errMsg = String.format("'%s' 정보를 변경하기 위한 정보를 생성 도중 에러가 발생하였습니다. 원인=%s", data.getClass(), e.getMessage());
-                        logger.error(errMsg, e);
-                        throw new UnsupportedOperationException(errMsg, e);
-                    }
-                }).toArray();
+    private int getPartitionSize(@NotNull List<T> data, int maxBindParameters) {
+        return getPartitionSizePlanner().plan(getPartitionSize(), getColumnNames().size(), estimateRowBytes(data), maxBindParameters);
     }
 
     /**
+     * 분할 크기 계산 객체를 제공합니다. <br>
+     * 재정의 가능한 설정값({@link #getMaxBindParameters()}, {@link #getMaxStatementBytes()}, {@link #getPartitionTargetLatency()})을 사용하기 때문에 생성자가 아닌 최초
+     * 사용 시점에 생성합니다.
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
      *
-     * @since 2021. 11. 26.
-     * @version 0.3.0
-     * @author parkjunhong77@gmail.com
-     *
-     * @see open.commons.spring.jdbc.repository.IGenericRepository#insert(java.util.List)
-     */
-    @Override
-    public Result<Integer> insert(List<T> data) {
-        return insert(data, getPartitionSize());
-    }
-
-    /**
+     * @return
      *
-     * @since 2021. 11. 26.
-     * @version 0.3.0
+     * @since 2026. 10. 18.
+     * @version 0.6.0
      * @author parkjunhong77@gmail.com
-     *
-     * @see open.commons.spring.jdbc.repository.IGenericRepository#insert(java.util.List, int)
      */
-    @Override
-    public Result<Integer> insert(List<T> data, @Min(1) int partitionSize) {
-        ConnectionCallbackBroker2<SQLConsumer<PreparedStatement>>[] brokers = createInsertBrokers(data, partitionSize);
-        return executeUpdate(brokers);
+    private PartitionSizePlanner getPartitionSizePlanner() {
+        PartitionSizePlanner planner = this.partitionSizePlanner;
+        if (planner == null) {
+            synchronized (this) {
+                planner = this.partitionSizePlanner;
+                if (planner == null) {
+                    planner = new PartitionSizePlanner(getMaxBindParameters() //
+                            , Math.max(1, getMaxStatementBytes() - QUERY_FOR_PARTITION_HEADER.length() - QUERY_FOR_PARTITION_TAIL.length()) //
+                            , getPartitionTargetLatency(), TimeUnit.MILLISECONDS);
+                    this.partitionSizePlanner = planner;
+                }
+            }
+        }
+        return planner;
     }
 
     /**
+     * 여러 개의 데이터를 1개의 쿼리로 저장하는 경우 쿼리 1개의 목표 실행 시간(milliseconds)을 제공합니다. <br>
+     * 0보다 큰 경우 쿼리 실행 시간을 기록하고 이후 분할 크기({@link #getPartitionSize(List)})에 반영합니다.
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
      *
-     * @since 2021. 11. 26.
-     * @version 0.3.0
-     * @author parkjunhong77@gmail.com
+     * @return 목표 실행 시간. 0 이하인 경우 실행 시간을 반영하지 않음. (기본값: 0)
      *
-     * @see open.commons.spring.jdbc.repository.IGenericRepository#insert(java.lang.Object)
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
      */
-    @Override
-    public Result<Integer> insert(T data) {
-
-        logger.debug("query={}, data={}", QUERY_FOR_INSERT, data);
-
-        return executeUpdate(QUERY_FOR_INSERT, SQLConsumer.setParameters(data));
+    protected long getPartitionTargetLatency() {
+        return 0;
     }
 
     /**
-     * 데이터를 추가하거나 이미 존재하는 경우 아무런 동작을 하지 않습니다.<br>
+     * 최대 파라미터 개수, 최대 쿼리 크기를 넘지 않는 분할 크기를 제공합니다. <br>
      * 
      * <pre>
      * [개정이력]
      *      날짜      | 작성자   |   내용
      * ------------------------------------------
-     * 2022. 11. 2.     박준홍         최초 작성
+     * 2026. 10. 18.        박준홍         최초 작성
+     * 2026. 10. 18.        박준홍         쿼리별 최대 파라미터 개수 적용
      * </pre>
      *
-     * @param data
-     *            추가할 데이터
+     * @param partitionSize
+     *            요청된 분할 크기
+     * @param sample
+     *            쿼리 크기를 추정할 데이터
+     * @param maxBindParameters
+     *            쿼리 1개의 최대 파라미터 개수
+     * @return
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     */
+    private int getSafePartitionSize(int partitionSize, @NotNull List<T> sample, int maxBindParameters) {
+        int maxRows = getPartitionSizePlanner().getMaxRows(getColumnNames().size(), estimateRowBytes(sample), maxBindParameters);
+        if (partitionSize > maxRows) {
+            logger.warn("분할 크기가 최대 파라미터 개수 또는 최대 쿼리 크기를 초과하여 조정합니다. partition.size={} -> {}", partitionSize, maxRows);
+            return maxRows;
+        }
+        return partitionSize;
+    }
+
+    /**
+     * 여러 개의 데이터를 추가하거나 이미 존재하는 경우 아무런 동작을 하지 않는 쿼리를 제공합니다. <br>
+     * 생성된 쿼리는 데이터 개수별로 재사용됩니다.
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @param rowCount
+     *            데이터 개수
+     * @return
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     * 
+     * @see #createQueryForInsertOrIgnore(int)
+     */
+    protected final String getQueryForInsertOrIgnore(@Min(1) int rowCount) {
+        return this.queriesForInsertOrIgnore.computeIfAbsent(rowCount, this::createQueryForInsertOrIgnore);
+    }
+
+    /**
+     * 여러 개의 데이터를 추가하거나 이미 존재하는 경우 갱신하는 쿼리를 제공합니다. <br>
+     * 생성된 쿼리는 데이터 개수별로 재사용됩니다.
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @param rowCount
+     *            데이터 개수
+     * @return
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     * 
+     * @see #createQueryForUpsert(int)
+     */
+    protected final String getQueryForUpsert(@Min(1) int rowCount) {
+        return this.queriesForUpsert.computeIfAbsent(rowCount, this::createQueryForUpsert);
+    }
+
+    /**
+     * 변경 대상인 컬럼 목록을 제공합니다.<br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2021. 11. 29.        박준홍         최초 작성
+     * 2026. 10. 18.        박준홍         EntityMetadata 적용
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2021. 11. 29.
+     * @version 0.3.0
+     * @author parkjunhong77@gmail.com
+     */
+    protected final List<String> getUpdatableColumnNames() {
+        return this.entityMetadata.getUpdatableColumnNames();
+    }
+
+    /**
+     * 변경 대상인 컬럼 데이터를 제공하는 {@link Method} 목록을 제공합니다.<br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2021. 11. 29.        박준홍         최초 작성
+     * 2026. 10. 18.        박준홍         EntityMetadata 적용
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2021. 11. 29.
+     * @version 0.3.0
+     * @author parkjunhong77@gmail.com
+     */
+    protected final List<Method> getUpdatableColumns() {
+        return this.entityMetadata.getUpdatableColumns();
+    }
+
+    /**
+     * 변경 대상인 컬럼 데이터를 제공하는 {@link Method} 목록을 {@link Stream}으로 제공합니다.<br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2021. 12. 14.        박준홍         최초 작성
+     * 2026. 10. 18.        박준홍         EntityMetadata 적용
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2021. 12. 14.
+     * @version 0.3.0
+     * @author parkjunhong77@gmail.com
+     */
+    protected final Stream<Method> getUpdatableColumnsAsStream() {
+        return this.entityMetadata.getUpdatableColumns().stream();
+    }
+
+    /**
+     * 변경 대상인 컬럼 정보를 {@link Iterator}형태로 제공합니다.<br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2021. 12. 1.     박준홍         최초 작성
+     * 2026. 10. 18.        박준홍         EntityMetadata 적용
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2021. 12. 1.
+     * @version 0.3.0
+     * @author parkjunhong77@gmail.com
+     */
+    protected final List<ColumnValue> getUpdatableColumnValues() {
+        return this.entityMetadata.getUpdatableColumnValues();
+    }
+
+    /**
+     * 데이터 갱신에 사용될 정보를 제공합니다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2021. 12. 1.     박준홍         최초 작성
+     * 2026. 10. 18.        박준홍         EntityMetadata 적용
+     * </pre>
+     *
+     * @param data
+     * @return
+     *
+     * @since 2021. 12. 1.
+     * @version 0.3.0
+     * @author parkjunhong77@gmail.com
+     */
+    protected Object[] getUpdateParameters(T data) {
+        return this.entityMetadata.getUpdatableColumnValues(data);
+    }
+
+    /**
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     *
+     * @see open.commons.spring.jdbc.repository.IGenericRepository#insert(java.util.Iterator)
+     */
+    @Override
+    public Result<Integer> insert(Iterator<T> data) {
+        return insert(data, getPartitionSize(Collections.emptyList()));
+    }
+
+    /**
+     * 여러 개의 데이터를 분할 크기만큼씩 읽어서 추가합니다. <br>
+     * {@link #insert(List, int)}와 달리 전체 데이터에 대한 쿼리를 미리 생성하지 않고, 1개의 분할을 읽고 추가한 후 다음 분할을 읽습니다. 분할 크기의 쿼리는 1번만 준비하여
+     * 재사용하고, 마지막 분할만 데이터 개수에 맞는 쿼리를 사용합니다.<br>
+     * 모든 분할은 1개의 {@link java.sql.Connection}으로 처리되며, 실패한 경우 이전 분할의 반영 여부는 트랜잭션 설정을 따릅니다.
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * 2026. 10. 18.        박준홍         최대 파라미터 개수, 최대 쿼리 크기에 따른 분할 크기 조정, 실행 시간 기록
+     * 2026. 10. 18.        박준홍         Primary Key 조회 데이터 캐시 삭제
+     * 2026. 10. 18.        박준홍         조회 결과 캐시 테이블 버전 증가
+     * </pre>
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     *
+     * @see open.commons.spring.jdbc.repository.IGenericRepository#insert(java.util.Iterator, int)
+     */
+    @Override
+    public Result<Integer> insert(Iterator<T> data, @Min(1) int partitionSize) throws RuntimeDataAccessException {
+        if (partitionSize < 1) {
+            throw ExceptionUtils.newException(IllegalArgumentException.class, "분할 크기는 0보다 커야 합니다. 입력값=%s", partitionSize);
+        }
+
+        logger.debug("query.header={}, query.value={}, query.tail={}, partition.size={}", QUERY_FOR_PARTITION_HEADER, QUERY_FOR_PARTITION_VALUE, QUERY_FOR_PARTITION_TAIL,
+                partitionSize);
+
+        Result<Integer> result = new Result<>();
+
+        StopWatch watch = new StopWatch();
+        watch.start();
+
+        int[] counts = new int[2]; // [0]: 읽은 데이터 개수, [1]: 추가된 데이터 개수
+        try {
+            execute(con -> {
+                List<T> part = new ArrayList<>(partitionSize);
+                PreparedStatement pstmt = null;
+                try {
+                    int size = partitionSize;
+                    long startedAt = 0;
+                    while (data.hasNext()) {
+                        part.add(data.next());
+                        counts[0]++;
+
+                        // 첫번째 데이터로 쿼리 크기 확인
+                        if (counts[0] == 1) {
+                            size = getSafePartitionSize(partitionSize, part, getMaxBindParametersForInsert());
+                        }
+
+                        if (part.size() == size) {
+                            if (pstmt == null) {
+                                pstmt = con.prepareStatement(createQueryForPartitionInsert(size));
+                            }
+                            startedAt = System.nanoTime();
+                            counts[1] += executePartitionInsert(pstmt, part);
+                            recordPartitionLatency(size, 1, System.nanoTime() - startedAt);
+                            part.clear();
+
+                            watch.record("inserted");
+                            logger.trace("Data.count: {}, Elapsed.{}: {}", counts[0], "inserted", watch.getAsPretty("inserted"));
+                        }
+                    }
+
+                    // 마지막 분할
+                    if (!part.isEmpty()) {
+                        try (PreparedStatement last = con.prepareStatement(createQueryForPartitionInsert(part.size()))) {
+                            counts[1] += executePartitionInsert(last, part);
+                        }
+                    }
+                } catch (SQLException e) {
+                    logger.error("data.pos={}, cause={}", counts[0], e.getMessage(), e);
+                    throw e;
+                } finally {
+                    if (pstmt != null) {
+                        pstmt.close();
+                    }
+                }
+
+                return counts[1];
+            });
+
+            result.andTrue().setData(counts[1]);
+
+        } catch (Exception e) {
+            logger.warn(e.getMessage(), e);
+            throw new RuntimeDataAccessException("", e);
+        } finally {
+            watch.stop();
+            logger.trace("Data.count: {}, Elapsed.total: {}", counts[0], watch.getAsPretty());
+
+            evictEntities(null);
+            invalidateQueryResults();
+        }
+
+        return result;
+    }
+
+    /**
+     *
+     * @since 2021. 11. 26.
+     * @version 0.3.0
+     * @author parkjunhong77@gmail.com
+     *
+     * @see open.commons.spring.jdbc.repository.IGenericRepository#insert(java.util.List)
+     */
+    @Override
+    public Result<Integer> insert(List<T> data) {
+        return insert(data, getPartitionSize(data));
+    }
+
+    /**
+     *
+     * @since 2021. 11. 26.
+     * @version 0.3.0
+     * @author parkjunhong77@gmail.com
+     *
+     * @see open.commons.spring.jdbc.repository.IGenericRepository#insert(java.util.List, int)
+     */
+    @Override
+    public Result<Integer> insert(List<T> data, @Min(1) int partitionSize) {
+        ConnectionCallbackBroker2<SQLConsumer<PreparedStatement>>[] brokers = createInsertBrokers(data, getSafePartitionSize(partitionSize, data, getMaxBindParametersForInsert()));
+
+        long startedAt = System.nanoTime();
+        try {
+            Result<Integer> result = executeUpdate(brokers);
+            recordPartitionLatency(data.size(), brokers.length, System.nanoTime() - startedAt);
+            return result;
+        } finally {
+            evictEntities(data);
+        }
+    }
+
+    /**
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     *
+     * @see open.commons.spring.jdbc.repository.IGenericRepository#insert(java.util.stream.Stream)
+     */
+    @Override
+    public Result<Integer> insert(Stream<T> data) {
+        return insert(data.iterator(), getPartitionSize());
+    }
+
+    /**
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     *
+     * @see open.commons.spring.jdbc.repository.IGenericRepository#insert(java.util.stream.Stream, int)
+     * @see #insert(Iterator, int)
+     */
+    @Override
+    public Result<Integer> insert(Stream<T> data, @Min(1) int partitionSize) {
+        return insert(data.iterator(), partitionSize);
+    }
+
+    /**
+     *
+     * @since 2021. 11. 26.
+     * @version 0.3.0
+     * @author parkjunhong77@gmail.com
+     *
+     * @see open.commons.spring.jdbc.repository.IGenericRepository#insert(java.lang.Object)
+     */
+    @Override
+    public Result<Integer> insert(T data) {
+
+        logger.debug("query={}, data={}", QUERY_FOR_INSERT, data);
+
+        try {
+            return executeUpdate(QUERY_FOR_INSERT, SQLConsumer.setParameters(data));
+        } finally {
+            evictEntities(Collections.singletonList(data));
+        }
+    }
+
+    /**
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     *
+     * @see open.commons.spring.jdbc.repository.IGenericRepository#insertBatch(java.util.List)
+     */
+    @Override
+    public Result<int[]> insertBatch(List<T> data) {
+        return insertBatch(data, getBatchSize());
+    }
+
+    /**
+     * 단건 추가 쿼리({@link #QUERY_FOR_INSERT})를 1번만 준비하고, {@link PreparedStatement#addBatch()},
+     * {@link PreparedStatement#executeBatch()}를 이용하여 데이터를 추가합니다.<br>
+     * {@link #insert(List, int)}와 달리 쿼리가 데이터 개수와 상관없이 동일하기 때문에 DBMS의 실행계획을 재사용할 수 있고, 아래 Driver 설정을 함께 사용하면
+     * Driver가 다중 데이터 추가 쿼리로 변환하여 전송합니다.
+     * <ul>
+     * <li>MariaDB/MySQL: <code>rewriteBatchedStatements=true</code>
+     * <li>PostgreSQL: <code>reWriteBatchedInserts=true</code>
+     * </ul>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * 2026. 10. 18.        박준홍         Primary Key 조회 데이터 캐시 삭제
+     * 2026. 10. 18.        박준홍         조회 결과 캐시 테이블 버전 증가
+     * </pre>
+     * 
+     * @return 데이터별 처리 결과. Driver에 따라 {@link java.sql.Statement#SUCCESS_NO_INFO}가 포함될 수 있습니다.
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     *
+     * @see open.commons.spring.jdbc.repository.IGenericRepository#insertBatch(java.util.List, int)
+     */
+    @Override
+    public Result<int[]> insertBatch(List<T> data, @Min(1) int batchSize) throws RuntimeDataAccessException {
+
+        logger.debug("query={}, data.size={}, batch.size={}", QUERY_FOR_INSERT, data.size(), batchSize);
+
+        Result<int[]> result = new Result<>();
+
+        StopWatch watch = new StopWatch();
+        watch.start();
+
+        int[] updated = new int[data.size()];
+        try {
+            execute(con -> {
+                int pos = 0;
+                int pending = 0;
+                try (PreparedStatement pstmt = con.prepareStatement(QUERY_FOR_INSERT)) {
+                    for (T datum : data) {
+                        SQLConsumer.setParameters(getColumnValues(datum)).accept(pstmt);
+                        pstmt.addBatch();
+
+                        if (++pending == batchSize) {
+                            pos = executeBatch(pstmt, updated, pos);
+                            pending = 0;
+
+                            watch.record("inserted");
+                            logger.trace("Data.count: {}, Elapsed.{}: {}", pos, "inserted", watch.getAsPretty("inserted"));
+                        }
+                    }
+
+                    if (pending > 0) {
+                        pos = executeBatch(pstmt, updated, pos);
+                    }
+                } catch (SQLException e) {
+                    logger.error("data.pos={}, cause={}", pos, e.getMessage(), e);
+                    throw e;
+                }
+
+                return pos;
+            });
+
+            result.andTrue().setData(updated);
+
+        } catch (Exception e) {
+            logger.warn(e.getMessage(), e);
+            throw new RuntimeDataAccessException("", e);
+        } finally {
+            watch.stop();
+            logger.trace("Data.count: {}, Elapsed.total: {}", updated.length, watch.getAsPretty());
+
+            evictEntities(data);
+            invalidateQueryResults();
+        }
+
+        return result;
+    }
+
+    /**
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     *
+     * @see open.commons.spring.jdbc.repository.IGenericRepository#insertOrIgnore(java.util.List)
+     */
+    @Override
+    public Result<Integer> insertOrIgnore(List<T> data) {
+        return insertOrIgnore(data, getPartitionSize(data, getMaxBindParametersForUpsert()));
+    }
+
+    /**
+     * 여러 개의 데이터를 하나의 쿼리로 추가하고, 이미 존재하는 데이터는 무시합니다. <br>
+     * 쿼리는 데이터 개수별로 재사용됩니다. ({@link #getQueryForInsertOrIgnore(int)})
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * 2026. 10. 18.        박준홍         Primary Key 조회 데이터 캐시 삭제
+     * </pre>
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     *
+     * @see open.commons.spring.jdbc.repository.IGenericRepository#insertOrIgnore(java.util.List, int)
+     */
+    @Override
+    public Result<Integer> insertOrIgnore(List<T> data, @Min(1) int partitionSize) {
+        try {
+            return executeMultiRow(data, partitionSize, false, this::getQueryForInsertOrIgnore);
+        } finally {
+            evictEntities(data);
+        }
+    }
+
+    /**
+     * 데이터를 추가하거나 이미 존재하는 경우 아무런 동작을 하지 않습니다.<br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2022. 11. 2.     박준홍         최초 작성
+     * 2026. 10. 18.        박준홍         Primary Key 조회 데이터 캐시 삭제
+     * </pre>
+     *
+     * @param data
+     *            추가할 데이터
      * @param method
      *            구현 클래스의 {@link Method}
      * @param whereArgs
@@ -1192,7 +2094,11 @@ public abstract class AbstractGenericRepository<T> extends AbstractGenericView<T
      */
     protected Result<Integer> insertOrNothingBy(T data, @NotNull Method method, Object... whereArgs) throws RuntimeDataAccessException {
         ConnectionCallbackBroker2<SQLConsumer<PreparedStatement>> broker = createBrokerForInsertOrNothing(data, method, whereArgs);
-        return executeUpdate(broker);
+        try {
+            return executeUpdate(broker);
+        } finally {
+            evictEntities(Collections.singletonList(data));
+        }
     }
 
     /**
@@ -1232,6 +2138,7 @@ public abstract class AbstractGenericRepository<T> extends AbstractGenericView<T
      *      날짜      | 작성자   |   내용
      * ------------------------------------------
      * 2022. 7. 13.     박준홍         최초 작성
+     * 2026. 10. 18.        박준홍         Primary Key 조회 데이터 캐시 삭제
      * </pre>
      *
      * @param data
@@ -1249,7 +2156,11 @@ public abstract class AbstractGenericRepository<T> extends AbstractGenericView<T
      */
     protected Result<Integer> insertOrUpdateBy(T data, @NotNull Method method, Object... whereArgs) throws RuntimeDataAccessException {
         ConnectionCallbackBroker2<SQLConsumer<PreparedStatement>> broker = createBrokerForInsertOrUpdate(data, method, whereArgs);
-        return executeUpdate(broker);
+        try {
+            return executeUpdate(broker);
+        } finally {
+            evictEntities(Collections.singletonList(data));
+        }
     }
 
     /**
@@ -1279,6 +2190,83 @@ public abstract class AbstractGenericRepository<T> extends AbstractGenericView<T
         return insertOrUpdateBy(data, getCurrentMethod(1, ArrayUtils.objectArray(data, whereArgs)), whereArgs);
     }
 
+    /**
+     * 테이블 데이터가 변경되었음을 조회 결과 캐시에 알립니다. ({@link QueryResultCache#invalidate(String)}) <br>
+     * 트랜잭션이 진행 중인 경우, 트랜잭션이 종료(Commit/Rollback)된 이후에 다시 알립니다.
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     */
+    protected void invalidateQueryResults() {
+        runNowAndAfterCompletion(() -> QueryResultCache.invalidate(this.tableName));
+    }
+
+    /**
+     * 여러 개의 데이터를 처리한 쿼리의 실행 시간을 기록합니다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @param rows
+     *            처리한 데이터 개수
+     * @param statements
+     *            실행한 쿼리 개수
+     * @param elapsedNanos
+     *            전체 실행 시간 (nanoseconds)
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     */
+    private void recordPartitionLatency(int rows, int statements, long elapsedNanos) {
+        if (statements > 0) {
+            getPartitionSizePlanner().record(rows / statements, elapsedNanos / statements);
+        }
+    }
+
+    /**
+     * 주어진 작업을 실행하고, 트랜잭션이 진행 중인 경우 트랜잭션이 종료(Commit/Rollback)된 이후에 다시 실행합니다. <br>
+     * 트랜잭션 도중에 다른 요청이 조회한 (변경 이전) 데이터가 캐시에 남지 않도록 합니다.
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @param action
+     *            캐시 삭제 작업
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     */
+    private static void runNowAndAfterCompletion(@NotNull Runnable action) {
+        action.run();
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    action.run();
+                }
+            });
+        }
+    }
+
     /**
      * 데이터를 삭제하는 쿼리의 테이블 선언 관련 쿼리를 제공합니다.<br>
      * 패턴: <code>DELETE FROM {table-name}</code>
@@ -1515,6 +2503,7 @@ public abstract class AbstractGenericRepository<T> extends AbstractGenericView<T
      *      날짜      | 작성자   |   내용
      * ------------------------------------------
      * 2021. 11. 29.        박준홍         최초 작성
+     * 2026. 10. 18.        박준홍         Primary Key 조회 데이터 캐시 삭제
      * </pre>
      * 
      * @param data
@@ -1539,7 +2528,11 @@ public abstract class AbstractGenericRepository<T> extends AbstractGenericView<T
 
         logger.debug("Query: {}, data={}", query, Arrays.toString(params));
 
-        return executeUpdate(query, SQLConsumer.setParameters(params));
+        try {
+            return executeUpdate(query, SQLConsumer.setParameters(params));
+        } finally {
+            evictEntities(null);
+        }
     }
 
     /**
@@ -1571,4 +2564,43 @@ public abstract class AbstractGenericRepository<T> extends AbstractGenericView<T
         return updateBy(data, getCurrentMethod(1, ArrayUtils.objectArray(data, whereArgs)), whereArgs);
     }
 
+    /**
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     *
+     * @see open.commons.spring.jdbc.repository.IGenericRepository#upsert(java.util.List)
+     */
+    @Override
+    public Result<Integer> upsert(List<T> data) {
+        return upsert(data, getPartitionSize(data, getMaxBindParametersForUpsert()));
+    }
+
+    /**
+     * 여러 개의 데이터를 하나의 쿼리로 추가하고, 이미 존재하는 데이터는 갱신합니다. <br>
+     * 쿼리는 데이터 개수별로 재사용됩니다. ({@link #getQueryForUpsert(int)})
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * 2026. 10. 18.        박준홍         Primary Key 조회 데이터 캐시 삭제
+     * </pre>
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     *
+     * @see open.commons.spring.jdbc.repository.IGenericRepository#upsert(java.util.List, int)
+     */
+    @Override
+    public Result<Integer> upsert(List<T> data, @Min(1) int partitionSize) {
+        try {
+            return executeMultiRow(data, partitionSize, true, this::getQueryForUpsert);
+        } finally {
+            evictEntities(data);
+        }
+    }
 }
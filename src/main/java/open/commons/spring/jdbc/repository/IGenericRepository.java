@@ -26,7 +26,9 @@
 
 package open.commons.spring.jdbc.repository;
 
+import java.util.Iterator;
 import java.util.List;
+import java.util.stream.Stream;
 
 import javax.validation.constraints.Min;
 
@@ -43,6 +45,51 @@ import open.commons.core.annotation.ColumnValue;
  */
 public interface IGenericRepository<T> extends IGenericRetrieve<T> {
 
+    /**
+     * 여러 개의 데이터를 설정된 분할 크기({@link #insert(List)}와 동일)만큼씩 읽어서 추가합니다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @param data
+     *            추가할 데이터
+     * @return 추가된 데이터 개수
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     * 
+     * @see #insert(Iterator, int)
+     */
+    public Result<Integer> insert(Iterator<T> data);
+
+    /**
+     * 여러 개의 데이터를 분할 크기만큼씩 읽어서 추가합니다. <br>
+     * 전체 데이터를 미리 읽지 않고, 1개의 분할을 읽고 추가한 후 다음 분할을 읽기 때문에 메모리 사용량은 분할 크기에 비례합니다.
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @param data
+     *            추가할 데이터
+     * @param partitionSize
+     *            한번에 저장할 데이터 개수.
+     * @return 추가된 데이터 개수
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     */
+    public Result<Integer> insert(Iterator<T> data, @Min(1) int partitionSize);
+
     /**
      * 여러 개의 데이터를 추가합니다. <br>
      * 
@@ -85,6 +132,52 @@ public interface IGenericRepository<T> extends IGenericRetrieve<T> {
      */
     public Result<Integer> insert(List<T> data, @Min(1) int partitionSize);
 
+    /**
+     * 여러 개의 데이터를 설정된 분할 크기({@link #insert(List)}와 동일)만큼씩 읽어서 추가합니다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @param data
+     *            추가할 데이터
+     * @return 추가된 데이터 개수
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     * 
+     * @see #insert(Iterator, int)
+     */
+    public Result<Integer> insert(Stream<T> data);
+
+    /**
+     * 여러 개의 데이터를 분할 크기만큼씩 읽어서 추가합니다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @param data
+     *            추가할 데이터. {@link Stream#close()}는 호출하지 않습니다.
+     * @param partitionSize
+     *            한번에 저장할 데이터 개수.
+     * @return 추가된 데이터 개수
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     * 
+     * @see #insert(Iterator, int)
+     */
+    public Result<Integer> insert(Stream<T> data, @Min(1) int partitionSize);
+
     /**
      * 데이터를 추가합니다. <br>
      * 
@@ -106,4 +199,126 @@ public interface IGenericRepository<T> extends IGenericRetrieve<T> {
      */
     public Result<Integer> insert(T data);
 
+    /**
+     * 여러 개의 데이터를 JDBC Batch 방식으로 추가합니다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @param data
+     * @return 데이터별 처리 결과
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     */
+    public Result<int[]> insertBatch(List<T> data);
+
+    /**
+     * 여러 개의 데이터를 JDBC Batch 방식으로 추가합니다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @param data
+     * @param batchSize
+     *            한번에 전송할 데이터 개수.
+     * @return 데이터별 처리 결과
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     */
+    public Result<int[]> insertBatch(List<T> data, @Min(1) int batchSize);
+
+    /**
+     * 여러 개의 데이터를 추가하고, 이미 존재하는 데이터는 무시합니다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @param data
+     * @return
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     */
+    public Result<Integer> insertOrIgnore(List<T> data);
+
+    /**
+     * 여러 개의 데이터를 추가하고, 이미 존재하는 데이터는 무시합니다. <br>
+     * 데이터를 나누어 하나의 쿼리로 여러 개의 데이터를 처리합니다.
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @param data
+     * @param partitionSize
+     *            한번에 처리할 데이터 개수.
+     * @return
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     */
+    public Result<Integer> insertOrIgnore(List<T> data, @Min(1) int partitionSize);
+
+    /**
+     * 여러 개의 데이터를 추가하고, 이미 존재하는 데이터는 갱신합니다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @param data
+     * @return
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     */
+    public Result<Integer> upsert(List<T> data);
+
+    /**
+     * 여러 개의 데이터를 추가하고, 이미 존재하는 데이터는 갱신합니다. <br>
+     * 데이터를 나누어 하나의 쿼리로 여러 개의 데이터를 처리합니다.
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @param data
+     * @param partitionSize
+     *            한번에 처리할 데이터 개수.
+     * @return
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     */
+    public Result<Integer> upsert(List<T> data, @Min(1) int partitionSize);
+
 }
@@ -26,14 +26,17 @@
 
 package open.commons.spring.jdbc.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import javax.validation.constraints.Min;
 import javax.validation.constraints.NotEmpty;
 import javax.validation.constraints.NotNull;
 
 import open.commons.core.Result;
+import open.commons.spring.jdbc.view.KeysetPage;
 
 /**
  * {@link IGenericRepository}에서 "SELECT" 관련 기능만 이관하여 정의한 클래스.<br>
@@ -211,6 +214,31 @@ public interface IGenericRetrieve<T> {
      */
     public Result<List<T>> selectAll(String... orderByArgs);
 
+    /**
+     * 정렬 기준 컬럼을 이용하여 Keyset(Seek) 방식으로 데이터를 제공합니다. <br>
+     * 'OFFSET' 방식과 달리 조회 위치와 관계없이 일정한 성능을 제공합니다.
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     * 
+     * @param continuationToken
+     *            이전 조회 결과에서 제공된 토큰. 첫 조회인 경우 <code>null</code>
+     * @param limit
+     *            데이터 개수.
+     * @param orderColumns
+     *            정렬 기준 컬럼. (오름차순)<br>
+     *            없는 경우 Primary Key 컬럼을 사용하며, 포함되지 않은 Primary Key 컬럼은 자동으로 추가됩니다.
+     * @return 데이터와 다음 데이터 조회 토큰
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     */
+    public Result<KeysetPage<T>> selectAllByKeyset(String continuationToken, @Min(1) int limit, String... orderColumns);
+
     /**
      * 주어진 쿼리를 이용하여 모든 데이터를 제공합니다. <br>
      * 
@@ -377,6 +405,55 @@ public interface IGenericRetrieve<T> {
      */
     public Result<List<T>> selectBy(@NotNull Map<String, Object> clmnParams, String... orderByArgs);
 
+    /**
+     * Primary Key 값에 해당하는 데이터를 비동기로 제공합니다. <br>
+     * 짧은 시간 동안 요청된 여러 개의 Primary Key 값을 모아서 1개의 쿼리(<code>WHERE {pk} IN ( ?, ?, ... )</code>)로 조회한 후, 각 요청에 결과를 제공합니다.<br>
+     * 1개의 컬럼으로 구성된 Primary Key만 지원하며, Primary Key 값은 Primary Key 컬럼 데이터 타입으로 변환됩니다.
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @param id
+     *            Primary Key 값
+     * @return 데이터가 없는 경우 {@link Result#getData()}는 <code>null</code>
+     * @throws IllegalArgumentException
+     *             Primary Key 값이 <code>null</code>이거나 Primary Key 컬럼 데이터 타입으로 변환할 수 없는 경우
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     */
+    public CompletableFuture<Result<T>> selectByIdAsync(@NotNull Object id);
+
+    /**
+     * Primary Key 값 목록에 해당하는 데이터를 제공합니다. <br>
+     * Primary Key 값 목록은 DBMS의 'IN' 목록 최대 크기 단위로 나누어 IN 쿼리(<code>WHERE {pk} IN ( ?, ?, ... )</code>)로 조회하며, 쿼리 종류를 줄이기 위해 IN
+     * 파라미터 개수는 8, 16, 32, ... 단위로 맞춥니다.<br>
+     * 1개의 컬럼으로 구성된 Primary Key만 지원하며, Primary Key 값은 Primary Key 컬럼 데이터 타입으로 변환됩니다.
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @param ids
+     *            Primary Key 값 목록
+     * @return Primary Key 값 목록 순서의 데이터. 데이터가 없는 Primary Key 값은 포함하지 않으며, 중복된 Primary Key 값은 중복된 개수만큼 포함합니다.
+     * @throws IllegalArgumentException
+     *             Primary Key 값이 <code>null</code>이거나 Primary Key 컬럼 데이터 타입으로 변환할 수 없는 경우
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     */
+    public Result<List<T>> selectByIds(@NotNull Collection<?> ids);
+
     /**
      * 주어진 쿼리와 조건에 맞는 데이터를 제공합니다.<br>
      * 
@@ -0,0 +1,307 @@
+/*
+ * Copyright 2026 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/*
+ *
+ * This file is generated under this project, "open-commons-spring-jdbc".
+ *
+ * Date  : 2026. 10. 18. 오후 10:41:26
+ *
+ * Author: parkjunhong77@gmail.com
+ * 
+ */
+
+package open.commons.spring.jdbc.repository;
+
+import java.util.concurrent.TimeUnit;
+
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+
+/**
+ * 여러 개의 데이터를 1개의 쿼리로 처리하는 경우 한번에 처리할 데이터 개수(분할 크기)를 계산하는 클래스.<br>
+ * <ul>
+ * <li>최대 분할 크기: DBMS(JDBC Driver)의 최대 파라미터 개수와 최대 쿼리 크기를 넘지 않는 데이터 개수
+ * <li>목표 실행 시간이 설정된 경우: 쿼리 실행 시간을 데이터 1건당 시간(지수 가중 평균)으로 기록하고, 목표 실행 시간에 맞는 데이터 개수를 계산합니다. 1번에 최대 2배까지 증가합니다.
+ * </ul>
+ *
+ * @since 2026. 10. 18.
+ * @version 0.6.0
+ * @author parkjunhong77@gmail.com
+ */
+public class PartitionSizePlanner {
+
+    /** 실행 시간 지수 가중 평균 가중치 */
+    private static final double EWMA_WEIGHT = 0.2;
+
+    /** 최대 파라미터 개수 */
+    private final int maxBindParameters;
+    /** 최대 쿼리 크기 (bytes) */
+    private final long maxStatementBytes;
+    /** 목표 실행 시간 (nanoseconds). 0 이하인 경우 실행 시간을 반영하지 않음. */
+    private final long targetLatencyNanos;
+
+    /** 데이터 1건당 실행 시간 (nanoseconds) */
+    private double nanosPerRow;
+    /** 마지막으로 계산된 분할 크기 */
+    private int lastPlanned;
+
+    /**
+     * <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @param maxBindParameters
+     *            최대 파라미터 개수
+     * @param maxStatementBytes
+     *            최대 쿼리 크기 (bytes)
+     * @param targetLatency
+     *            목표 실행 시간. 0 이하인 경우 실행 시간을 반영하지 않음.
+     * @param unit
+     *            목표 실행 시간 단위
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     */
+    public PartitionSizePlanner(@Min(1) int maxBindParameters, @Min(1) long maxStatementBytes, long targetLatency, @NotNull TimeUnit unit) {
+        if (maxBindParameters < 1 || maxStatementBytes < 1) {
+            throw new IllegalArgumentException(String.format("최대 파라미터 개수, 최대 쿼리 크기는 0보다 커야 합니다. 입력값=%s, %s", maxBindParameters, maxStatementBytes));
+        }
+
+        this.maxBindParameters = maxBindParameters;
+        this.maxStatementBytes = maxStatementBytes;
+        this.targetLatencyNanos = Math.max(0, unit.toNanos(targetLatency));
+    }
+
+    /**
+     * 파라미터 값의 크기(bytes)를 추정합니다. <br>
+     * 문자열은 문자당 최대 4 bytes(UTF-8), <code>byte[]</code>는 byte당 2 bytes(Escape)로 계산합니다.
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @param values
+     *            파라미터 값
+     * @return
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     */
+    public static long estimateBytes(@NotNull Object[] values) {
+        long bytes = 0;
+        for (Object value : values) {
+            if (value == null) {
+                bytes += 4;
+            } else if (value instanceof CharSequence) {
+                bytes += ((CharSequence) value).length() * 4L + 2;
+            } else if (value instanceof byte[]) {
+                bytes += ((byte[]) value).length * 2L + 3;
+            } else if (value instanceof Number || value instanceof Boolean) {
+                bytes += 24;
+            } else if (value instanceof java.util.Date || value instanceof java.time.temporal.Temporal) {
+                bytes += 32;
+            } else {
+                bytes += String.valueOf(value).length() * 4L + 2;
+            }
+        }
+        return bytes;
+    }
+
+    /**
+     * 최대 파라미터 개수와 최대 쿼리 크기를 넘지 않는 최대 분할 크기를 제공합니다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @param bindPerRow
+     *            데이터 1건당 파라미터 개수
+     * @param bytesPerRow
+     *            데이터 1건당 쿼리 크기(bytes). 0 이하인 경우 쿼리 크기를 확인하지 않음.
+     * @return
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     */
+    public int getMaxRows(int bindPerRow, long bytesPerRow) {
+        return getMaxRows(bindPerRow, bytesPerRow, this.maxBindParameters);
+    }
+
+    /**
+     * 주어진 최대 파라미터 개수와 최대 쿼리 크기를 넘지 않는 최대 분할 크기를 제공합니다. <br>
+     * 쿼리 종류에 따라 최대 파라미터 개수가 다른 경우 사용합니다.
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @param bindPerRow
+     *            데이터 1건당 파라미터 개수
+     * @param bytesPerRow
+     *            데이터 1건당 쿼리 크기(bytes). 0 이하인 경우 쿼리 크기를 확인하지 않음.
+     * @param maxBindParameters
+     *            쿼리 1개의 최대 파라미터 개수
+     * @return
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     */
+    public int getMaxRows(int bindPerRow, long bytesPerRow, @Min(1) int maxBindParameters) {
+        long maxRows = Integer.MAX_VALUE;
+        if (bindPerRow > 0) {
+            maxRows = Math.min(maxRows, Math.max(1, maxBindParameters) / bindPerRow);
+        }
+        if (bytesPerRow > 0) {
+            maxRows = Math.min(maxRows, this.maxStatementBytes / bytesPerRow);
+        }
+        return (int) Math.max(1, maxRows);
+    }
+
+    /**
+     * 목표 실행 시간 설정 여부를 제공합니다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     */
+    public boolean isAdaptive() {
+        return this.targetLatencyNanos > 0;
+    }
+
+    /**
+     * 분할 크기를 제공합니다. <br>
+     * 목표 실행 시간이 설정되지 않았거나 실행 기록이 없는 경우 기본 분할 크기를 사용합니다.
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @param preferred
+     *            기본 분할 크기
+     * @param bindPerRow
+     *            데이터 1건당 파라미터 개수
+     * @param bytesPerRow
+     *            데이터 1건당 쿼리 크기(bytes). 0 이하인 경우 쿼리 크기를 확인하지 않음.
+     * @return
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     */
+    public int plan(@Min(1) int preferred, int bindPerRow, long bytesPerRow) {
+        return plan(preferred, bindPerRow, bytesPerRow, this.maxBindParameters);
+    }
+
+    /**
+     * 주어진 최대 파라미터 개수를 넘지 않는 분할 크기를 제공합니다. <br>
+     * 목표 실행 시간이 설정되지 않았거나 실행 기록이 없는 경우 기본 분할 크기를 사용합니다.
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @param preferred
+     *            기본 분할 크기
+     * @param bindPerRow
+     *            데이터 1건당 파라미터 개수
+     * @param bytesPerRow
+     *            데이터 1건당 쿼리 크기(bytes). 0 이하인 경우 쿼리 크기를 확인하지 않음.
+     * @param maxBindParameters
+     *            쿼리 1개의 최대 파라미터 개수
+     * @return
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     */
+    public synchronized int plan(@Min(1) int preferred, int bindPerRow, long bytesPerRow, @Min(1) int maxBindParameters) {
+        int maxRows = getMaxRows(bindPerRow, bytesPerRow, maxBindParameters);
+
+        long size = preferred;
+        if (isAdaptive() && this.nanosPerRow > 0) {
+            size = (long) (this.targetLatencyNanos / this.nanosPerRow);
+            // 급격한 증가 방지
+            if (this.lastPlanned > 0) {
+                size = Math.min(size, this.lastPlanned * 2L);
+            }
+        }
+
+        this.lastPlanned = (int) Math.max(1, Math.min(size, maxRows));
+        return this.lastPlanned;
+    }
+
+    /**
+     * 쿼리 실행 시간을 기록합니다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @param rows
+     *            쿼리 1개로 처리한 데이터 개수
+     * @param elapsedNanos
+     *            쿼리 1개 실행 시간 (nanoseconds)
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     */
+    public synchronized void record(int rows, long elapsedNanos) {
+        if (!isAdaptive() || rows < 1 || elapsedNanos < 1) {
+            return;
+        }
+
+        double observed = (double) elapsedNanos / rows;
+        this.nanosPerRow = this.nanosPerRow > 0 ? this.nanosPerRow + EWMA_WEIGHT * (observed - this.nanosPerRow) : observed;
+    }
+}
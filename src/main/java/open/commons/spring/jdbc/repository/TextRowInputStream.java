@@ -0,0 +1,235 @@
+/*
+ * Copyright 2026 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/*
+ *
+ * This file is generated under this project, "open-commons-spring-jdbc".
+ *
+ * Date  : 2026. 10. 18. 오후 3:02:17
+ *
+ * Author: parkjunhong77@gmail.com
+ * 
+ */
+
+package open.commons.spring.jdbc.repository;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.function.Function;
+
+import javax.validation.constraints.NotNull;
+
+/**
+ * 데이터를 1건씩 탭(\t)으로 구분된 텍스트 형식으로 변환하여 제공하는 {@link InputStream}.<br>
+ * 전체 데이터를 메모리에 생성하지 않고, 읽기 요청이 있을 때마다 다음 데이터를 변환합니다.<br>
+ * <br>
+ * 형식
+ * <ul>
+ * <li>컬럼 구분: <code>\t</code>, 데이터 구분: <code>\n</code>, 문자셋: UTF-8
+ * <li><code>null</code>: <code>\N</code>
+ * <li><code>\</code>, <code>\t</code>, <code>\n</code>, <code>\r</code>: <code>\\</code>, <code>\t</code>, <code>\n</code>,
+ * <code>\r</code>로 변환
+ * </ul>
+ * PostgreSQL <code>COPY ... FROM STDIN (FORMAT text)</code>, MariaDB/MySQL <code>LOAD DATA LOCAL INFILE</code> 기본 형식과 동일합니다.
+ *
+ * @param <E>
+ *            데이터 타입
+ *
+ * @since 2026. 10. 18.
+ * @version 0.6.0
+ * @author parkjunhong77@gmail.com
+ */
+public class TextRowInputStream<E> extends InputStream {
+
+    private static final byte[] EMPTY = new byte[0];
+
+    /** 데이터 */
+    private final Iterator<E> rows;
+    /** 데이터의 컬럼값을 제공하는 함수 */
+    private final Function<E, Object[]> columnValues;
+    /** 컬럼값을 문자열로 변환하는 함수. <code>null</code>은 전달되지 않습니다. */
+    private final Function<Object, String> formatter;
+
+    /** 현재 데이터 */
+    private byte[] buf = EMPTY;
+    /** 현재 데이터 읽기 위치 */
+    private int pos;
+    /** 변환된 데이터 개수 */
+    private long rowCount;
+
+    /**
+     * <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @param rows
+     *            데이터
+     * @param columnValues
+     *            데이터의 컬럼값을 제공하는 함수
+     * @param formatter
+     *            컬럼값을 문자열로 변환하는 함수
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     */
+    public TextRowInputStream(@NotNull Iterator<E> rows, @NotNull Function<E, Object[]> columnValues, @NotNull Function<Object, String> formatter) {
+        this.rows = rows;
+        this.columnValues = columnValues;
+        this.formatter = formatter;
+    }
+
+    /**
+     * 탭 구분 텍스트 형식의 예약 문자를 변환합니다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @param buf
+     * @param value
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     */
+    private static void escape(StringBuilder buf, String value) {
+        char c;
+        for (int i = 0; i < value.length(); i++) {
+            c = value.charAt(i);
+            switch (c) {
+                case '\\':
+                    buf.append("\\\\");
+                    break;
+                case '\t':
+                    buf.append("\\t");
+                    break;
+                case '\n':
+                    buf.append("\\n");
+                    break;
+                case '\r':
+                    buf.append("\\r");
+                    break;
+                default:
+                    buf.append(c);
+                    break;
+            }
+        }
+    }
+
+    /**
+     * 읽을 데이터가 남아 있는지 확인하고, 필요한 경우 다음 데이터를 변환합니다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @return 읽을 데이터가 있는 경우 <code>true</code>
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     */
+    private boolean fill() {
+        while (this.pos >= this.buf.length) {
+            if (!this.rows.hasNext()) {
+                return false;
+            }
+
+            Object[] values = this.columnValues.apply(this.rows.next());
+
+            StringBuilder line = new StringBuilder();
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) {
+                    line.append('\t');
+                }
+                if (values[i] == null) {
+                    line.append("\\N");
+                } else {
+                    escape(line, this.formatter.apply(values[i]));
+                }
+            }
+            line.append('\n');
+
+            this.buf = line.toString().getBytes(StandardCharsets.UTF_8);
+            this.pos = 0;
+            this.rowCount++;
+        }
+
+        return true;
+    }
+
+    /**
+     * 현재까지 변환된 데이터 개수를 제공합니다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     */
+    public long getRowCount() {
+        return this.rowCount;
+    }
+
+    /**
+     * @see java.io.InputStream#read()
+     */
+    @Override
+    public int read() {
+        return fill() ? this.buf[this.pos++] & 0xFF : -1;
+    }
+
+    /**
+     * @see java.io.InputStream#read(byte[], int, int)
+     */
+    @Override
+    public int read(byte[] b, int off, int len) {
+        if (len == 0) {
+            return 0;
+        }
+
+        int read = 0;
+        int size = 0;
+        while (read < len && fill()) {
+            size = Math.min(len - read, this.buf.length - this.pos);
+            System.arraycopy(this.buf, this.pos, b, off + read, size);
+            this.pos += size;
+            read += size;
+        }
+
+        return read > 0 ? read : -1;
+    }
+}
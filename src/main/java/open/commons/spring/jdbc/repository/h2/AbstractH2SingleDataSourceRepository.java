@@ -217,6 +217,28 @@ public abstract class AbstractH2SingleDataSourceRepository<T> extends AbstractSi
         return super.createParametersForInsertOrUpdate(data, method, whereArgs);
     }
 
+    /**
+     * 여러 개의 데이터를 추가하고, 이미 존재하는 데이터는 무시하는 쿼리를 제공합니다. <br>
+     * 패턴: <code>MERGE INTO {table} AS tbl USING ( SELECT ... UNION ALL SELECT ... ) AS data ON ( ... ) WHEN NOT MATCHED THEN INSERT ...</code>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     *
+     * @see open.commons.spring.jdbc.repository.AbstractGenericRepository#createQueryForInsertOrIgnore(int)
+     */
+    @Override
+    protected String createQueryForInsertOrIgnore(@Min(1) int rowCount) {
+        return createQueryForMerge(QUERY_TPL_INSERT_OR_NOTHING, rowCount);
+    }
+
     /**
      *
      * @since 2025. 4. 1.
@@ -320,6 +342,89 @@ public abstract class AbstractH2SingleDataSourceRepository<T> extends AbstractSi
         }
     }
 
+    /**
+     * 여러 개의 데이터를 'MERGE' 하는 쿼리를 제공합니다. <br>
+     * Primary Key가 설정되지 않은 경우 여러 개의 데이터를 추가하는 쿼리를 제공합니다.
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @param queryTplStr
+     *            쿼리 구문. ({@link #QUERY_TPL_INSERT_OR_NOTHING}, {@link #QUERY_TPL_INSERT_OR_UPDATE})
+     * @param rowCount
+     *            데이터 개수
+     * @return
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     */
+    private String createQueryForMerge(String queryTplStr, int rowCount) {
+        // Primary Key 컬럼 확인
+        List<String> pkColumns = validateColumnNames(getPrimaryKeyColumns());
+        if (pkColumns == null || pkColumns.size() < 1) {
+            logger.warn("'{}' 테이블에 Primary Key가 설정되지 않았습니다.", this.tableName);
+            return createQueryForPartitionInsert(rowCount);
+        }
+
+        // 갱신할 컬럼이 없는 경우
+        List<String> updatableClmns = validateColumnNames(getUpdatableColumnNames());
+        if (updatableClmns.isEmpty()) {
+            queryTplStr = QUERY_TPL_INSERT_OR_NOTHING;
+        }
+
+        final String ALIAS_TABLE = "tbl";
+        final String ALIAS_DATA = "data";
+
+        // #1. 데이터 바인딩 쿼리
+        String dataBinding = queryForVariableBindingAliasingColumnName(true);
+        StringBuffer dataBindingBuf = new StringBuffer(dataBinding);
+        for (int i = 1; i < rowCount; i++) {
+            dataBindingBuf.append(" UNION ALL SELECT ");
+            dataBindingBuf.append(dataBinding);
+        }
+
+        // #2. 쿼리 구문 선언
+        NamedTemplate queryTpl = new NamedTemplate(queryTplStr);
+        // #3. 구문 설정
+        queryTpl.addValue(TN_TABLE_NAME, getTableName());
+        queryTpl.addValue(TN_TABLE_ALIAS, ALIAS_TABLE);
+        queryTpl.addValue(TN_DATA_BINDING_QUERY, dataBindingBuf.toString());
+        queryTpl.addValue(TN_DATA_ALIAS, ALIAS_DATA);
+        queryTpl.addValue(TN_USING_ON_COMPARE_CLAUSE, createMergeUsingOnClause(pkColumns, ALIAS_TABLE, ALIAS_DATA));
+        queryTpl.addValue(TN_UPDATE_SET_CLAUSE, createMergeUpdateSetClause(updatableClmns, ALIAS_TABLE, ALIAS_DATA));
+        queryTpl.addValue(TN_INSERT_COLUMN_CLAUSE, queryForColumnNames());
+        queryTpl.addValue(TN_INSERT_VALUE_BINDING_CLAUSE, queryForColumnNames(ALIAS_DATA));
+
+        return queryTpl.format();
+    }
+
+    /**
+     * 여러 개의 데이터를 추가하고, 이미 존재하는 데이터는 갱신하는 쿼리를 제공합니다. <br>
+     * 패턴: <code>MERGE INTO {table} AS tbl USING ( SELECT ... UNION ALL SELECT ... ) AS data ON ( ... ) WHEN MATCHED THEN UPDATE SET ... WHEN NOT MATCHED THEN INSERT ...</code>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     *
+     * @see open.commons.spring.jdbc.repository.AbstractGenericRepository#createQueryForUpsert(int)
+     */
+    @Override
+    protected String createQueryForUpsert(@Min(1) int rowCount) {
+        return createQueryForMerge(QUERY_TPL_INSERT_OR_UPDATE, rowCount);
+    }
+
     /**
      *
      * @since 2025. 4. 2.
@@ -382,7 +487,7 @@ public abstract class AbstractH2SingleDataSourceRepository<T> extends AbstractSi
      */
     @Override
     protected String queryForPartitionHeader() {
-        List<String> columns = validateColumnNames(getColumnNames());
+        List<String> columns = this.entityMetadata.getQuotedColumnNames();
 
         return new StringBuffer() //
                 .append("INSERT INTO") //
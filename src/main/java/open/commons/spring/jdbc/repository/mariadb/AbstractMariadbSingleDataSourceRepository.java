@@ -26,15 +26,30 @@
 
 package open.commons.spring.jdbc.repository.mariadb;
 
+import java.io.InputStream;
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import javax.validation.constraints.Min;
 import javax.validation.constraints.NotNull;
 
+import open.commons.core.Result;
+import open.commons.core.test.StopWatch;
+import open.commons.core.utils.SQLUtils;
+import open.commons.spring.jdbc.exception.RuntimeDataAccessException;
 import open.commons.spring.jdbc.repository.AbstractSingleDataSourceRepository;
+import open.commons.spring.jdbc.repository.TextRowInputStream;
 import open.commons.spring.jdbc.view.mariadb.MariadbCommons;
 
 /**
@@ -137,6 +152,151 @@ public abstract class AbstractMariadbSingleDataSourceRepository<T> extends Abstr
                 .toString();
     }
 
+    /**
+     * <code>LOAD DATA LOCAL INFILE</code>을 이용하여 데이터를 추가합니다.<br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @param data
+     *            추가할 데이터
+     * @return 추가된 데이터 개수
+     * @throws RuntimeDataAccessException
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     * 
+     * @see #bulkLoad(Iterator)
+     */
+    public Result<Long> bulkLoad(@NotNull Iterable<T> data) throws RuntimeDataAccessException {
+        return bulkLoad(data.iterator());
+    }
+
+    /**
+     * <code>LOAD DATA LOCAL INFILE</code>을 이용하여 데이터를 추가합니다.<br>
+     * 데이터는 {@link #QUERY_FOR_INSERT}와 동일한 컬럼 순서로 1건씩 탭 구분 텍스트로 변환되어 JDBC Driver에 {@link InputStream}으로 전달되기 때문에, 파일을
+     * 생성하거나 전체 데이터를 메모리에 생성하지 않습니다.<br>
+     * <br>
+     * 필요사항
+     * <ul>
+     * <li>JDBC URL: <code>allowLocalInfile=true</code>
+     * <li>DBMS: <code>local_infile=ON</code>
+     * <li>JDBC Driver: <code>setLocalInfileInputStream(InputStream)</code>을 제공하는 MariaDB Connector/J 또는 MySQL Connector/J
+     * </ul>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * 2026. 10. 18.        박준홍         조회 결과 캐시 테이블 버전 증가
+     * </pre>
+     *
+     * @param data
+     *            추가할 데이터
+     * @return 추가된 데이터 개수
+     * @throws RuntimeDataAccessException
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     * 
+     * @see #queryForLoadData()
+     * @see #toLoadDataText(Object)
+     */
+    public Result<Long> bulkLoad(@NotNull Iterator<T> data) throws RuntimeDataAccessException {
+
+        String query = queryForLoadData();
+
+        logger.debug("query={}", query);
+
+        Result<Long> result = new Result<>();
+
+        StopWatch watch = new StopWatch();
+        watch.start();
+
+        TextRowInputStream<T> in = new TextRowInputStream<>(data, d -> getColumnValues(d), this::toLoadDataText);
+        try {
+            Long loaded = execute(con -> executeLoadData(con, query, in));
+
+            result.andTrue().setData(loaded);
+
+        } catch (Exception e) {
+            logger.warn("data.pos={}, cause={}", in.getRowCount(), e.getMessage(), e);
+            throw new RuntimeDataAccessException("", e);
+        } finally {
+            watch.stop();
+            logger.trace("Data.count: {}, Elapsed.total: {}", in.getRowCount(), watch.getAsPretty());
+
+            invalidateQueryResults();
+        }
+
+        return result;
+    }
+
+    /**
+     * <code>LOAD DATA LOCAL INFILE</code>을 이용하여 데이터를 추가합니다.<br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @param data
+     *            추가할 데이터
+     * @return 추가된 데이터 개수
+     * @throws RuntimeDataAccessException
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     * 
+     * @see #bulkLoad(Iterator)
+     */
+    public Result<Long> bulkLoad(@NotNull Stream<T> data) throws RuntimeDataAccessException {
+        return bulkLoad(data.iterator());
+    }
+
+    /**
+     * 여러 개의 데이터를 추가하고, 이미 존재하는 데이터는 무시하는 쿼리를 제공합니다. <br>
+     * 패턴: <code>INSERT INTO {table} ({columns}) VALUES (...), (...) ON DUPLICATE KEY UPDATE {pk}={pk}</code><br>
+     * 'INSERT IGNORE'는 중복 키 외의 오류(데이터 잘림, NOT NULL, Foreign Key 등)도 경고로 바꾸어 무시하므로, 중복 키인 경우에만 변경하지 않도록 합니다.
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * 2026. 10. 18.        박준홍         'INSERT IGNORE' 대신 'ON DUPLICATE KEY UPDATE {pk}={pk}' 사용
+     * </pre>
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     *
+     * @see open.commons.spring.jdbc.repository.AbstractGenericRepository#createQueryForInsertOrIgnore(int)
+     */
+    @Override
+    protected String createQueryForInsertOrIgnore(@Min(1) int rowCount) {
+        // 중복 키인 경우 값이 변경되지 않는 컬럼. (Primary Key가 선언되지 않은 경우 첫번째 컬럼)
+        List<String> pkColumns = this.entityMetadata.getPrimaryKeyColumns();
+        String clmn = pkColumns.isEmpty() ? this.entityMetadata.getQuotedColumnNames().get(0) : validateColumnName(pkColumns.get(0));
+        return new StringBuffer() //
+                .append(createQueryForPartitionInsert(rowCount)) //
+                .append(" ON DUPLICATE KEY UPDATE ") //
+                .append(clmn) //
+                .append(" = ") //
+                .append(clmn) //
+                .toString();
+    }
+
     /**
      *
      * @since 2022. 11. 29.
@@ -171,6 +331,7 @@ public abstract class AbstractMariadbSingleDataSourceRepository<T> extends Abstr
      * ------------------------------------------
      * 2022. 7. 14.     박준홍         최초 작성
      * 2022. 11. 29.    박준홍     메소드 이관.
+     * 2026. 10. 18.        박준홍         생성된 쿼리 재사용 ({@link #getQueryForUpsert(int)})
      * </pre>
      * 
      * 
@@ -183,6 +344,33 @@ public abstract class AbstractMariadbSingleDataSourceRepository<T> extends Abstr
      */
     @Override
     protected String createQueryForInsertOrUpdate(T data, @NotNull Method method, Object... whereArgs) {
+        String query = getQueryForUpsert(1);
+
+        logger.debug("query={}, data={}", query, data);
+
+        return query;
+    }
+
+    /**
+     * 여러 개의 데이터를 추가하고, 이미 존재하는 데이터는 갱신하는 쿼리를 제공합니다. <br>
+     * 패턴: <code>INSERT INTO {table} ({columns}) VALUES (...), (...) ON DUPLICATE KEY UPDATE {column} = VALUES({column}), ...</code>
+     * 'ON DUPLICATE KEY UPDATE'로 갱신된 데이터는 변경된 데이터 개수가 2로 제공됩니다.
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     *
+     * @see open.commons.spring.jdbc.repository.AbstractGenericRepository#createQueryForUpsert(int)
+     */
+    @Override
+    protected String createQueryForUpsert(@Min(1) int rowCount) {
         // #1. 데이터 변경 쿼리 생성
         String updatePart = String.join(",", //
                 getUpdatableColumnNames().stream() // 업데이트 가능한 컬럼 도출
@@ -191,7 +379,7 @@ public abstract class AbstractMariadbSingleDataSourceRepository<T> extends Abstr
         );
 
         StringBuilder queryBuf = new StringBuilder();
-        queryBuf.append(QUERY_FOR_INSERT);
+        queryBuf.append(createQueryForPartitionInsert(rowCount));
 
         if (!updatePart.isEmpty()) {
             queryBuf.append(" ");
@@ -200,11 +388,76 @@ public abstract class AbstractMariadbSingleDataSourceRepository<T> extends Abstr
             queryBuf.append(updatePart);
         }
 
-        logger.debug("query={}, data={}", queryBuf.toString(), data);
-
         return queryBuf.toString();
     }
 
+    /**
+     * JDBC Driver의 {@link Statement}에 데이터를 {@link InputStream}으로 설정하고 <code>LOAD DATA LOCAL INFILE</code> 쿼리를 실행합니다.<br>
+     * JDBC Driver에 대한 의존성을 갖지 않도록 {@link Statement#unwrap(Class)}와 Reflection을 사용합니다.
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @param con
+     * @param query
+     * @param in
+     * @return 추가된 데이터 개수
+     * @throws SQLException
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     */
+    private long executeLoadData(@NotNull Connection con, @NotNull String query, @NotNull InputStream in) throws SQLException {
+        try (Statement stmt = con.createStatement()) {
+            Object driverStmt = null;
+            Class<?> stmtType = null;
+            for (String type : MariadbCommons.LOCAL_INFILE_STATEMENT_TYPES) {
+                try {
+                    stmtType = Class.forName(type);
+                } catch (ClassNotFoundException ignored) {
+                    continue;
+                }
+                if (stmt.isWrapperFor(stmtType)) {
+                    driverStmt = stmt.unwrap(stmtType);
+                    break;
+                }
+            }
+
+            if (driverStmt == null) {
+                throw new SQLException("LOAD DATA LOCAL INFILE 기능을 지원하는 JDBC Driver가 아닙니다. statement=" + stmt.getClass().getName());
+            }
+
+            try {
+                stmtType.getMethod("setLocalInfileInputStream", InputStream.class).invoke(driverStmt, in);
+            } catch (InvocationTargetException e) {
+                Throwable cause = e.getCause();
+                throw cause instanceof SQLException ? (SQLException) cause : new SQLException(cause.getMessage(), cause);
+            } catch (NoSuchMethodException | IllegalAccessException e) {
+                throw new SQLException("LOAD DATA LOCAL INFILE 기능을 사용할 수 없습니다. 원인=" + e.getMessage(), e);
+            }
+
+            return stmt.executeUpdate(query);
+        }
+    }
+
+    /**
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     *
+     * @see open.commons.spring.jdbc.repository.AbstractGenericRepository#getMaxStatementBytes()
+     */
+    @Override
+    protected long getMaxStatementBytes() {
+        return MariadbCommons.MAX_ALLOWED_PACKET;
+    }
+
     /**
      *
      * @since 2025. 4. 2.
@@ -231,6 +484,87 @@ public abstract class AbstractMariadbSingleDataSourceRepository<T> extends Abstr
         return MariadbCommons.RESERVED_KEYWORDS_WRAPPING_CHARACTER;
     }
 
+    /**
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     *
+     * @see open.commons.spring.jdbc.dao.AbstractGenericRetrieve#getStreamFetchSize()
+     */
+    @Override
+    protected int getStreamFetchSize() {
+        return MariadbCommons.STREAM_FETCH_SIZE;
+    }
+
+    /**
+     * MariaDB는 Row Value 크기 비교(<code>( k1, k2 ) &gt; ( ?, ? )</code>)에 대해 인덱스 범위 검색을 적용하지 못하는 경우가 있음.
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     *
+     * @see open.commons.spring.jdbc.view.AbstractGenericView#isRowValueComparisonSupported()
+     */
+    @Override
+    protected boolean isRowValueComparisonSupported() {
+        return false;
+    }
+
+    /**
+     * 데이터를 추가하는 <code>LOAD DATA LOCAL INFILE</code> 쿼리를 제공합니다. <br>
+     * <code>byte[]</code> 타입 컬럼은 16진수 문자열로 전달되어 <code>UNHEX(..)</code>로 변환됩니다.<br>
+     * 패턴:
+     * <code>LOAD DATA LOCAL INFILE 'stream' INTO TABLE {table-name} CHARACTER SET utf8mb4 FIELDS TERMINATED BY '\t' ESCAPED BY '\\' LINES TERMINATED BY '\n' ( {comma-separated-column-names} ) [SET {binary-column} = UNHEX(..)]</code>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     */
+    protected String queryForLoadData() {
+        List<String> columns = new ArrayList<>();
+        List<String> binaries = new ArrayList<>();
+
+        String clmn = null;
+        String var = null;
+        for (Method m : getColumns()) {
+            clmn = validateColumnName(SQLUtils.getColumnName(m));
+            if (byte[].class.equals(m.getReturnType())) {
+                var = "@v" + columns.size();
+                columns.add(var);
+                binaries.add(String.join(" = ", clmn, "UNHEX(" + var + ")"));
+            } else {
+                columns.add(clmn);
+            }
+        }
+
+        StringBuffer buf = new StringBuffer() //
+                .append("LOAD DATA LOCAL INFILE 'stream' INTO TABLE") //
+                .append(" ") //
+                .append(this.tableName) //
+                .append(" ") //
+                .append("CHARACTER SET utf8mb4 FIELDS TERMINATED BY '\\t' ESCAPED BY '\\\\' LINES TERMINATED BY '\\n'") //
+                .append(" (")//
+                .append(String.join(", ", columns)) //
+                .append(")");
+
+        if (!binaries.isEmpty()) {
+            buf.append(" SET ");
+            buf.append(String.join(", ", binaries));
+        }
+
+        return buf.toString();
+    }
+
     /**
      *
      * @since 2021. 12. 24.
@@ -267,7 +601,7 @@ public abstract class AbstractMariadbSingleDataSourceRepository<T> extends Abstr
      */
     @Override
     protected String queryForPartitionHeader() {
-        List<String> columns = validateColumnNames(getColumnNames());
+        List<String> columns = this.entityMetadata.getQuotedColumnNames();
 
         return new StringBuffer() //
                 .append("INSERT INTO") //
@@ -305,4 +639,46 @@ public abstract class AbstractMariadbSingleDataSourceRepository<T> extends Abstr
     protected String queryForPartitionValue() {
         return new StringBuilder().append("( ").append(queryForVariableBinding()).append(" )").toString();
     }
+
+    /**
+     * 컬럼값을 <code>LOAD DATA</code> 텍스트 형식으로 변환합니다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @param value
+     *            컬럼값. <code>null</code>이 아님.
+     * @return
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     * 
+     * @see #queryForLoadData()
+     */
+    protected String toLoadDataText(@NotNull Object value) {
+        if (value instanceof Boolean) {
+            return (Boolean) value ? "1" : "0";
+        } else if (value instanceof byte[]) {
+            byte[] bytes = (byte[]) value;
+            StringBuilder buf = new StringBuilder(bytes.length * 2);
+            for (byte b : bytes) {
+                buf.append(Character.forDigit((b >> 4) & 0xF, 16));
+                buf.append(Character.forDigit(b & 0xF, 16));
+            }
+            return buf.toString();
+        } else if (value instanceof java.util.Date && !(value instanceof java.sql.Date || value instanceof java.sql.Time || value instanceof Timestamp)) {
+            return new Timestamp(((java.util.Date) value).getTime()).toString();
+        } else if (value instanceof LocalDateTime) {
+            return Timestamp.valueOf((LocalDateTime) value).toString();
+        } else if (value instanceof Enum) {
+            return ((Enum<?>) value).name();
+        } else {
+            return value.toString();
+        }
+    }
 }
@@ -223,6 +223,28 @@ public abstract class AbstractOracleSingleDataSourceRepoistory<T> extends Abstra
         return params;
     }
 
+    /**
+     * 여러 개의 데이터를 추가하고, 이미 존재하는 데이터는 무시하는 쿼리를 제공합니다. <br>
+     * 패턴: <code>MERGE INTO {table} tbl USING ( SELECT ... FROM DUAL UNION ALL ... ) data ON ( ... ) WHEN NOT MATCHED THEN INSERT ...</code>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     *
+     * @see open.commons.spring.jdbc.repository.AbstractGenericRepository#createQueryForInsertOrIgnore(int)
+     */
+    @Override
+    protected String createQueryForInsertOrIgnore(@Min(1) int rowCount) {
+        return createQueryForMerge(rowCount, false);
+    }
+
     /**
      *
      * @since 2022. 11. 29.
@@ -310,6 +332,103 @@ public abstract class AbstractOracleSingleDataSourceRepoistory<T> extends Abstra
         return queryTpl.format();
     }
 
+    /**
+     * 여러 개의 데이터를 'MERGE' 하는 쿼리를 제공합니다. <br>
+     * Primary Key가 설정되지 않은 경우 여러 개의 데이터를 추가하는 쿼리('INSERT ALL')를 제공합니다.
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @param rowCount
+     *            데이터 개수
+     * @param update
+     *            이미 존재하는 데이터 갱신 여부
+     * @return
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     */
+    private String createQueryForMerge(int rowCount, boolean update) {
+        // Primary Key 컬럼 확인
+        List<String> pkColumns = validateColumnNames(getPrimaryKeyColumns());
+        if (pkColumns == null || pkColumns.size() < 1) {
+            logger.warn("'{}' 테이블에 Primary Key가 설정되지 않았습니다.", this.tableName);
+            return createQueryForPartitionInsert(rowCount);
+        }
+
+        final String ALIAS_TABLE = "tbl";
+        final String ALIAS_DATA = "data";
+
+        // #1. 'USING' 데이터 바인딩 쿼리
+        String dataBinding = new StringBuffer() //
+                .append("SELECT ") //
+                .append(queryForVariableBindingAliasingColumnName(false)) //
+                .append(" FROM DUAL") //
+                .toString();
+
+        StringBuffer queryBuf = new StringBuffer();
+        queryBuf.append("MERGE INTO ");
+        queryBuf.append(getTableName());
+        queryBuf.append(" ");
+        queryBuf.append(ALIAS_TABLE);
+        queryBuf.append(" USING ( ");
+        queryBuf.append(dataBinding);
+        for (int i = 1; i < rowCount; i++) {
+            queryBuf.append(" UNION ALL ");
+            queryBuf.append(dataBinding);
+        }
+        queryBuf.append(" ) ");
+        queryBuf.append(ALIAS_DATA);
+
+        // #2. 'ON' 쿼리
+        queryBuf.append(" ON ( ");
+        queryBuf.append(createMergeUsingOnClause(pkColumns, ALIAS_TABLE, ALIAS_DATA));
+        queryBuf.append(" )");
+
+        // #3. 'UPDATE SET' 쿼리
+        List<String> updatableClmns = validateColumnNames(getUpdatableColumnNames());
+        if (update && !updatableClmns.isEmpty()) {
+            queryBuf.append(" WHEN MATCHED THEN UPDATE SET ");
+            queryBuf.append(createMergeUpdateSetClause(updatableClmns, ALIAS_TABLE, ALIAS_DATA));
+        }
+
+        // #4. 'INSERT' 쿼리
+        queryBuf.append(" WHEN NOT MATCHED THEN INSERT ( ");
+        queryBuf.append(queryForColumnNames());
+        queryBuf.append(" ) VALUES ( ");
+        queryBuf.append(queryForColumnNames(ALIAS_DATA));
+        queryBuf.append(" )");
+
+        return queryBuf.toString();
+    }
+
+    /**
+     * 여러 개의 데이터를 추가하고, 이미 존재하는 데이터는 갱신하는 쿼리를 제공합니다. <br>
+     * 패턴: <code>MERGE INTO {table} tbl USING ( SELECT ... FROM DUAL UNION ALL ... ) data ON ( ... ) WHEN MATCHED THEN UPDATE SET ... WHEN NOT MATCHED THEN INSERT ...</code>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     *
+     * @see open.commons.spring.jdbc.repository.AbstractGenericRepository#createQueryForUpsert(int)
+     */
+    @Override
+    protected String createQueryForUpsert(@Min(1) int rowCount) {
+        return createQueryForMerge(rowCount, true);
+    }
+
     /**
      *
      * @since 2021. 12. 16.
@@ -327,6 +446,48 @@ public abstract class AbstractOracleSingleDataSourceRepoistory<T> extends Abstra
         throw new UnsupportedOperationException("#insert(List<T>, int) 를 사용하세요.");
     }
 
+    /**
+     * 여러 개의 데이터를 'INSERT ALL'로 추가하기 때문에 'INSERT ALL'의 제한을 따릅니다.
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     *
+     * @see open.commons.spring.jdbc.repository.AbstractGenericRepository#getMaxBindParametersForInsert()
+     */
+    @Override
+    protected int getMaxBindParametersForInsert() {
+        return OracleCommons.MAX_INSERT_ALL_BIND_PARAMETERS;
+    }
+
+    /**
+     * 'MERGE' 쿼리는 'INSERT ALL'의 제한을 따르지 않지만, Primary Key가 없는 경우 'INSERT ALL'로 추가하기 때문에 'INSERT ALL'의 제한을 따릅니다.
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     *
+     * @see open.commons.spring.jdbc.repository.AbstractGenericRepository#getMaxBindParametersForUpsert()
+     */
+    @Override
+    protected int getMaxBindParametersForUpsert() {
+        return getPrimaryKeyColumns().isEmpty() ? getMaxBindParametersForInsert() : super.getMaxBindParametersForUpsert();
+    }
+
+    /**
+     * 'IN' 목록은 'INSERT ALL'과 별도로 1,000개로 제한됩니다. (ORA-01795)
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     *
+     * @see open.commons.spring.jdbc.dao.AbstractGenericRetrieve#getMaxInListSize()
+     */
+    @Override
+    protected int getMaxInListSize() {
+        return OracleCommons.MAX_IN_LIST_SIZE;
+    }
+
     /**
      *
      * @since 2025. 4. 2.
@@ -353,6 +514,20 @@ public abstract class AbstractOracleSingleDataSourceRepoistory<T> extends Abstra
         return OracleCommons.RESERVED_KEYWORDS_WRAPPING_CHARACTER;
     }
 
+    /**
+     * Oracle은 Row Value 크기 비교(<code>( k1, k2 ) &gt; ( ?, ? )</code>)를 지원하지 않음.
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     *
+     * @see open.commons.spring.jdbc.view.AbstractGenericView#isRowValueComparisonSupported()
+     */
+    @Override
+    protected boolean isRowValueComparisonSupported() {
+        return false;
+    }
+
     /**
      *
      * @since 2021. 12. 16.
@@ -416,7 +591,7 @@ public abstract class AbstractOracleSingleDataSourceRepoistory<T> extends Abstra
     @Override
     protected String queryForPartitionValue() {
 
-        List<String> columns = validateColumnNames(getColumnNames());
+        List<String> columns = this.entityMetadata.getQuotedColumnNames();
 
         return new StringBuffer()//
                 .append("INTO ") //
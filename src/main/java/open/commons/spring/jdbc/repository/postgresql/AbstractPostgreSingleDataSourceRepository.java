@@ -26,18 +26,27 @@
 
 package open.commons.spring.jdbc.repository.postgresql;
 
+import java.io.InputStream;
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import javax.validation.constraints.Min;
 import javax.validation.constraints.NotNull;
 
-import open.commons.core.annotation.ColumnValue;
-import open.commons.core.utils.AnnotationUtils;
-import open.commons.core.utils.SQLUtils;
+import open.commons.core.Result;
+import open.commons.core.test.StopWatch;
+import open.commons.spring.jdbc.exception.RuntimeDataAccessException;
 import open.commons.spring.jdbc.repository.AbstractSingleDataSourceRepository;
+import open.commons.spring.jdbc.repository.TextRowInputStream;
 import open.commons.spring.jdbc.view.postgresql.PgSqlCommons;
 
 /**
@@ -49,6 +58,9 @@ import open.commons.spring.jdbc.view.postgresql.PgSqlCommons;
  */
 public abstract class AbstractPostgreSingleDataSourceRepository<T> extends AbstractSingleDataSourceRepository<T> {
 
+    /** <code>COPY</code> 데이터 전송 기본 버퍼 크기 (byte) */
+    protected static final int DEFAULT_COPY_BUFFER_SIZE = 64 * 1024;
+
     /**
      * <pre>
      * [개정이력]
@@ -117,6 +129,173 @@ public abstract class AbstractPostgreSingleDataSourceRepository<T> extends Abstr
         super(entityType, forceToPrimitive, ignoreNoDataMethod);
     }
 
+    /**
+     * <code>COPY {table-name} ( {column-names} ) FROM STDIN</code>을 이용하여 데이터를 추가합니다.<br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @param data
+     *            추가할 데이터
+     * @return 추가된 데이터 개수
+     * @throws RuntimeDataAccessException
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     * 
+     * @see #bulkLoad(Iterator)
+     */
+    public Result<Long> bulkLoad(@NotNull Iterable<T> data) throws RuntimeDataAccessException {
+        return bulkLoad(data.iterator());
+    }
+
+    /**
+     * <code>COPY {table-name} ( {column-names} ) FROM STDIN</code>을 이용하여 데이터를 추가합니다.<br>
+     * 데이터는 {@link #QUERY_FOR_INSERT}와 동일한 컬럼 순서로 1건씩 텍스트 형식으로 변환되어 전송되기 때문에, 전체 데이터를 메모리에 생성하지 않습니다.<br>
+     * PostgreSQL JDBC Driver(<code>org.postgresql.PGConnection#getCopyAPI()</code>)가 필요합니다.
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * 2026. 10. 18.        박준홍         조회 결과 캐시 테이블 버전 증가
+     * </pre>
+     *
+     * @param data
+     *            추가할 데이터
+     * @return 추가된 데이터 개수
+     * @throws RuntimeDataAccessException
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     * 
+     * @see #getCopyBufferSize()
+     * @see #toCopyText(Object)
+     */
+    public Result<Long> bulkLoad(@NotNull Iterator<T> data) throws RuntimeDataAccessException {
+
+        String query = queryForCopyIn();
+
+        logger.debug("query={}", query);
+
+        Result<Long> result = new Result<>();
+
+        StopWatch watch = new StopWatch();
+        watch.start();
+
+        TextRowInputStream<T> in = new TextRowInputStream<>(data, d -> getColumnValues(d), this::toCopyText);
+        try {
+            Long loaded = execute(con -> copyIn(con, query, in));
+
+            result.andTrue().setData(loaded);
+
+        } catch (Exception e) {
+            logger.warn("data.pos={}, cause={}", in.getRowCount(), e.getMessage(), e);
+            throw new RuntimeDataAccessException("", e);
+        } finally {
+            watch.stop();
+            logger.trace("Data.count: {}, Elapsed.total: {}", in.getRowCount(), watch.getAsPretty());
+
+            invalidateQueryResults();
+        }
+
+        return result;
+    }
+
+    /**
+     * <code>COPY {table-name} ( {column-names} ) FROM STDIN</code>을 이용하여 데이터를 추가합니다.<br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @param data
+     *            추가할 데이터
+     * @return 추가된 데이터 개수
+     * @throws RuntimeDataAccessException
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     * 
+     * @see #bulkLoad(Iterator)
+     */
+    public Result<Long> bulkLoad(@NotNull Stream<T> data) throws RuntimeDataAccessException {
+        return bulkLoad(data.iterator());
+    }
+
+    /**
+     * <code>org.postgresql.copy.CopyManager#copyIn(String, InputStream, int)</code>를 호출합니다.<br>
+     * PostgreSQL JDBC Driver에 대한 의존성을 갖지 않도록 {@link Connection#unwrap(Class)}와 Reflection을 사용합니다.
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @param con
+     * @param query
+     * @param in
+     * @return 추가된 데이터 개수
+     * @throws SQLException
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     */
+    private long copyIn(@NotNull Connection con, @NotNull String query, @NotNull InputStream in) throws SQLException {
+        try {
+            Class<?> pgConType = Class.forName("org.postgresql.PGConnection");
+            Object copyManager = pgConType.getMethod("getCopyAPI").invoke(con.unwrap(pgConType));
+            Method copyIn = copyManager.getClass().getMethod("copyIn", String.class, InputStream.class, int.class);
+
+            return (Long) copyIn.invoke(copyManager, query, in, getCopyBufferSize());
+        } catch (InvocationTargetException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof SQLException) {
+                throw (SQLException) cause;
+            } else {
+                throw new SQLException(cause.getMessage(), cause);
+            }
+        } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException e) {
+            throw new SQLException("PostgreSQL JDBC Driver의 COPY 기능을 사용할 수 없습니다. 원인=" + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 여러 개의 데이터를 추가하고, 이미 존재하는 데이터는 무시하는 쿼리를 제공합니다. <br>
+     * 패턴: <code>INSERT INTO {table} ({columns}) VALUES (...), (...) ON CONFLICT ({primary-keys}) DO NOTHING</code>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     *
+     * @see open.commons.spring.jdbc.repository.AbstractGenericRepository#createQueryForInsertOrIgnore(int)
+     */
+    @Override
+    protected String createQueryForInsertOrIgnore(@Min(1) int rowCount) {
+        return createQueryForOnConflict(rowCount, false);
+    }
+
     /**
      * 데이터를 추가하거나 이미 존재하는 경우 아무런 동작을 하지 않습니다.<br>
      * 
@@ -130,6 +309,7 @@ public abstract class AbstractPostgreSingleDataSourceRepository<T> extends Abstr
      *     { DEFAULT VALUES | VALUES ( { expression | DEFAULT } [, ...] ) [, ...] | query }
      *     [ ON CONFLICT [ conflict_target ] conflict_action ]
      *     [ RETURNING * | output_expression [ [ AS ] output_name ] [, ...] ]
+     * 2026. 10. 18.        박준홍         EntityMetadata 적용
      * </pre>
      * 
      * where conflict_target can be one of:
@@ -156,6 +336,7 @@ public abstract class AbstractPostgreSingleDataSourceRepository<T> extends Abstr
      * ------------------------------------------
      * 2022. 11. 2.     박준홍         최초 작성
      * 2022. 11. 29.    박준홍         메소드 이관.
+     * 2026. 10. 18.        박준홍         생성된 쿼리 재사용 ({@link #getQueryForInsertOrIgnore(int)})
      * </pre>
      * 
      * @since 2022. 11. 29.
@@ -167,33 +348,7 @@ public abstract class AbstractPostgreSingleDataSourceRepository<T> extends Abstr
      */
     @Override
     protected String createQueryForInsertOrNothing(T data, @NotNull Method method, Object... whereArgs) {
-        // #1. 데이터 변경 쿼리 생성
-        List<String> updateClmns = getUpdatableColumnNames().stream() // 업데이트 가능한 컬럼 도출
-                .collect(Collectors.toList()) //
-        ;
-
-        StringBuilder queryBuf = new StringBuilder();
-        queryBuf.append(QUERY_FOR_INSERT);
-
-        if (!updateClmns.isEmpty()) {
-            // 'CONFLICT' 여부 확인
-            List<String> primaryKeys = AnnotationUtils.getAnnotatedMethodsAllAsStream(data.getClass(), ColumnValue.class) //
-                    .filter(m -> m.getAnnotation(ColumnValue.class).primaryKey()) //
-                    .map(m -> SQLUtils.getColumnName(m)) //
-                    .map(cn -> validateColumnName(cn)) //
-                    .collect(Collectors.toList()) //
-            ;
-
-            if (!primaryKeys.isEmpty()) {
-                queryBuf.append(" ");
-                queryBuf.append("ON CONFLICT (");
-                queryBuf.append(String.join(",", primaryKeys));
-                queryBuf.append(") ");
-                queryBuf.append("DO NOTHING");
-            }
-        }
-
-        return queryBuf.toString();
+        return getQueryForInsertOrIgnore(1);
     }
 
     /**
@@ -209,6 +364,7 @@ public abstract class AbstractPostgreSingleDataSourceRepository<T> extends Abstr
      *     { DEFAULT VALUES | VALUES ( { expression | DEFAULT } [, ...] ) [, ...] | query }
      *     [ ON CONFLICT [ conflict_target ] conflict_action ]
      *     [ RETURNING * | output_expression [ [ AS ] output_name ] [, ...] ]
+     * 2026. 10. 18.        박준홍         EntityMetadata 적용
      * </pre>
      * 
      * where conflict_target can be one of:
@@ -236,6 +392,7 @@ public abstract class AbstractPostgreSingleDataSourceRepository<T> extends Abstr
      * 2022. 7. 14.     박준홍         최초 작성
      * 2022. 11. 1.     박준홍         실제 구현
      * 2022. 11. 29.    박준홍         메소드 이관
+     * 2026. 10. 18.        박준홍         생성된 쿼리 재사용 ({@link #getQueryForUpsert(int)})
      * </pre>
      * 
      * @since 2022. 11. 29.
@@ -247,39 +404,129 @@ public abstract class AbstractPostgreSingleDataSourceRepository<T> extends Abstr
      */
     @Override
     protected String createQueryForInsertOrUpdate(T data, @NotNull Method method, Object... whereArgs) {
-        // #1. 데이터 변경 쿼리 생성
-        List<String> updateClmns = getUpdatableColumnNames().stream() // 업데이트 가능한 컬럼 도출
-                .collect(Collectors.toList()) //
-        ;
+        return getQueryForUpsert(1);
+    }
 
+    /**
+     * 여러 개의 데이터를 추가하는 쿼리에 'ON CONFLICT' 구문을 추가합니다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성. {@link #createQueryForInsertOrNothing(Object, Method, Object...)},
+     *                                      {@link #createQueryForInsertOrUpdate(Object, Method, Object...)}에서 분리
+     * 2026. 10. 18.        박준홍         갱신할 컬럼 여부와 관계없이 'DO NOTHING' 제공
+     * </pre>
+     *
+     * @param rowCount
+     *            데이터 개수
+     * @param update
+     *            이미 존재하는 데이터 갱신 여부
+     * @return
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     */
+    private String createQueryForOnConflict(int rowCount, boolean update) {
+        // #1. 데이터 변경 쿼리 생성
         StringBuilder queryBuf = new StringBuilder();
-        queryBuf.append(QUERY_FOR_INSERT);
-
-        if (!updateClmns.isEmpty()) {
-            // 'CONFLICT' 여부 확인
-            List<String> primaryKeys = AnnotationUtils.getAnnotatedMethodsAllAsStream(data.getClass(), ColumnValue.class) //
-                    .filter(m -> m.getAnnotation(ColumnValue.class).primaryKey()) //
-                    .map(m -> SQLUtils.getColumnName(m)) //
-                    .map(cn -> validateColumnName(cn)) //
-                    .collect(Collectors.toList()) //
-            ;
-
-            if (!primaryKeys.isEmpty()) {
-                queryBuf.append(" ");
-                queryBuf.append("ON CONFLICT (");
-                queryBuf.append(String.join(",", primaryKeys));
-                queryBuf.append(") ");
+        queryBuf.append(createQueryForPartitionInsert(rowCount));
+
+        // 'CONFLICT' 여부 확인
+        List<String> primaryKeys = validateColumnNames(this.entityMetadata.getDeclaredPrimaryKeyColumns());
+        if (!primaryKeys.isEmpty()) {
+            queryBuf.append(" ");
+            queryBuf.append("ON CONFLICT (");
+            queryBuf.append(String.join(",", primaryKeys));
+            queryBuf.append(") ");
+
+            // 갱신할 컬럼이 없는 경우 'DO NOTHING'
+            List<String> updateClmns = update ? getUpdatableColumnNames() : Collections.emptyList();
+            if (!updateClmns.isEmpty()) {
                 queryBuf.append("DO UPDATE SET (");
                 queryBuf.append(String.join(",", updateClmns));
                 queryBuf.append(") = ROW(");
                 queryBuf.append(String.join(",", updateClmns.stream().map(clmn -> String.join(".", "excluded", clmn)).collect(Collectors.toList())));
                 queryBuf.append(")");
+            } else {
+                queryBuf.append("DO NOTHING");
             }
         }
 
         return queryBuf.toString();
     }
 
+    /**
+     * 여러 개의 데이터를 추가하고, 이미 존재하는 데이터는 갱신하는 쿼리를 제공합니다. <br>
+     * 패턴: <code>INSERT INTO {table} ({columns}) VALUES (...), (...) ON CONFLICT ({primary-keys}) DO UPDATE SET ({columns}) = ROW(excluded.{columns})</code>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     *
+     * @see open.commons.spring.jdbc.repository.AbstractGenericRepository#createQueryForUpsert(int)
+     */
+    @Override
+    protected String createQueryForUpsert(@Min(1) int rowCount) {
+        return createQueryForOnConflict(rowCount, true);
+    }
+
+    /**
+     * <code>COPY</code> 데이터 전송 버퍼 크기를 제공합니다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     */
+    protected int getCopyBufferSize() {
+        return DEFAULT_COPY_BUFFER_SIZE;
+    }
+
+    /**
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     *
+     * @see open.commons.spring.jdbc.dao.AbstractGenericRetrieve#getMaxBindParameters()
+     */
+    @Override
+    protected int getMaxBindParameters() {
+        return PgSqlCommons.MAX_BIND_PARAMETERS;
+    }
+
+    /**
+     * 'IN' 목록의 값은 모두 파라미터이므로 최대 파라미터 개수를 따릅니다.
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     *
+     * @see open.commons.spring.jdbc.dao.AbstractGenericRetrieve#getMaxInListSize()
+     */
+    @Override
+    protected int getMaxInListSize() {
+        return PgSqlCommons.MAX_IN_LIST_SIZE;
+    }
+
     /**
      *
      * @since 2025. 4. 2.
@@ -306,6 +553,37 @@ public abstract class AbstractPostgreSingleDataSourceRepository<T> extends Abstr
         return PgSqlCommons.RESERVED_KEYWORDS_WRAPPING_CHARACTER;
     }
 
+    /**
+     * 데이터를 추가하는 <code>COPY</code> 쿼리를 제공합니다. <br>
+     * 패턴: <code>COPY {table-name} ( {comma-separated-column-names} ) FROM STDIN</code>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     */
+    protected String queryForCopyIn() {
+        List<String> columns = this.entityMetadata.getQuotedColumnNames();
+
+        return new StringBuffer() //
+                .append("COPY") //
+                .append(" ") //
+                .append(this.tableName) //
+                .append(" (")//
+                .append(String.join(", ", columns)) //
+                .append(") ") //
+                .append("FROM STDIN") //
+                .toString();
+    }
+
     /**
      *
      * @since 2021. 11. 26.
@@ -342,7 +620,7 @@ public abstract class AbstractPostgreSingleDataSourceRepository<T> extends Abstr
      */
     @Override
     protected String queryForPartitionHeader() {
-        List<String> columns = validateColumnNames(getColumnNames());
+        List<String> columns = this.entityMetadata.getQuotedColumnNames();
 
         return new StringBuffer() //
                 .append("INSERT INTO") //
@@ -380,4 +658,42 @@ public abstract class AbstractPostgreSingleDataSourceRepository<T> extends Abstr
     protected String queryForPartitionValue() {
         return new StringBuilder().append("( ").append(queryForVariableBinding()).append(" )").toString();
     }
+
+    /**
+     * 컬럼값을 <code>COPY</code> 텍스트 형식으로 변환합니다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @param value
+     *            컬럼값. <code>null</code>이 아님.
+     * @return
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     */
+    protected String toCopyText(@NotNull Object value) {
+        if (value instanceof Boolean) {
+            return (Boolean) value ? "t" : "f";
+        } else if (value instanceof byte[]) {
+            byte[] bytes = (byte[]) value;
+            StringBuilder buf = new StringBuilder(2 + bytes.length * 2).append("\\x");
+            for (byte b : bytes) {
+                buf.append(Character.forDigit((b >> 4) & 0xF, 16));
+                buf.append(Character.forDigit(b & 0xF, 16));
+            }
+            return buf.toString();
+        } else if (value instanceof java.util.Date && !(value instanceof java.sql.Date || value instanceof java.sql.Time || value instanceof Timestamp)) {
+            return new Timestamp(((java.util.Date) value).getTime()).toString();
+        } else if (value instanceof Enum) {
+            return ((Enum<?>) value).name();
+        } else {
+            return value.toString();
+        }
+    }
 }
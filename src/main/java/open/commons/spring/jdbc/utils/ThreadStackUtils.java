@@ -0,0 +1,118 @@
+/*
+ * Copyright 2026 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/*
+ *
+ * This file is generated under this project, "open-commons-spring-jdbc".
+ *
+ * Date  : 2026. 10. 18. 오후 5:03:44
+ *
+ * Author: parkjunhong77@gmail.com
+ * 
+ */
+
+package open.commons.spring.jdbc.utils;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import javax.validation.constraints.Min;
+
+import open.commons.core.utils.ThreadUtils;
+
+/**
+ * 호출 스택 정보를 제공하는 클래스.<br>
+ * Java 9 이상인 경우 <code>java.lang.StackWalker</code>를 이용하여 필요한 위치까지만 탐색하고, Java 8인 경우 {@link ThreadUtils}를 사용합니다.
+ *
+ * @since 2026. 10. 18.
+ * @version 0.6.0
+ * @author parkjunhong77@gmail.com
+ */
+public class ThreadStackUtils {
+
+    /** <code>java.lang.StackWalker</code> 객체. Java 8인 경우 <code>null</code> */
+    private static final Object STACK_WALKER;
+    /** <code>java.lang.StackWalker#walk(Function)</code> */
+    private static final Method WALK;
+    /** <code>java.lang.StackWalker.StackFrame#getMethodName()</code> */
+    private static final Method GET_METHOD_NAME;
+
+    static {
+        Object walker = null;
+        Method walk = null;
+        Method getMethodName = null;
+        try {
+            Class<?> walkerType = Class.forName("java.lang.StackWalker");
+            walker = walkerType.getMethod("getInstance").invoke(null);
+            walk = walkerType.getMethod("walk", Function.class);
+            getMethodName = Class.forName("java.lang.StackWalker$StackFrame").getMethod("getMethodName");
+        } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException | InvocationTargetException ignored) {
+            walker = null;
+        }
+
+        STACK_WALKER = walker;
+        WALK = walk;
+        GET_METHOD_NAME = getMethodName;
+    }
+
+    private ThreadStackUtils() {
+    }
+
+    /**
+     * 이 메소드를 호출한 메소드로부터 <code>distance</code> 만큼 떨어진 메소드 이름을 제공합니다. <br>
+     * {@link ThreadUtils#getMethodName(int)}와 동일한 위치를 사용하며, 전체 호출 스택을 생성하지 않습니다.
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @param distance
+     *            이 메소드를 호출하는 함수와의 거리. ('0'인 경우 이 메소드를 호출한 메소드)
+     * @return
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     */
+    public static String getMethodName(@Min(0) int distance) {
+        if (STACK_WALKER == null) {
+            return ThreadUtils.getMethodName(distance + 1);
+        }
+
+        // 'walk'에 전달되는 Stream의 첫번째는 이 메소드
+        Function<Stream<?>, String> finder = frames -> frames.skip(distance + 1) //
+                .findFirst() //
+                .map(frame -> {
+                    try {
+                        return (String) GET_METHOD_NAME.invoke(frame);
+                    } catch (IllegalAccessException | InvocationTargetException e) {
+                        throw new IllegalStateException(e);
+                    }
+                }) //
+                .orElse(null);
+
+        try {
+            return (String) WALK.invoke(STACK_WALKER, finder);
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            return ThreadUtils.getMethodName(distance + 1);
+        }
+    }
+}
@@ -26,16 +26,24 @@
 
 package open.commons.spring.jdbc.view;
 
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Parameter;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -46,6 +54,9 @@ import javax.validation.constraints.NotNull;
 
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.dao.IncorrectResultSizeDataAccessException;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.NumberUtils;
 
 import open.commons.core.Result;
 import open.commons.core.annotation.ColumnDef;
@@ -61,13 +72,16 @@ import open.commons.core.utils.ExceptionUtils;
 import open.commons.core.utils.ObjectUtils;
 import open.commons.core.utils.SQLUtils;
 import open.commons.core.utils.StringUtils;
-import open.commons.core.utils.ThreadUtils;
 import open.commons.spring.jdbc.dao.AbstractGenericRetrieve;
+import open.commons.spring.jdbc.dao.BatchLoader;
+import open.commons.spring.jdbc.dao.QueryKey;
 import open.commons.spring.jdbc.repository.AbstractGenericRepository;
 import open.commons.spring.jdbc.repository.IGenericRetrieve;
+import open.commons.spring.jdbc.repository.PartitionSizePlanner;
 import open.commons.spring.jdbc.repository.annotation.JdbcVariableBinder;
 import open.commons.spring.jdbc.repository.annotation.JdbcVariableBinder.WhereCompare;
 import open.commons.spring.jdbc.repository.exceptions.UnsupportedVariableBindingException;
+import open.commons.spring.jdbc.utils.ThreadStackUtils;
 
 /**
  * {@link AbstractGenericRepository}에서 "SELECT" 관련 기능을 이관하여 정의한 클래스.
@@ -178,6 +192,74 @@ public abstract class AbstractGenericView<T> extends AbstractGenericRetrieve imp
     /** 데이터를 제공하는 메소드가 없는 경우 로그 미발생 여부 */
     protected final boolean ignoreNoDataMethod;
 
+    /**
+     * Entity 컬럼 정보.<br>
+     * 생성시 1번만 분석하며, 컬럼/쿼리/파라미터 관련 기능은 이 정보를 사용합니다.
+     * 
+     * @since 2026. 10. 18.
+     */
+    protected final EntityMetadata<T> entityMetadata;
+
+    /**
+     * 데이터 조회/변경 요청 메소드 정보.<br>
+     * key: 메소드 이름 + 파라미터 타입
+     * 
+     * @since 2026. 10. 18.
+     * @see #getMethod(String, Class...)
+     */
+    private final ConcurrentMap<MethodKey, Method> methods = new ConcurrentHashMap<>();
+
+    /**
+     * 'WHERE', 'ORDER BY', 'OFFSET' 구문이 추가된 쿼리 캐시.
+     * 
+     * @since 2026. 10. 18.
+     */
+    protected final QueryTemplateCache queryTemplates = new QueryTemplateCache();
+
+    /**
+     * {@link JdbcVariableBinder}가 설정된 메소드 파라미터.
+     * 
+     * @since 2026. 10. 18.
+     * @see #getVariableBindingParameters(Method)
+     */
+    private final ConcurrentMap<Method, List<Parameter>> variableBindingParameters = new ConcurrentHashMap<>();
+
+    /**
+     * Primary Key로 조회한 데이터 캐시.<br>
+     * 최초 사용시 생성되며, 캐시 크기({@link #getEntityCacheSize()})가 0 이하이거나 Primary Key가 없는 경우 생성되지 않습니다.
+     * 
+     * @since 2026. 10. 18.
+     * @see #getEntityCache()
+     */
+    private volatile EntityCache<T> entityCache;
+
+    /**
+     * Primary Key로 조회하는 메소드의 파라미터 위치. (Primary Key 컬럼 순서)<br>
+     * Primary Key로 조회하지 않는 메소드는 빈 배열.
+     * 
+     * @since 2026. 10. 18.
+     * @see #getPrimaryKeyParameterIndexes(Method)
+     */
+    private final ConcurrentMap<Method, int[]> primaryKeyParameterIndexes = new ConcurrentHashMap<>();
+
+    /**
+     * 조회 결과 캐시.<br>
+     * 최초 사용시 생성되며, 최대 메모리 크기({@link #getResultCacheMaxBytes()})가 0 이하인 경우 생성되지 않습니다.
+     * 
+     * @since 2026. 10. 18.
+     * @see #getResultCache()
+     */
+    private volatile QueryResultCache resultCache;
+
+    /**
+     * Primary Key 조회 요청을 모아서 1번에 조회하는 객체.<br>
+     * 최초 사용시 생성되며, 최대 식별자 개수({@link #getBatchLoadSize()})가 0 이하인 경우 생성되지 않습니다.
+     * 
+     * @since 2026. 10. 18.
+     * @see #selectByIdAsync(Object)
+     */
+    private volatile BatchLoader<List<Object>, T> batchLoader;
+
     /**
      * <pre>
      * [개정이력]
@@ -226,6 +308,10 @@ public abstract class AbstractGenericView<T> extends AbstractGenericRetrieve imp
      *      날짜      | 작성자   |   내용
      * ------------------------------------------
      * 2023. 8. 24.     박준홍         최초 작성
+     * 2026. 10. 18.        박준홍         Primary Key 조회 데이터 캐시 추가
+     * 2026. 10. 18.        박준홍         조회 결과 캐시 추가
+     * 2026. 10. 18.        박준홍         Primary Key 조회 데이터 캐시 최초 사용시 생성 ({@link #getEntityCache()})
+     * 2026. 10. 18.        박준홍         조회 결과 캐시 최초 사용시 생성 ({@link #getResultCache()})
      * </pre>
      *
      * @param entityType
@@ -246,6 +332,13 @@ public abstract class AbstractGenericView<T> extends AbstractGenericRetrieve imp
         this.entityType = entityType;
         this.tableName = getTableName();
 
+        this.entityMetadata = new EntityMetadata<>(entityType, this::validateColumnName);
+        // start - 데이터 제공 메소드 미정의 허용 : 2022. 3. 23. 오후 2:54:34
+        if (this.entityMetadata.getColumns().isEmpty() && !this.ignoreNoDataMethod) {
+            logger.warn("DBMS Table에 연결된 Entity에서 데이터 제공 함수를 발견하지 못하였습니다. entity={}", this.entityType);
+        }
+        // end - 데이터 제공 메소드 미정의 허용 : 2022. 3. 23. 오후 2:54:34
+
         this.QUERY_FOR_SELECT = queryForSelect();
 
         this.forceToPrimitive = forceToPrimitive;
@@ -254,6 +347,71 @@ public abstract class AbstractGenericView<T> extends AbstractGenericRetrieve imp
 
     }
 
+    /**
+     * 기존 쿼리에 Keyset(Seek) 조건 구문을 추가하고, 구문에 사용되는 파라미터를 제공합니다. <br>
+     * 패턴
+     * <ul>
+     * <li>Row Value 비교 지원: <code>( k1, k2, ... ) &gt; ( ?, ?, ... )</code>
+     * <li>Row Value 비교 미지원: <code>( k1 &gt; ? OR ( k1 = ? AND k2 &gt; ? ) OR ... )</code>
+     * </ul>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @param queryBuf
+     *            데이터 조회 쿼리
+     * @param columns
+     *            정렬 기준 컬럼
+     * @param values
+     *            이전 데이터의 마지막 컬럼값
+     * @return 구문에 사용되는 파라미터
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     * 
+     * @see #isRowValueComparisonSupported()
+     */
+    protected List<Object> addKeysetClause(StringBuffer queryBuf, @NotEmpty List<String> columns, @NotEmpty Object[] values) {
+
+        List<Object> params = new ArrayList<>();
+        if (columns.size() == 1) {
+            queryBuf.append(validateColumnName(columns.get(0)));
+            queryBuf.append(" > ?");
+            params.add(values[0]);
+        } else if (isRowValueComparisonSupported()) {
+            queryBuf.append("( ");
+            queryBuf.append(columns.stream().map(clmn -> validateColumnName(clmn)).collect(Collectors.joining(", ")));
+            queryBuf.append(" ) > ( ");
+            queryBuf.append(columns.stream().map(clmn -> "?").collect(Collectors.joining(", ")));
+            queryBuf.append(" )");
+            params.addAll(Arrays.asList(values));
+        } else {
+            queryBuf.append("( ");
+            for (int i = 0; i < columns.size(); i++) {
+                if (i > 0) {
+                    queryBuf.append(" OR ");
+                }
+                queryBuf.append("( ");
+                for (int k = 0; k < i; k++) {
+                    queryBuf.append(validateColumnName(columns.get(k)));
+                    queryBuf.append(" = ? AND ");
+                    params.add(values[k]);
+                }
+                queryBuf.append(validateColumnName(columns.get(i)));
+                queryBuf.append(" > ? )");
+                params.add(values[i]);
+            }
+            queryBuf.append(" )");
+        }
+
+        return params;
+    }
+
     /**
      * 주어진 조건에 맞는 데이터를 조회하는 쿼리를 제공합니다. <br>
      * 
@@ -421,6 +579,7 @@ public abstract class AbstractGenericView<T> extends AbstractGenericRetrieve imp
      *      날짜      | 작성자   |   내용
      * ------------------------------------------
      * 2021. 11. 29.        박준홍         최초 작성
+     * 2026. 10. 18.        박준홍         쿼리 재사용(QueryTemplateCache), 파라미터 변경 분리
      * </pre>
      * 
      * @param queryHeader
@@ -438,14 +597,18 @@ public abstract class AbstractGenericView<T> extends AbstractGenericRetrieve imp
      */
     protected String attachWhereClause(String queryHeader, @NotNull Method method, Object... whereArgs) {
 
-        List<JdbcVariableBinder> columns = getVariableBinders(method);
-        if (hasNoWhereCompares(columns, WhereCompare.IN, WhereCompare.NOT_IN) && columns.size() != whereArgs.length) {
-            logger.info("쿼리에 사용될 컬럼 개수({})와 파라미터 개수({})가 일치하지 않습니다.", columns.size(), whereArgs.length);
-        }
+        String query = this.queryTemplates.get(QueryTemplateCache.key("WHERE", queryHeader, method, whereArgs.length), () -> {
+            List<JdbcVariableBinder> columns = getVariableBinders(method);
+            if (hasNoWhereCompares(columns, WhereCompare.IN, WhereCompare.NOT_IN) && columns.size() != whereArgs.length) {
+                logger.info("쿼리에 사용될 컬럼 개수({})와 파라미터 개수({})가 일치하지 않습니다.", columns.size(), whereArgs.length);
+            }
 
-        List<Parameter> parameters = getVariableBindingParameters(method);
+            return String.join(" ", queryHeader, createWhereClause(getVariableBindingParameters(method), "AND", whereArgs.clone()));
+        });
 
-        return String.join(" ", queryHeader, createWhereClause(parameters, "AND", whereArgs));
+        rewriteParameters(getVariableBindingParameters(method), whereArgs);
+
+        return query;
     }
 
     /**
@@ -661,6 +824,7 @@ public abstract class AbstractGenericView<T> extends AbstractGenericRetrieve imp
      *      날짜      | 작성자   |   내용
      * ------------------------------------------
      * 2021. 12. 28.        박준홍         최초 작성
+     * 2026. 10. 18.        박준홍         쿼리 재사용(QueryTemplateCache)
      * </pre>
      *
      * @param selectQuery
@@ -677,12 +841,18 @@ public abstract class AbstractGenericView<T> extends AbstractGenericRetrieve imp
      */
     protected String createQueryForCountOf(@NotEmpty String selectQuery, @NotNull Method method, Object... whereArgs) {
 
-        StringBuffer queryBuf = new StringBuffer();
-        queryBuf.append(selectQuery);
+        String query = this.queryTemplates.get(QueryTemplateCache.key("COUNT", selectQuery, method, whereArgs.length), () -> {
+            StringBuffer queryBuf = new StringBuffer();
+            queryBuf.append(selectQuery);
 
-        addWhereClause(queryBuf, method, whereArgs);
+            addWhereClause(queryBuf, method, whereArgs.clone());
 
-        return queryBuf.toString();
+            return queryBuf.toString();
+        });
+
+        rewriteParameters(getVariableBindingParameters(method), whereArgs);
+
+        return query;
     }
 
     /**
@@ -848,6 +1018,7 @@ public abstract class AbstractGenericView<T> extends AbstractGenericRetrieve imp
      *      날짜      | 작성자   |   내용
      * ------------------------------------------
      * 2021. 12. 9.     박준홍         최초 작성
+     * 2026. 10. 18.        박준홍         쿼리 재사용(QueryTemplateCache), 파라미터 변경 분리
      * </pre>
      * 
      * @param selectQuery
@@ -869,13 +1040,19 @@ public abstract class AbstractGenericView<T> extends AbstractGenericRetrieve imp
      */
     protected String createQueryForSelectForPagination(@NotEmpty String selectQuery, @NotNull Method method, @Min(0) int offset, @Min(1) int limit, Object... whereArgs) {
 
-        StringBuffer queryBuf = new StringBuffer();
-        queryBuf.append(selectQuery);
+        String query = this.queryTemplates.get(QueryTemplateCache.key("PAGINATION", selectQuery, method, whereArgs.length, queryForOffset(offset, limit)), () -> {
+            StringBuffer queryBuf = new StringBuffer();
+            queryBuf.append(selectQuery);
 
-        addWhereClause(queryBuf, method, whereArgs);
-        addOffsetClause(queryBuf, offset, limit);
+            addWhereClause(queryBuf, method, whereArgs.clone());
+            addOffsetClause(queryBuf, offset, limit);
 
-        return queryBuf.toString();
+            return queryBuf.toString();
+        });
+
+        rewriteParameters(getVariableBindingParameters(method), whereArgs);
+
+        return query;
     }
 
     /**
@@ -886,6 +1063,7 @@ public abstract class AbstractGenericView<T> extends AbstractGenericRetrieve imp
      *      날짜      | 작성자   |   내용
      * ------------------------------------------
      * 2021. 12. 9.     박준홍         최초 작성
+     * 2026. 10. 18.        박준홍         쿼리 재사용(QueryTemplateCache), 파라미터 변경 분리
      * </pre>
      * 
      * @param selectQuery
@@ -908,13 +1086,19 @@ public abstract class AbstractGenericView<T> extends AbstractGenericRetrieve imp
      */
     protected String createQueryForSelectOrderBy(@NotEmpty String selectQuery, @NotNull Method method, Object[] whereArgs, String... orderByArgs) {
 
-        StringBuffer queryBuf = new StringBuffer();
-        queryBuf.append(selectQuery);
+        String query = this.queryTemplates.get(QueryTemplateCache.key("ORDER_BY", selectQuery, method, whereArgs.length, orderByArgs), () -> {
+            StringBuffer queryBuf = new StringBuffer();
+            queryBuf.append(selectQuery);
 
-        addWhereClause(queryBuf, method, whereArgs);
-        addOrderByClause(queryBuf, orderByArgs);
+            addWhereClause(queryBuf, method, whereArgs.clone());
+            addOrderByClause(queryBuf, orderByArgs);
 
-        return queryBuf.toString();
+            return queryBuf.toString();
+        });
+
+        rewriteParameters(getVariableBindingParameters(method), whereArgs);
+
+        return query;
     }
 
     /**
@@ -931,6 +1115,7 @@ public abstract class AbstractGenericView<T> extends AbstractGenericRetrieve imp
      *                                  - {@link JdbcVariableBinder} 제거.
      *                                  - {@link Parameter} 추가
      *                                 이에 따라 {@link Parameter}을 이용하여 내부 로직 변경.
+     * 2026. 10. 18.        박준홍         쿼리 재사용(QueryTemplateCache), 파라미터 변경 분리
      * </pre>
      * 
      * @param parameters
@@ -952,65 +1137,12 @@ public abstract class AbstractGenericView<T> extends AbstractGenericRetrieve imp
             return "";
         }
 
-        StringBuffer buf = new StringBuffer();
-
-        buf.append("WHERE");
-        buf.append(" ");
-
-        Iterator<Parameter> itrParams = parameters.iterator();
-
-        int paramCount = whereArgs.length;
-        int posParam = 0;
-
-        Parameter paramNow = itrParams.next();
-
-        buf.append(validateColumnName(PARAMETER_COLUMN_NAME.apply(paramNow)));
-        buf.append(" ");
-
-        buf.append(getAssignQuery(PARAMETER_JDBC_VARIABLE_BINDER.apply(paramNow), posParam, whereArgs));
-        paramCount--;
-
-        boolean hasNext = true;
-        while (hasNext) {
-            posParam++;
-
-            Parameter paramLatest = paramNow;
-            switch (PARAMETER_JDBC_VARIABLE_BINDER.apply(paramLatest).operator()) {
-                case IN:
-                case NOT_IN:
-                    if (itrParams.hasNext()) {
-                        throw new UnsupportedVariableBindingException(String.format("'IN' 구문 이후에 다른 연산자가 오는 경우는 지원하지 않습니다. 연산자=%s",
-                                parameters.stream().map(p -> p.getAnnotation(JdbcVariableBinder.class)).map(c -> c.operator().get()).collect(Collectors.toList())));
-                    }
-                    for (int i = 0; i < paramCount; i++) {
-                        buf.append(", ");
-                        buf.append(" ?");
-                    }
-                    buf.append(")");
-                    hasNext = false;
-                    break;
-                default:
-                    if (!itrParams.hasNext()) {
-                        hasNext = false;
-                        break;
-                    }
-
-                    paramNow = itrParams.next();
-
-                    buf.append(" ");
-                    buf.append(concatenator);
-                    buf.append(" ");
-
-                    buf.append(validateColumnName(PARAMETER_COLUMN_NAME.apply(paramNow)));
-                    buf.append(" ");
+        String clause = this.queryTemplates.get(QueryTemplateCache.key("WHERE_CLAUSE", parameters, concatenator, whereArgs.length),
+                () -> renderWhereClause(parameters, concatenator, whereArgs.length));
 
-                    buf.append(getAssignQuery(PARAMETER_JDBC_VARIABLE_BINDER.apply(paramNow), posParam, whereArgs));
-                    paramCount--;
-                    break;
-            }
-        }
+        rewriteParameters(parameters, whereArgs);
 
-        return buf.toString();
+        return clause;
     }
 
     /**
@@ -1022,6 +1154,7 @@ public abstract class AbstractGenericView<T> extends AbstractGenericRetrieve imp
      *      날짜      | 작성자   |   내용
      * ------------------------------------------
      * 2021. 12. 1.     박준홍         최초 작성
+     * 2026. 10. 18.        박준홍         쿼리 생성과 파라미터 변경 분리
      * </pre>
      * 
      * @param vb
@@ -1037,11 +1170,36 @@ public abstract class AbstractGenericView<T> extends AbstractGenericRetrieve imp
      */
     protected final String getAssignQuery(JdbcVariableBinder vb, int posParam, Object... whereArgs) {
 
-        StringBuffer buf = new StringBuffer();
+        String query = getAssignQuery(vb);
+
+        rewriteParameter(vb, posParam, whereArgs);
+
+        return query;
+    }
+
+    /**
+     * 컬럼에 값을 설정하는 쿼리를 제공합니다. <br>
+     * 패턴: <code>{column-name} = {variable-binding-query}</code>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성. {@link #getAssignQuery(JdbcVariableBinder, int, Object...)}에서 분리
+     * </pre>
+     * 
+     * @param vb
+     * @return
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     * 
+     * @see #rewriteParameter(JdbcVariableBinder, int, Object...)
+     */
+    protected final String getAssignQuery(JdbcVariableBinder vb) {
 
-        // 호출하는 함수로 이관
-        // buf.append(vb.name());
-        // buf.append(" ");
+        StringBuffer buf = new StringBuffer();
 
         switch (vb.operator()) {
             case EQ:
@@ -1050,51 +1208,21 @@ public abstract class AbstractGenericView<T> extends AbstractGenericRetrieve imp
             case LE:
             case LT:
             case NOT:
-                buf.append(vb.operator().get());
-                buf.append(" ");
-                buf.append(vb.variableBinding());
-                break;
-            case IN:
-            case NOT_IN:
-                buf.append(vb.operator().get());
-                buf.append(" (");
-                buf.append(vb.variableBinding());
-                break;
             case LIKE:
-                buf.append(vb.operator().get());
-                buf.append(" ");
-                buf.append(vb.variableBinding());
-                whereArgs[posParam] = String.join((String) whereArgs[posParam], "%", "%");
-                break;
             case LIKE_PRE:
-                buf.append(vb.operator().get());
-                buf.append(" ");
-                buf.append(vb.variableBinding());
-                whereArgs[posParam] = String.join((String) whereArgs[posParam], "%", "");
-                break;
             case LIKE_POST:
-                buf.append(vb.operator().get());
-                buf.append(" ");
-                buf.append(vb.variableBinding());
-                whereArgs[posParam] = String.join((String) whereArgs[posParam], "", "%");
-                break;
             case NOT_LIKE:
-                buf.append(vb.operator().get());
-                buf.append(" ");
-                buf.append(vb.variableBinding());
-                whereArgs[posParam] = String.join((String) whereArgs[posParam], "%", "%");
-                break;
             case NOT_LIKE_PRE:
+            case NOT_LIKE_POST:
                 buf.append(vb.operator().get());
                 buf.append(" ");
                 buf.append(vb.variableBinding());
-                whereArgs[posParam] = String.join((String) whereArgs[posParam], "%", "");
                 break;
-            case NOT_LIKE_POST:
+            case IN:
+            case NOT_IN:
                 buf.append(vb.operator().get());
-                buf.append(" ");
+                buf.append(" (");
                 buf.append(vb.variableBinding());
-                whereArgs[posParam] = String.join((String) whereArgs[posParam], "", "%");
                 break;
             case IS_NOT_NULL:
                 buf.append(vb.operator().get());
@@ -1107,178 +1235,262 @@ public abstract class AbstractGenericView<T> extends AbstractGenericRetrieve imp
     }
 
     /**
-     * 컬럼 데이터를 제공하는 {@link Method} 목록을 제공합니다.<br>
+     * Primary Key 조회 요청({@link #selectByIdAsync(Object)})을 모아서 조회하는 작업을 실행할 {@link Executor}를 제공합니다. <br>
      * 
      * <pre>
      * [개정이력]
      *      날짜      | 작성자   |   내용
      * ------------------------------------------
-     * 2021. 11. 26.        박준홍         최초 작성
+     * 2026. 10. 18.        박준홍         최초 작성
      * </pre>
      *
-     * @return
+     * @return 기본값: {@link BatchLoader#defaultExecutor()}
      *
-     * @since 2021. 11. 26.
-     * @version 0.3.0
+     * @since 2026. 10. 18.
+     * @version 0.6.0
      * @author parkjunhong77@gmail.com
      */
-    protected final List<Method> getColumnMethods() {
-
-        List<Method> methods = Arrays.stream(this.entityType.getMethods()) // create methods stream
-                .filter(m -> {
-                    ColumnValue annoCv = m.getAnnotation(ColumnValue.class);
-                    // start - 컬럼 생성시 정의된 'default' 속성에 따라서 생성되는 컬럼을 제외 : 2022. 11. 1. 오후 2:28:00
-                    return annoCv != null && !annoCv.defaultColumn();
-                    // end - 컬럼 생성시 정의된 'default' 속성에 따라서 생성되는 컬럼을 제외 : 2022. 11. 1. 오후 2:28:00
-
-                }) // check annotation
-                .collect(Collectors.toList());
-
-        // start - 데이터 제공 메소드 미정의 허용 : 2022. 3. 23. 오후 2:54:34
-        if (methods.size() < 1) {
-            if (!this.ignoreNoDataMethod) {
-                logger.warn("DBMS Table에 연결된 Entity에서 데이터 제공 함수를 발견하지 못하였습니다. entity={}", this.entityType);
-            }
-            return methods;
-        } else {
-        }
-        // end - 데이터 제공 메소드 미정의 허용 : 2022. 3. 23. 오후 2:54:34
-
-        // DB Entity 객체의 컬럼 정렬 여부 적용 - 2022. 1. 7. 오전 11:44:06 / Park_Jun_Hong (parkjunhong77@gmail.com)
-        SQLUtils.sortColumns(this.entityType, methods);
-
-        return methods;
+    protected Executor getBatchLoadExecutor() {
+        return BatchLoader.defaultExecutor();
     }
 
     /**
-     * 컬럼명을 제공한다. <br>
+     * Primary Key 조회 요청을 모아서 조회하는 객체를 제공합니다. <br>
      * 
      * <pre>
      * [개정이력]
      *      날짜      | 작성자   |   내용
      * ------------------------------------------
-     * 2021. 11. 26.        박준홍         최초 작성
-     * 2025. 4. 2           박준홍         DBMS Reserved Keyword 검증 적용
+     * 2026. 10. 18.        박준홍         최초 작성
+     * 2026. 10. 18.        박준홍         조회 전용 Executor 적용
+     * 2026. 10. 18.        박준홍         'IN' 목록 최대 크기 적용
      * </pre>
      *
-     * @return
+     * @return 최대 식별자 개수({@link #getBatchLoadSize()})가 0 이하인 경우 <code>null</code>
      *
-     * @since 2021. 11. 26.
-     * @version 0.3.0
+     * @since 2026. 10. 18.
+     * @version 0.6.0
      * @author parkjunhong77@gmail.com
-     * 
-     * @see ColumnValue
      */
-    protected final List<String> getColumnNames() {
-        return getColumnsAsStream() //
-                .map(m -> SQLUtils.getColumnName(m)) //
-                .collect(Collectors.toList());
+    private BatchLoader<List<Object>, T> getBatchLoader() {
+        if (getBatchLoadSize() < 1) {
+            return null;
+        }
+
+        BatchLoader<List<Object>, T> loader = this.batchLoader;
+        if (loader == null) {
+            synchronized (this) {
+                loader = this.batchLoader;
+                if (loader == null) {
+                    loader = new BatchLoader<>(Math.min(getBatchLoadSize(), getMaxInListSize()), getBatchLoadWindow(), TimeUnit.MILLISECONDS,
+                            this::selectByIdsInClause, getBatchLoadExecutor());
+                    this.batchLoader = loader;
+                }
+            }
+        }
+
+        return loader;
     }
 
     /**
-     * 컬럼 데이터를 제공하는 {@link Method} 목록을 제공합니다.<br>
-     * <br>
+     * Primary Key 조회 요청({@link #selectByIdAsync(Object)})을 모아서 1번에 조회하는 최대 식별자 개수를 제공합니다. <br>
+     * 'IN' 목록 최대 크기({@link #getMaxInListSize()})를 넘는 경우 'IN' 목록 최대 크기를 사용합니다.
      * 
      * <pre>
      * [개정이력]
      *      날짜      | 작성자   |   내용
      * ------------------------------------------
-     * 2022. 7. 14.     박준홍         최초 작성
+     * 2026. 10. 18.        박준홍         최초 작성
      * </pre>
      *
-     * @return
+     * @return 기본값: 100. 0 이하인 경우 요청마다 조회.
      *
-     * @since 2022. 7. 14.
-     * @version 0.4.0
+     * @since 2026. 10. 18.
+     * @version 0.6.0
      * @author parkjunhong77@gmail.com
+     * 
+     * @see #getBatchLoadWindow()
      */
-    protected final List<Method> getColumns() {
-        return getColumnsAsStream() //
-                .collect(Collectors.toList());
+    protected int getBatchLoadSize() {
+        return 100;
     }
 
     /**
-     * 컬럼 데이터를 제공하는 {@link Method} 목록을 {@link Stream}으로 제공합니다.<br>
-     * <br>
+     * Primary Key 조회 요청({@link #selectByIdAsync(Object)})을 모으는 대기 시간(milliseconds)을 제공합니다. <br>
+     * 첫 요청 이후 대기 시간이 지나거나 최대 식별자 개수({@link #getBatchLoadSize()})만큼 요청된 경우 조회합니다.
      * 
      * <pre>
      * [개정이력]
      *      날짜      | 작성자   |   내용
      * ------------------------------------------
-     * 2022. 7. 14.     박준홍         최초 작성
+     * 2026. 10. 18.        박준홍         최초 작성
      * </pre>
      *
-     * @return
+     * @return 기본값: 2
      *
-     * @since 2022. 7. 14.
-     * @version 0.4.0
+     * @since 2026. 10. 18.
+     * @version 0.6.0
      * @author parkjunhong77@gmail.com
+     * 
+     * @see #getBatchLoadSize()
      */
-    protected final Stream<Method> getColumnsAsStream() {
-        return getColumnMethods().stream();
+    protected long getBatchLoadWindow() {
+        return 2;
     }
 
     /**
-     * 컬럼에 해당하는 데이터를 제공합니다. 파라미터로 컬럼이 없는 경우 전체 컬럼 데이터를 제공합니다.<br>
+     * 조회 결과의 메모리 크기(bytes)를 추정합니다. <br>
      * 
      * <pre>
      * [개정이력]
      *      날짜      | 작성자   |   내용
      * ------------------------------------------
-     * 2022. 7. 14.     박준홍         최초 작성
+     * 2026. 10. 18.        박준홍         최초 작성
      * </pre>
      *
+     * @param key
+     *            조회 요청 식별자
      * @param data
-     *            데이터
-     * @param clmns
-     *            컬럼명.
+     *            조회 결과
      * @return
      *
-     * @since 2022. 7. 14.
-     * @version 0.4.0
+     * @since 2026. 10. 18.
+     * @version 0.6.0
      * @author parkjunhong77@gmail.com
-     * 
-     * @see SQLUtils#sortColumns(Class, List)
-     * @see SQLUtils#isSortedColumns(Class)
      */
-    protected Object[] getColumnValues(T data, List<String> clmns) {
-        // 설정된 컬럼이 없는 경우
-        if (clmns == null || clmns.isEmpty()) {
-            return getColumnsAsStream() //
-                    .map(m -> {
-                        try {
-                            return m.invoke(data);
-                        } catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
-                            String errMsg = String.format("'%s' 정보를 변경하기 위한 정보를 생성 도중 에러가 발생하였습니다. 원인=%s", data.getClass(), e.getMessage());
-                            logger.error(errMsg, e);
-                            throw new UnsupportedOperationException(errMsg, e);
-                        }
-                    }).toArray();
-        } else {
-            Map<String, Method> clmnMethods = getColumnsAsStream() //
-                    .collect(Collectors.toMap(m ->
-                    // start - ColumnValue#name() 기본값 (빈 문자열 ("")) 지원 : 2022. 11. 25. 오후 6:12:34
-                    SQLUtils.getColumnNameByColumnValue(m)
-                    // end - ColumnValue#name() 기본값 (빈 문자열 ("")) 지원 : 2022. 11. 25. 오후 6:12:34
-                            , m -> m));
-
-            return clmns.stream() //
-                    .filter(clmn -> clmnMethods.containsKey(clmn)) //
-                    .map(clmn -> {
-                        try {
-                            return clmnMethods.get(clmn).invoke(data);
-                        } catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
-                            String errMsg = String.format("'%s' 정보를 변경하기 위한 정보를 생성 도중 에러가 발생하였습니다. 원인=%s", data.getClass(), e.getMessage());
-                            logger.error(errMsg, e);
-                            throw new UnsupportedOperationException(errMsg, e);
-                        }
-                    }) //
-                    .toArray();
+    private long estimateResultBytes(@NotNull QueryKey key, @NotNull List<T> data) {
+        // 조회 요청 식별자, 목록 객체
+        long bytes = key.getQuery().length() * 2L + PartitionSizePlanner.estimateBytes(key.getParams()) + 64;
+        for (T datum : data) {
+            // 데이터 객체 헤더 포함
+            bytes += PartitionSizePlanner.estimateBytes(getColumnValues(datum)) + 16;
         }
+        return bytes;
     }
 
     /**
-     * 컬럼에 해당하는 데이터를 제공합니다. 파라미터로 컬럼이 없는 경우 전체 컬럼 데이터를 제공합니다.<br>
+     * 컬럼 데이터를 제공하는 {@link Method} 목록을 제공합니다.<br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2021. 11. 26.        박준홍         최초 작성
+     * 2026. 10. 18.        박준홍         EntityMetadata 적용
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2021. 11. 26.
+     * @version 0.3.0
+     * @author parkjunhong77@gmail.com
+     */
+    protected final List<Method> getColumnMethods() {
+        return this.entityMetadata.getColumns();
+    }
+
+    /**
+     * 컬럼명을 제공한다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2021. 11. 26.        박준홍         최초 작성
+     * 2025. 4. 2           박준홍         DBMS Reserved Keyword 검증 적용
+     * 2026. 10. 18.        박준홍         EntityMetadata 적용
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2021. 11. 26.
+     * @version 0.3.0
+     * @author parkjunhong77@gmail.com
+     * 
+     * @see ColumnValue
+     */
+    protected final List<String> getColumnNames() {
+        return this.entityMetadata.getColumnNames();
+    }
+
+    /**
+     * 컬럼 데이터를 제공하는 {@link Method} 목록을 제공합니다.<br>
+     * <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2022. 7. 14.     박준홍         최초 작성
+     * 2026. 10. 18.        박준홍         EntityMetadata 적용
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2022. 7. 14.
+     * @version 0.4.0
+     * @author parkjunhong77@gmail.com
+     */
+    protected final List<Method> getColumns() {
+        return this.entityMetadata.getColumns();
+    }
+
+    /**
+     * 컬럼 데이터를 제공하는 {@link Method} 목록을 {@link Stream}으로 제공합니다.<br>
+     * <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2022. 7. 14.     박준홍         최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2022. 7. 14.
+     * @version 0.4.0
+     * @author parkjunhong77@gmail.com
+     */
+    protected final Stream<Method> getColumnsAsStream() {
+        return getColumnMethods().stream();
+    }
+
+    /**
+     * 컬럼에 해당하는 데이터를 제공합니다. 파라미터로 컬럼이 없는 경우 전체 컬럼 데이터를 제공합니다.<br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2022. 7. 14.     박준홍         최초 작성
+     * 2026. 10. 18.        박준홍         EntityMetadata 적용
+     * </pre>
+     *
+     * @param data
+     *            데이터
+     * @param clmns
+     *            컬럼명.
+     * @return
+     *
+     * @since 2022. 7. 14.
+     * @version 0.4.0
+     * @author parkjunhong77@gmail.com
+     * 
+     * @see SQLUtils#sortColumns(Class, List)
+     * @see SQLUtils#isSortedColumns(Class)
+     */
+    protected Object[] getColumnValues(T data, List<String> clmns) {
+        // 설정된 컬럼이 없는 경우
+        if (clmns == null || clmns.isEmpty()) {
+            return this.entityMetadata.getColumnValues(data);
+        } else {
+            return this.entityMetadata.getColumnValues(data, clmns);
+        }
+    }
+
+    /**
+     * 컬럼에 해당하는 데이터를 제공합니다. 파라미터로 컬럼이 없는 경우 전체 컬럼 데이터를 제공합니다.<br>
      * 
      * <pre>
      * [개정이력]
@@ -1336,6 +1548,7 @@ public abstract class AbstractGenericView<T> extends AbstractGenericRetrieve imp
      *      날짜      | 작성자   |   내용
      * ------------------------------------------
      * 2021. 12. 3.     박준홍         최초 작성
+     * 2026. 10. 18.        박준홍         전체 호출 스택 생성 제거, 메소드 정보 재사용
      * </pre>
      *
      * @param distance
@@ -1348,16 +1561,7 @@ public abstract class AbstractGenericView<T> extends AbstractGenericRetrieve imp
      * @author parkjunhong77@gmail.com
      */
     protected final Method getCurrentMethod(int distance, @NotEmpty Class<?>... parameterTypes) {
-
-        String name = ThreadUtils.getMethodName(distance + 1);
-
-        try {
-            return getClass().getMethod(name, parameterTypes);
-        } catch (NoSuchMethodException | SecurityException e) {
-            String errMsg = String.format("메소드 정보 추출 중 에러가 발생하였습니다. 이름=%s, 파라미터=%s, 원인=%s", name, Arrays.toString(parameterTypes), e.getMessage());
-            logger.error(errMsg, e);
-            throw new InternalError(errMsg, e);
-        }
+        return getMethod(ThreadStackUtils.getMethodName(distance + 1), parameterTypes);
     }
 
     /**
@@ -1420,6 +1624,93 @@ public abstract class AbstractGenericView<T> extends AbstractGenericRetrieve imp
         return getCurrentMethod(1, parameters);
     }
 
+    /**
+     * Primary Key로 조회한 데이터 캐시를 제공합니다. <br>
+     * 캐시 설정({@link #getEntityCacheSize()}, {@link #getEntityCacheTimeToLive()})은 하위 클래스에서 재정의할 수 있으므로, 생성자가 아닌 최초 사용시 생성합니다.
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @return 캐시 크기({@link #getEntityCacheSize()})가 0 이하이거나 Primary Key가 없는 경우 <code>null</code>
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     */
+    protected final EntityCache<T> getEntityCache() {
+        if (getEntityCacheSize() < 1) {
+            return null;
+        }
+
+        EntityCache<T> cache = this.entityCache;
+        if (cache == null) {
+            List<String> pkColumns = getPrimaryKeyColumns();
+            if (pkColumns == null || pkColumns.isEmpty()) {
+                return null;
+            }
+
+            synchronized (this) {
+                cache = this.entityCache;
+                if (cache == null) {
+                    cache = new EntityCache<>(getEntityCacheSize(), getEntityCacheTimeToLive(), TimeUnit.MILLISECONDS);
+                    this.entityCache = cache;
+                }
+            }
+        }
+
+        return cache;
+    }
+
+    /**
+     * Primary Key로 조회한 데이터 캐시 크기를 제공합니다. <br>
+     * 0보다 큰 경우 Primary Key 컬럼({@link ColumnValue#primaryKey()})만으로 조회하는 요청({@link #selectSingleBy(boolean, Method, Object...)})의 결과를
+     * 재사용합니다. 변경이 적은 테이블(코드 테이블 등)에서 재정의하여 사용합니다.
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @return 기본값: 0 (사용 안 함)
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     * 
+     * @see #getEntityCacheTimeToLive()
+     */
+    protected int getEntityCacheSize() {
+        return 0;
+    }
+
+    /**
+     * Primary Key로 조회한 데이터의 유효시간(milliseconds)을 제공합니다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @return 기본값: 60,000 (1분)
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     * 
+     * @see #getEntityCacheSize()
+     */
+    protected long getEntityCacheTimeToLive() {
+        return TimeUnit.MINUTES.toMillis(1);
+    }
+
     /**
      * Entity의 컬럼 정보를 {@link Iterator} 형태로 제공합니다. <br>
      * 
@@ -1428,6 +1719,7 @@ public abstract class AbstractGenericView<T> extends AbstractGenericRetrieve imp
      *      날짜      | 작성자   |   내용
      * ------------------------------------------
      * 2021. 12. 1.     박준홍         최초 작성
+     * 2026. 10. 18.        박준홍         EntityMetadata 적용
      * </pre>
      *
      * @return
@@ -1437,9 +1729,7 @@ public abstract class AbstractGenericView<T> extends AbstractGenericRetrieve imp
      * @author parkjunhong77@gmail.com
      */
     protected List<ColumnValue> getEntityColumnValues() {
-        return getColumnsAsStream() //
-                .map(m -> m.getAnnotation(ColumnValue.class)) //
-                .collect(Collectors.toList());
+        return this.entityMetadata.getColumnValues();
     }
 
     /**
@@ -1455,6 +1745,124 @@ public abstract class AbstractGenericView<T> extends AbstractGenericRetrieve imp
         return this.entityType;
     }
 
+    /**
+     * IN 파라미터 개수를 단계화한 크기를 제공합니다. <br>
+     * 8, 16, 32, ... 중에서 주어진 개수 이상인 가장 작은 값을 제공하며, 'IN' 목록 최대 크기({@link #getMaxInListSize()})를 넘지 않습니다. 파라미터 개수별로 쿼리가
+     * 생성되는 것을 막아서 JDBC Driver, DBMS의 Statement 캐시를 재사용할 수 있도록 합니다.
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * 2026. 10. 18.        박준홍         'IN' 목록 최대 크기 적용
+     * </pre>
+     *
+     * @param count
+     *            IN 파라미터 개수
+     * @return
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     */
+    private int getInClauseBucketSize(@Min(1) int count) {
+        int bucketSize = 8;
+        while (bucketSize < count && bucketSize < Integer.MAX_VALUE / 2) {
+            bucketSize <<= 1;
+        }
+        return Math.max(count, Math.min(bucketSize, getMaxInListSize()));
+    }
+
+    /**
+     * Keyset(Seek) 방식 조회에 사용할 정렬 기준 컬럼을 제공합니다. <br>
+     * 정렬 기준 컬럼이 없는 경우 Primary Key 컬럼을 사용하고, 정렬 기준 컬럼이 있는 경우 데이터가 유일하게 정렬되도록 포함되지 않은 Primary Key 컬럼을 추가합니다.
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @param orderColumns
+     *            정렬 기준 컬럼
+     * @return
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     */
+    protected List<String> getKeysetColumns(String... orderColumns) {
+        List<String> columns = new ArrayList<>();
+
+        if (orderColumns != null && orderColumns.length > 0) {
+            List<String> clmnNames = getColumnNames();
+            for (String clmn : orderColumns) {
+                if (!clmnNames.contains(clmn)) {
+                    throw ExceptionUtils.newException(IllegalArgumentException.class, "정렬 기준 컬럼이 존재하지 않습니다. entity=%s, column=%s, columns=%s", this.entityType, clmn,
+                            clmnNames);
+                }
+                if (!columns.contains(clmn)) {
+                    columns.add(clmn);
+                }
+            }
+        }
+
+        List<String> pkColumns = getPrimaryKeyColumns();
+        if (pkColumns != null) {
+            pkColumns.stream().filter(clmn -> !columns.contains(clmn)).forEach(columns::add);
+        }
+
+        if (columns.isEmpty()) {
+            throw ExceptionUtils.newException(UnsupportedOperationException.class, "정렬 기준 컬럼 또는 Primary Key 컬럼이 존재하지 않습니다. entity=%s", this.entityType);
+        }
+
+        return columns;
+    }
+
+    /**
+     * 이 클래스에 정의된 메소드 정보를 제공합니다. <br>
+     * 한번 조회된 메소드 정보는 재사용되기 때문에, 호출 스택을 사용하지 않고 {@link #selectSingleBy(boolean, Method, Object...)} 등에 직접 전달할 메소드 정보를
+     * 조회하는 용도로도 사용할 수 있습니다.
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @param name
+     *            메소드 이름
+     * @param parameterTypes
+     *            메소드 파라미터 타입
+     * @return
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     */
+    protected final Method getMethod(@NotEmpty String name, Class<?>... parameterTypes) {
+        MethodKey key = new MethodKey(name, parameterTypes);
+
+        Method method = this.methods.get(key);
+        if (method != null) {
+            return method;
+        }
+
+        try {
+            method = getClass().getMethod(name, parameterTypes);
+        } catch (NoSuchMethodException | SecurityException e) {
+            String errMsg = String.format("메소드 정보 추출 중 에러가 발생하였습니다. 이름=%s, 파라미터=%s, 원인=%s", name, Arrays.toString(parameterTypes), e.getMessage());
+            logger.error(errMsg, e);
+            throw new InternalError(errMsg, e);
+        }
+
+        Method prev = this.methods.putIfAbsent(key, method);
+        return prev != null ? prev : method;
+    }
+
     /**
      * 테이블에서 Primary Key로 사용 중인 컬럼 정보를 제공합니다. <br>
      * 
@@ -1463,6 +1871,7 @@ public abstract class AbstractGenericView<T> extends AbstractGenericRetrieve imp
      *      날짜      | 작성자   |   내용
      * ------------------------------------------
      * 2025. 4. 1.      박준홍         최초 작성
+     * 2026. 10. 18.        박준홍         EntityMetadata 적용
      * </pre>
      *
      * @return
@@ -1472,19 +1881,57 @@ public abstract class AbstractGenericView<T> extends AbstractGenericRetrieve imp
      * @author parkjunhong77@gmail.com
      */
     protected final List<String> getPrimaryKeyColumns() {
-
-        List<Method> columns = getColumnMethods();
-        if (columns.size() < 1) {
+        if (this.entityMetadata.getColumns().isEmpty()) {
             return null;
         }
 
         // Method: ColumnValue.primaryKey() 값이 true 경우
-        return columns.stream().filter(m -> {
-            ColumnValue annoCv = m.getAnnotation(ColumnValue.class);
-            return annoCv != null && annoCv.primaryKey();
-        }).map(m -> SQLUtils.getColumnName(m))//
-                .collect(Collectors.toList()) //
-        ;
+        return this.entityMetadata.getPrimaryKeyColumns();
+    }
+
+    /**
+     * 메소드가 Primary Key 컬럼만으로 조회하는 경우, Primary Key 컬럼 순서에 해당하는 파라미터 위치를 제공합니다. <br>
+     * 모든 Primary Key 컬럼이 1번씩 '=' 비교({@link WhereCompare#EQ}, <code>?</code>)로 사용된 경우만 해당합니다.
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @param method
+     *            사용자 정의 메소드
+     * @return Primary Key로 조회하지 않는 경우 빈 배열
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     */
+    private int[] getPrimaryKeyParameterIndexes(@NotNull Method method) {
+        return this.primaryKeyParameterIndexes.computeIfAbsent(method, m -> {
+            List<String> pkColumns = getPrimaryKeyColumns();
+            List<Parameter> parameters = getVariableBindingParameters(m);
+            if (pkColumns == null || pkColumns.isEmpty() || pkColumns.size() != parameters.size()) {
+                return new int[0];
+            }
+
+            int[] indexes = new int[pkColumns.size()];
+            Arrays.fill(indexes, -1);
+            JdbcVariableBinder binder = null;
+            int pkPos = -1;
+            for (int i = 0; i < parameters.size(); i++) {
+                binder = PARAMETER_JDBC_VARIABLE_BINDER.apply(parameters.get(i));
+                pkPos = pkColumns.indexOf(PARAMETER_COLUMN_NAME.apply(parameters.get(i)));
+                if (pkPos < 0 || indexes[pkPos] >= 0 //
+                        || binder.operator() != WhereCompare.EQ || !"?".equals(binder.variableBinding().trim())) {
+                    return new int[0];
+                }
+                indexes[pkPos] = i;
+            }
+
+            return indexes;
+        });
     }
 
     /**
@@ -1523,6 +1970,88 @@ public abstract class AbstractGenericView<T> extends AbstractGenericRetrieve imp
      */
     protected abstract CharSequence getReservedKeywordWrappingCharacter();
 
+    /**
+     * 조회 결과 캐시를 제공합니다. <br>
+     * 캐시 설정({@link #getResultCacheMaxBytes()}, {@link #getResultCacheTimeToLive()})은 하위 클래스에서 재정의할 수 있으므로, 생성자가 아닌 최초 사용시 생성합니다.
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @return 최대 메모리 크기({@link #getResultCacheMaxBytes()})가 0 이하인 경우 <code>null</code>
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     */
+    protected final QueryResultCache getResultCache() {
+        if (getResultCacheMaxBytes() < 1) {
+            return null;
+        }
+
+        QueryResultCache cache = this.resultCache;
+        if (cache == null) {
+            synchronized (this) {
+                cache = this.resultCache;
+                if (cache == null) {
+                    cache = new QueryResultCache(getResultCacheMaxBytes(), getResultCacheTimeToLive(), TimeUnit.MILLISECONDS);
+                    this.resultCache = cache;
+                }
+            }
+        }
+
+        return cache;
+    }
+
+    /**
+     * 조회 결과 캐시의 최대 메모리 크기(bytes)를 제공합니다. <br>
+     * 0보다 큰 경우 쿼리와 파라미터가 같은 조회 요청({@link #selectBy(Map, String...)}, {@link #selectMultiBy(Method, Object...)} 등)의 결과를 재사용합니다.
+     * 같은 테이블의 데이터가 변경되면 ({@link QueryResultCache#invalidate(String)}) 이전 조회 결과는 사용되지 않습니다.
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @return 기본값: 0 (사용 안 함)
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     * 
+     * @see #getResultCacheTimeToLive()
+     */
+    protected long getResultCacheMaxBytes() {
+        return 0;
+    }
+
+    /**
+     * 조회 결과 캐시의 유효시간(milliseconds)을 제공합니다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @return 기본값: 10,000 (10초)
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     * 
+     * @see #getResultCacheMaxBytes()
+     */
+    protected long getResultCacheTimeToLive() {
+        return TimeUnit.SECONDS.toMillis(10);
+    }
+
     /**
      *
      * @since 2021. 12. 7.
@@ -1601,6 +2130,7 @@ public abstract class AbstractGenericView<T> extends AbstractGenericRetrieve imp
      *      날짜      | 작성자   |   내용
      * ------------------------------------------
      * 2021. 11. 29.        박준홍         최초 작성
+     * 2026. 10. 18.        박준홍         조회 결과 재사용
      * </pre>
      *
      * @param method
@@ -1612,7 +2142,7 @@ public abstract class AbstractGenericView<T> extends AbstractGenericRetrieve imp
      * @author parkjunhong77@gmail.com
      */
     protected List<Parameter> getVariableBindingParameters(@NotNull Method method) {
-        return getVariableBindingParametersAsStream(method).collect(Collectors.toList());
+        return this.variableBindingParameters.computeIfAbsent(method, m -> Collections.unmodifiableList(getVariableBindingParametersAsStream(m).collect(Collectors.toList())));
     }
 
     /**
@@ -1637,6 +2167,29 @@ public abstract class AbstractGenericView<T> extends AbstractGenericRetrieve imp
                 .filter(param -> param.isAnnotationPresent(JdbcVariableBinder.class));
     }
 
+    /**
+     * Row Value 비교 구문(<code>( k1, k2 ) &gt; ( ?, ? )</code>)의 지원 여부를 제공합니다. <br>
+     * 지원하지 않거나 인덱스를 사용하지 못하는 DBMS의 경우 <code>false</code>를 제공하도록 재정의합니다.
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     * 
+     * @see #addKeysetClause(StringBuffer, List, Object[])
+     */
+    protected boolean isRowValueComparisonSupported() {
+        return true;
+    }
+
     /**
      * 컬럼이름을 콤마(,)로 연결시킨 문자열을 제공합니다. <br>
      * 
@@ -1645,6 +2198,7 @@ public abstract class AbstractGenericView<T> extends AbstractGenericRetrieve imp
      *      날짜      | 작성자   |   내용
      * ------------------------------------------
      * 2021. 11. 29.        박준홍         최초 작성
+     * 2026. 10. 18.        박준홍         EntityMetadata 적용
      * </pre>
      *
      * @return
@@ -1656,7 +2210,7 @@ public abstract class AbstractGenericView<T> extends AbstractGenericRetrieve imp
      * @see #getColumnNames()
      */
     protected String queryForColumnNames() {
-        return String.join(", ", validateColumnNames(getColumnNames()));
+        return String.join(", ", this.entityMetadata.getQuotedColumnNames());
     }
 
     /**
@@ -1668,6 +2222,7 @@ public abstract class AbstractGenericView<T> extends AbstractGenericRetrieve imp
      *      날짜      | 작성자   |   내용
      * ------------------------------------------
      * 2025. 4. 2.      박준홍         최초 작성
+     * 2026. 10. 18.        박준홍         EntityMetadata 적용
      * </pre>
      *
      * @param tblAlias
@@ -1683,7 +2238,7 @@ public abstract class AbstractGenericView<T> extends AbstractGenericRetrieve imp
             return queryForColumnNames();
         } else {
             final String trimTblAlias = tblAlias.trim();
-            return validateColumnNames(getColumnNames()).stream() //
+            return this.entityMetadata.getQuotedColumnNames().stream() //
                     .map(clmn -> new StringBuilder(trimTblAlias).append(".").append(clmn))//
                     .collect(Collectors.joining(", "));
         }
@@ -1778,60 +2333,214 @@ public abstract class AbstractGenericView<T> extends AbstractGenericRetrieve imp
      * @version 0.3.0
      * @author parkjunhong77@gmail.com
      */
-    protected String queryForVariableBinding() {
-
-        Iterator<ColumnValue> itr = getEntityColumnValues().iterator();
-
-        final StringBuffer queryBuf = new StringBuffer();
-
-        if (itr.hasNext()) {
-            queryBuf.append(itr.next().variableBinding());
-
-            while (itr.hasNext()) {
-                queryBuf.append(", ");
-                queryBuf.append(itr.next().variableBinding());
-            }
+    protected String queryForVariableBinding() {
+
+        Iterator<ColumnValue> itr = getEntityColumnValues().iterator();
+
+        final StringBuffer queryBuf = new StringBuffer();
+
+        if (itr.hasNext()) {
+            queryBuf.append(itr.next().variableBinding());
+
+            while (itr.hasNext()) {
+                queryBuf.append(", ");
+                queryBuf.append(itr.next().variableBinding());
+            }
+        }
+
+        return queryBuf.toString();
+    }
+
+    /**
+     * 'Select' 구문에서 사용되는 데이터 바인딩 쿼리를 제공합니다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2025. 4. 2.      박준홍         최초 작성
+     * 2025. 4. 8.      박준홍         clmnUppserCase 항목 추가. H2 DB에서 "? AS {column}" 구문파싱시 {column}을 타입으로 처리하는 오류에 대응.
+     * </pre>
+     * 
+     * @param castByClmnRealType
+     *            컬럼타입으로 CAST 여부
+     * 
+     * @return
+     *
+     * @since 2025. 4. 2.
+     * @version 0.5.0
+     * @author parkjunhong77@gmail.com
+     */
+    protected String queryForVariableBindingAliasingColumnName(boolean castByClmnRealType) {
+
+        Iterator<String> clmnNames = getColumnNames().iterator();
+        Iterator<ColumnValue> clmnValues = getEntityColumnValues().iterator();
+
+        final StringBuffer queryBuf = new StringBuffer();
+
+        if (clmnValues.hasNext()) {
+            queryBuf.append(VARIABLE_BINDER_ON_SELECT.apply(clmnNames.next(), clmnValues.next(), castByClmnRealType));
+            while (clmnValues.hasNext()) {
+                queryBuf.append(", ");
+                queryBuf.append(VARIABLE_BINDER_ON_SELECT.apply(clmnNames.next(), clmnValues.next(), castByClmnRealType));
+            }
+        }
+
+        return queryBuf.toString();
+    }
+
+    /**
+     * 주어진 컬럼명으로 '{컬럼 접속자}'로 연결된 Where 구문을 생성합니다. <br>
+     * 파라미터 값과 상관없이 파라미터 개수에 의해서만 결정됩니다.
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성. {@link #createWhereClause(List, String, Object...)}에서 분리
+     * </pre>
+     * 
+     * @param parameters
+     *            {@link JdbcVariableBinder}가 설정된 {@link Parameter} 목록
+     * @param concatenator
+     *            Where 구문 컬럼 접속자
+     * @param argCount
+     *            파라미터 개수
+     * @return
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     */
+    private String renderWhereClause(List<Parameter> parameters, String concatenator, int argCount) {
+
+        if (parameters.size() < 1) {
+            return "";
+        }
+
+        StringBuffer buf = new StringBuffer();
+
+        buf.append("WHERE");
+        buf.append(" ");
+
+        Iterator<Parameter> itrParams = parameters.iterator();
+
+        int paramCount = argCount;
+
+        Parameter paramNow = itrParams.next();
+
+        buf.append(validateColumnName(PARAMETER_COLUMN_NAME.apply(paramNow)));
+        buf.append(" ");
+
+        buf.append(getAssignQuery(PARAMETER_JDBC_VARIABLE_BINDER.apply(paramNow)));
+        paramCount--;
+
+        boolean hasNext = true;
+        while (hasNext) {
+            Parameter paramLatest = paramNow;
+            switch (PARAMETER_JDBC_VARIABLE_BINDER.apply(paramLatest).operator()) {
+                case IN:
+                case NOT_IN:
+                    if (itrParams.hasNext()) {
+                        throw new UnsupportedVariableBindingException(String.format("'IN' 구문 이후에 다른 연산자가 오는 경우는 지원하지 않습니다. 연산자=%s",
+                                parameters.stream().map(p -> p.getAnnotation(JdbcVariableBinder.class)).map(c -> c.operator().get()).collect(Collectors.toList())));
+                    }
+                    for (int i = 0; i < paramCount; i++) {
+                        buf.append(", ");
+                        buf.append(" ?");
+                    }
+                    buf.append(")");
+                    hasNext = false;
+                    break;
+                default:
+                    if (!itrParams.hasNext()) {
+                        hasNext = false;
+                        break;
+                    }
+
+                    paramNow = itrParams.next();
+
+                    buf.append(" ");
+                    buf.append(concatenator);
+                    buf.append(" ");
+
+                    buf.append(validateColumnName(PARAMETER_COLUMN_NAME.apply(paramNow)));
+                    buf.append(" ");
+
+                    buf.append(getAssignQuery(PARAMETER_JDBC_VARIABLE_BINDER.apply(paramNow)));
+                    paramCount--;
+                    break;
+            }
+        }
+
+        return buf.toString();
+    }
+
+    /**
+     * {@link JdbcVariableBinder#operator()}에 따라 파라미터 값을 변경합니다. (예: 'LIKE' 연산자인 경우 '%' 추가) <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @param vb
+     * @param posParam
+     *            현재 파라미터 위치
+     * @param whereArgs
+     *            전체 파라미터
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     */
+    protected final void rewriteParameter(JdbcVariableBinder vb, int posParam, Object... whereArgs) {
+        switch (vb.operator()) {
+            case LIKE:
+            case NOT_LIKE:
+                whereArgs[posParam] = String.join((String) whereArgs[posParam], "%", "%");
+                break;
+            case LIKE_PRE:
+            case NOT_LIKE_PRE:
+                whereArgs[posParam] = String.join((String) whereArgs[posParam], "%", "");
+                break;
+            case LIKE_POST:
+            case NOT_LIKE_POST:
+                whereArgs[posParam] = String.join((String) whereArgs[posParam], "", "%");
+                break;
+            default:
+                break;
         }
-
-        return queryBuf.toString();
     }
 
     /**
-     * 'Select' 구문에서 사용되는 데이터 바인딩 쿼리를 제공합니다. <br>
+     * 'WHERE' 구문에 사용되는 파라미터 값을 변경합니다. <br>
      * 
      * <pre>
      * [개정이력]
      *      날짜      | 작성자   |   내용
      * ------------------------------------------
-     * 2025. 4. 2.      박준홍         최초 작성
-     * 2025. 4. 8.      박준홍         clmnUppserCase 항목 추가. H2 DB에서 "? AS {column}" 구문파싱시 {column}을 타입으로 처리하는 오류에 대응.
+     * 2026. 10. 18.        박준홍         최초 작성
      * </pre>
-     * 
-     * @param castByClmnRealType
-     *            컬럼타입으로 CAST 여부
-     * 
-     * @return
      *
-     * @since 2025. 4. 2.
-     * @version 0.5.0
+     * @param parameters
+     *            {@link JdbcVariableBinder}가 설정된 {@link Parameter} 목록
+     * @param whereArgs
+     *            전체 파라미터
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
      * @author parkjunhong77@gmail.com
+     * 
+     * @see #rewriteParameter(JdbcVariableBinder, int, Object...)
      */
-    protected String queryForVariableBindingAliasingColumnName(boolean castByClmnRealType) {
-
-        Iterator<String> clmnNames = getColumnNames().iterator();
-        Iterator<ColumnValue> clmnValues = getEntityColumnValues().iterator();
-
-        final StringBuffer queryBuf = new StringBuffer();
-
-        if (clmnValues.hasNext()) {
-            queryBuf.append(VARIABLE_BINDER_ON_SELECT.apply(clmnNames.next(), clmnValues.next(), castByClmnRealType));
-            while (clmnValues.hasNext()) {
-                queryBuf.append(", ");
-                queryBuf.append(VARIABLE_BINDER_ON_SELECT.apply(clmnNames.next(), clmnValues.next(), castByClmnRealType));
-            }
+    protected final void rewriteParameters(@NotNull List<Parameter> parameters, Object... whereArgs) {
+        int pos = 0;
+        for (Parameter param : parameters) {
+            rewriteParameter(PARAMETER_JDBC_VARIABLE_BINDER.apply(param), pos++, whereArgs);
         }
-
-        return queryBuf.toString();
     }
 
     /**
@@ -1847,7 +2556,7 @@ public abstract class AbstractGenericView<T> extends AbstractGenericRetrieve imp
 
         logger.debug("Query: {}", QUERY_FOR_SELECT);
 
-        return getList(QUERY_FOR_SELECT, SQLConsumer.setParameters(), this.entityType);
+        return selectList(QUERY_FOR_SELECT, new Object[0]);
     }
 
     /**
@@ -1889,6 +2598,19 @@ public abstract class AbstractGenericView<T> extends AbstractGenericRetrieve imp
         return selectAllByQuery(QUERY_FOR_SELECT, orderByArgs);
     }
 
+    /**
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     *
+     * @see open.commons.spring.jdbc.repository.IGenericRetrieve#selectAllByKeyset(java.lang.String, int, java.lang.String[])
+     */
+    @Override
+    public Result<KeysetPage<T>> selectAllByKeyset(String continuationToken, @Min(1) int limit, String... orderColumns) {
+        return selectMultiByQueryForKeyset(QUERY_FOR_SELECT, null, continuationToken, limit, new Object[0], orderColumns);
+    }
+
     /**
      *
      * @since 2022. 11. 15.
@@ -1902,7 +2624,7 @@ public abstract class AbstractGenericView<T> extends AbstractGenericRetrieve imp
 
         logger.debug("Query: {}", queryForSelect);
 
-        return getList(QUERY_FOR_SELECT, SQLConsumer.setParameters(), this.entityType);
+        return selectList(QUERY_FOR_SELECT, new Object[0]);
     }
 
     /**
@@ -1920,7 +2642,7 @@ public abstract class AbstractGenericView<T> extends AbstractGenericRetrieve imp
 
         logger.debug("Query: {}, offset={}, limit={}", addedQuery, offset, limit);
 
-        return getList(addedQuery, SQLConsumer.setParameters(offset, limit), this.entityType);
+        return selectList(addedQuery, array(offset, limit));
     }
 
     /**
@@ -1943,7 +2665,7 @@ public abstract class AbstractGenericView<T> extends AbstractGenericRetrieve imp
 
         logger.debug("Query: {}, offset={}, limit={}", queryBuf.toString(), offset, limit);
 
-        return getList(queryBuf.toString(), SQLConsumer.setParameters(offset, limit), this.entityType);
+        return selectList(queryBuf.toString(), array(offset, limit));
     }
 
     /**
@@ -1963,7 +2685,7 @@ public abstract class AbstractGenericView<T> extends AbstractGenericRetrieve imp
 
         logger.debug("Query: {}", queryBuf.toString());
 
-        return getList(queryBuf.toString(), SQLConsumer.setParameters(), this.entityType);
+        return selectList(queryBuf.toString(), new Object[0]);
     }
 
     /**
@@ -1992,6 +2714,171 @@ public abstract class AbstractGenericView<T> extends AbstractGenericRetrieve imp
         return selectByQuery(queryForSelect(), clmnParams, orderByArgs);
     }
 
+    /**
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     *
+     * @see open.commons.spring.jdbc.repository.IGenericRetrieve#selectByIdAsync(java.lang.Object)
+     */
+    @Override
+    public CompletableFuture<Result<T>> selectByIdAsync(@NotNull Object id) {
+        List<String> pkColumns = getPrimaryKeyColumns();
+        if (pkColumns == null || pkColumns.size() != 1) {
+            return CompletableFuture.completedFuture(new Result<T>().setMessage("1개의 컬럼으로 구성된 Primary Key만 지원합니다. entity=%s, primary-key=%s", this.entityType, pkColumns));
+        } else if (id == null) {
+            throw ExceptionUtils.newException(IllegalArgumentException.class, "Primary Key 값은 null일 수 없습니다. entity=%s", this.entityType);
+        }
+
+        boolean inTransaction = TransactionSynchronizationManager.isActualTransactionActive();
+        List<Object> key = EntityCache.key(toPrimaryKeyValue(pkColumns.get(0), id));
+        // 트랜잭션 도중에는 Primary Key 조회 데이터 캐시를 사용하지 않음.
+        EntityCache<T> cache = inTransaction ? null : getEntityCache();
+        if (cache != null) {
+            T data = cache.get(key);
+            if (data != null) {
+                return CompletableFuture.completedFuture(new Result<>(data, true));
+            }
+        }
+
+        BatchLoader<List<Object>, T> loader = getBatchLoader();
+        // 트랜잭션이 진행 중인 경우 현재 쓰레드(트랜잭션)에서 조회
+        if (loader == null || inTransaction) {
+            try {
+                return CompletableFuture.completedFuture(new Result<>(selectByIdsInClause(Arrays.asList(key)).get(key), true));
+            } catch (RuntimeException e) {
+                return CompletableFuture.completedFuture(new Result<T>().setMessage(e.getMessage()));
+            }
+        }
+
+        return loader.load(key).handle((data, e) -> {
+            if (e == null) {
+                return new Result<>(data, true);
+            }
+            Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+            return new Result<T>().setMessage(cause.getMessage() != null ? cause.getMessage() : cause.getClass().getName());
+        });
+    }
+
+    /**
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     *
+     * @see open.commons.spring.jdbc.repository.IGenericRetrieve#selectByIds(java.util.Collection)
+     */
+    @Override
+    public Result<List<T>> selectByIds(@NotNull Collection<?> ids) {
+        List<String> pkColumns = getPrimaryKeyColumns();
+        if (pkColumns == null || pkColumns.size() != 1) {
+            return new Result<List<T>>().setMessage("1개의 컬럼으로 구성된 Primary Key만 지원합니다. entity=%s, primary-key=%s", this.entityType, pkColumns);
+        }
+
+        // #1. 캐시된 데이터 확인 및 중복 제거
+        // 트랜잭션 도중에는 Primary Key 조회 데이터 캐시를 사용하지 않음.
+        EntityCache<T> cache = TransactionSynchronizationManager.isActualTransactionActive() ? null : getEntityCache();
+        Map<List<Object>, T> entities = new HashMap<>();
+        Set<List<Object>> missed = new LinkedHashSet<>();
+        List<List<Object>> keys = new ArrayList<>(ids.size());
+        List<Object> key = null;
+        T data = null;
+        for (Object id : ids) {
+            if (id == null) {
+                throw ExceptionUtils.newException(IllegalArgumentException.class, "Primary Key 값은 null일 수 없습니다. entity=%s", this.entityType);
+            }
+            key = EntityCache.key(toPrimaryKeyValue(pkColumns.get(0), id));
+            keys.add(key);
+            data = cache != null ? cache.get(key) : null;
+            if (data != null) {
+                entities.put(key, data);
+            } else {
+                missed.add(key);
+            }
+        }
+
+        // #2. 'IN' 목록 최대 크기로 분할하여 조회
+        List<List<Object>> missedKeys = new ArrayList<>(missed);
+        int maxSize = getMaxInListSize();
+        try {
+            for (int from = 0; from < missedKeys.size(); from += maxSize) {
+                entities.putAll(selectByIdsInClause(missedKeys.subList(from, Math.min(from + maxSize, missedKeys.size()))));
+            }
+        } catch (IllegalStateException e) {
+            return new Result<List<T>>().setMessage(e.getMessage());
+        }
+
+        // #3. 요청 순서로 정렬
+        List<T> sorted = new ArrayList<>(keys.size());
+        for (List<Object> k : keys) {
+            data = entities.get(k);
+            if (data != null) {
+                sorted.add(data);
+            }
+        }
+
+        return new Result<>(sorted, true);
+    }
+
+    /**
+     * Primary Key 값 목록에 해당하는 데이터를 1개의 쿼리(<code>WHERE {pk} IN ( ?, ?, ... )</code>)로 조회합니다. <br>
+     * Primary Key 조회 데이터 캐시({@link #getEntityCache()})를 사용하는 경우 조회 결과를 저장합니다.<br>
+     * 쿼리 종류를 줄이기 위해 IN 파라미터 개수는 {@link #getInClauseBucketSize(int)}에 맞추며, 부족한 파라미터는 마지막 값으로 채웁니다.
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * 2026. 10. 18.        박준홍         IN 파라미터 개수 단계화 적용
+     * 2026. 10. 18.        박준홍         트랜잭션 진행 중 Primary Key 조회 데이터 캐시 미사용
+     * </pre>
+     *
+     * @param keys
+     *            Primary Key 값 목록. ({@link #toPrimaryKeyValue(String, Object)}, {@link EntityCache#key(Object...)}), 'IN' 목록 최대 크기({@link #getMaxInListSize()}) 이하
+     * @return Primary Key 값별 데이터. 데이터가 없는 경우 포함하지 않음.
+     * @throws IllegalStateException
+     *             조회에 실패한 경우
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     */
+    private Map<List<Object>, T> selectByIdsInClause(@NotEmpty List<List<Object>> keys) {
+        String pkColumn = getPrimaryKeyColumns().get(0);
+
+        int bucketSize = getInClauseBucketSize(keys.size());
+        StringBuffer queryBuf = new StringBuffer(QUERY_FOR_SELECT);
+        addQueryForInClause(queryBuf, "WHERE", validateColumnName(pkColumn), bucketSize);
+        Object[] params = new Object[bucketSize];
+        for (int i = 0; i < bucketSize; i++) {
+            params[i] = keys.get(Math.min(i, keys.size() - 1)).get(0);
+        }
+
+        logger.debug("Query={}, params={}", queryBuf.toString(), Arrays.toString(params));
+
+        // 트랜잭션 도중에 조회한 데이터는 Commit 되지 않은 데이터일 수 있으므로 캐시에 저장하지 않음.
+        EntityCache<T> cache = TransactionSynchronizationManager.isActualTransactionActive() ? null : getEntityCache();
+        long generation = cache != null ? cache.generation() : 0;
+        Result<List<T>> result = selectList(queryBuf.toString(), params);
+        if (!result.getResult() || result.getData() == null) {
+            throw ExceptionUtils.newException(IllegalStateException.class, "Primary Key 목록 조회에 실패하였습니다. entity=%s, 원인=%s", this.entityType, result.getMessage());
+        }
+
+        Map<List<Object>, T> entities = new HashMap<>();
+        List<Object> key = null;
+        for (T data : result.getData()) {
+            key = EntityCache.key(getColumnValues(data, pkColumn));
+            entities.put(key, data);
+            if (cache != null) {
+                cache.put(key, data, generation);
+            }
+        }
+
+        return entities;
+    }
+
     /**
      *
      * @since 2022. 11. 15.
@@ -2013,7 +2900,7 @@ public abstract class AbstractGenericView<T> extends AbstractGenericRetrieve imp
 
         logger.debug("Query={}, params={}", queryBuf.toString(), Arrays.toString(params));
 
-        return getList(queryBuf.toString(), SQLConsumer.setParameters(params), getEntityType());
+        return selectList(queryBuf.toString(), params);
     }
 
     /**
@@ -2036,7 +2923,62 @@ public abstract class AbstractGenericView<T> extends AbstractGenericRetrieve imp
 
         logger.debug("Query={}, params={}", queryBuf.toString(), Arrays.toString(params));
 
-        return getList(queryBuf.toString(), SQLConsumer.setParameters(params), getEntityType());
+        return selectList(queryBuf.toString(), params);
+    }
+
+    /**
+     * 주어진 쿼리와 파라미터로 데이터를 조회합니다. <br>
+     * 조회 결과 캐시({@link #getResultCache()})를 사용하는 경우 쿼리, 파라미터, 데이터 타입, 컬럼이 같은 조회 결과를 재사용합니다. 재사용되는 데이터 객체는 공유되므로 변경하지 않아야
+     * 합니다.<br>
+     * 캐시된 조회 결과가 없는 경우, 동시에 요청된 동일한 조회 요청은 1번만 실행됩니다. ({@link #getListShared(String, Object[], Class, long, String...)})<br>
+     * 트랜잭션이 진행 중인 경우 트랜잭션마다 조회 결과가 다를 수 있으므로 조회 결과 캐시를 사용하지 않습니다.
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * 2026. 10. 18.        박준홍         동일한 조회 요청 1번만 실행 적용
+     * 2026. 10. 18.        박준홍         트랜잭션 진행 중 조회 결과 캐시 미사용
+     * 2026. 10. 18.        박준홍         조회 결과 버전이 다른 조회 요청과 조회 결과 공유 금지
+     * 2026. 10. 18.        박준홍         {@link #getResultCache()} 적용
+     * 2026. 10. 18.        박준홍         조회 결과 캐시를 사용하지 않는 경우에도 테이블 버전이 다른 조회 요청과 조회 결과 공유 금지
+     * </pre>
+     *
+     * @param query
+     *            데이터 조회 쿼리
+     * @param params
+     *            쿼리 파라미터
+     * @param columnNames
+     *            요청쿼리 처리 결과에서 필요한 컬럼이름.
+     * @return
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     */
+    protected Result<List<T>> selectList(@NotEmpty String query, @NotNull Object[] params, String... columnNames) {
+        // 데이터 변경 이전에 시작된 조회 결과를 변경 이후의 요청이 사용하거나, 변경 이후의 버전으로 저장되지 않도록 버전이 같은 조회 요청끼리만 조회 결과를 공유
+        long version = QueryResultCache.version(this.tableName);
+
+        QueryResultCache cache = getResultCache();
+        if (cache == null || TransactionSynchronizationManager.isActualTransactionActive()) {
+            return getListShared(query, params, this.entityType, version, columnNames);
+        }
+
+        QueryKey key = new QueryKey(query, params, this.entityType, columnNames);
+        List<T> data = cache.get(key, this.tableName);
+        if (data != null) {
+            return new Result<>(new ArrayList<>(data), true);
+        }
+
+        Result<List<T>> result = getListShared(query, params, this.entityType, version, columnNames);
+        if (result.getResult() && result.getData() != null) {
+            data = Collections.unmodifiableList(new ArrayList<>(result.getData()));
+            cache.put(key, this.tableName, version, data, estimateResultBytes(key, data));
+        }
+
+        return result;
     }
 
     /**
@@ -2209,6 +3151,38 @@ public abstract class AbstractGenericView<T> extends AbstractGenericRetrieve imp
 
     }
 
+    /**
+     * 주어진 조건에 맞는 여러 개의 데이터를 Keyset(Seek) 방식으로 제공합니다. <br>
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @param method
+     *            사용자 정의 메소드
+     * @param continuationToken
+     *            이전 조회 결과에서 제공된 토큰({@link KeysetPage#getNextToken()}). 첫 조회인 경우 <code>null</code>
+     * @param limit
+     *            데이터 개수.
+     * @param whereArgs
+     *            'WHERE' 절에 사용될 파라미터.
+     * @param orderColumns
+     *            정렬 기준 컬럼. 없는 경우 Primary Key 컬럼.
+     * @return
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     * 
+     * @see #getKeysetColumns(String...)
+     */
+    protected Result<KeysetPage<T>> selectMultiByKeyset(@NotNull Method method, String continuationToken, @Min(1) int limit, Object[] whereArgs, String... orderColumns) {
+        return selectMultiByQueryForKeyset(QUERY_FOR_SELECT, method, continuationToken, limit, whereArgs, orderColumns);
+    }
+
     /**
      * 주어진 조건에 맞는 여러 개의 데이터를 제공합니다. <br>
      * 
@@ -2217,6 +3191,7 @@ public abstract class AbstractGenericView<T> extends AbstractGenericRetrieve imp
      *      날짜      | 작성자   |   내용
      * ------------------------------------------
      * 2022. 11. 15.        박준홍         최초 작성
+     * 2026. 10. 18.        박준홍         조회 결과 캐시 적용
      * </pre>
      * 
      * @param queryForSelect
@@ -2239,7 +3214,7 @@ public abstract class AbstractGenericView<T> extends AbstractGenericRetrieve imp
 
         logger.debug("Query: {}, where.columns={}", query, Arrays.toString(whereArgs));
 
-        return getList(query, SQLConsumer.setParameters(whereArgs), this.entityType);
+        return selectList(query, whereArgs);
     }
 
     /**
@@ -2250,6 +3225,7 @@ public abstract class AbstractGenericView<T> extends AbstractGenericRetrieve imp
      *      날짜      | 작성자   |   내용
      * ------------------------------------------
      * 2022. 11. 15.        박준홍         최초 작성
+     * 2026. 10. 18.        박준홍         조회 결과 캐시 적용
      * </pre>
      * 
      * @param queryForSelect
@@ -2276,7 +3252,7 @@ public abstract class AbstractGenericView<T> extends AbstractGenericRetrieve imp
 
         logger.debug("Query: {}, where.columns={}", query, Arrays.toString(whereArgs));
 
-        return getList(query, SQLConsumer.setParameters(whereArgs), this.entityType, columnNames);
+        return selectList(query, whereArgs, columnNames);
     }
 
     /**
@@ -2330,6 +3306,96 @@ public abstract class AbstractGenericView<T> extends AbstractGenericRetrieve imp
         return selectMultiBy(queryForSelect, getCurrentMethod(1, whereArgs), whereArgs, columnNames);
     }
 
+    /**
+     * 주어진 쿼리와 조건에 맞는 여러 개의 데이터를 Keyset(Seek) 방식으로 제공합니다. <br>
+     * 패턴: <code>{query} WHERE {조건} AND ( k1, k2 ) &gt; ( ?, ? ) ORDER BY k1, k2 {offset 구문}</code><br>
+     * 이전 데이터의 위치를 정렬 기준 컬럼값으로 찾기 때문에, 조회 위치와 관계없이 일정한 성능을 제공합니다.
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * 2026. 10. 18.        박준홍         조회 결과 캐시 적용
+     * 2026. 10. 18.        박준홍         다음 데이터 조회 토큰 생성 실패시 실패 결과 제공
+     * </pre>
+     *
+     * @param queryForSelect
+     *            데이터 조회 쿼리
+     * @param method
+     *            사용자 정의 메소드. 'WHERE' 조건이 없는 경우 <code>null</code>
+     * @param continuationToken
+     *            이전 조회 결과에서 제공된 토큰({@link KeysetPage#getNextToken()}). 첫 조회인 경우 <code>null</code>
+     * @param limit
+     *            데이터 개수.
+     * @param whereArgs
+     *            'WHERE' 절에 사용될 파라미터.
+     * @param orderColumns
+     *            정렬 기준 컬럼. 없는 경우 Primary Key 컬럼.
+     * @return 마지막 데이터의 정렬 기준 컬럼값이 <code>null</code> 이거나 지원하지 않는 데이터 타입이어서 다음 데이터 조회 토큰을 생성할 수 없는 경우 실패 결과
+     * @throws IllegalArgumentException
+     *             토큰이 올바르지 않거나, 정렬 기준 컬럼이 존재하지 않는 경우
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     * 
+     * @see #getKeysetColumns(String...)
+     * @see KeysetToken
+     */
+    protected Result<KeysetPage<T>> selectMultiByQueryForKeyset(@NotEmpty String queryForSelect, Method method, String continuationToken, @Min(1) int limit,
+            Object[] whereArgs, String... orderColumns) throws IllegalArgumentException {
+
+        List<String> keyColumns = getKeysetColumns(orderColumns);
+        Object[] keyValues = continuationToken != null ? KeysetToken.decode(keyColumns, continuationToken) : null;
+        if (whereArgs == null) {
+            whereArgs = new Object[0];
+        }
+
+        StringBuffer queryBuf = new StringBuffer();
+        queryBuf.append(queryForSelect);
+
+        String whereClause = method != null ? createWhereClause(getVariableBindingParameters(method), "AND", whereArgs) : "";
+        if (!whereClause.isEmpty()) {
+            queryBuf.append(" ");
+            queryBuf.append(whereClause);
+        }
+
+        List<Object> params = new ArrayList<>(Arrays.asList(whereArgs));
+        if (keyValues != null) {
+            queryBuf.append(whereClause.isEmpty() ? " WHERE " : " AND ");
+            params.addAll(addKeysetClause(queryBuf, keyColumns, keyValues));
+        }
+
+        addOrderByClause(queryBuf, keyColumns.stream().map(clmn -> validateColumnName(clmn)).toArray(String[]::new));
+        // 시작 위치를 조건절로 찾기 때문에 'offset'은 항상 0
+        addOffsetClause(queryBuf, 0, limit);
+        params.add(0);
+        params.add(limit);
+
+        String query = queryBuf.toString();
+
+        logger.debug("Query: {}, keyset.columns={}", query, keyColumns);
+
+        Result<List<T>> resultList = selectList(query, params.toArray());
+        if (!resultList.getResult()) {
+            return new Result<KeysetPage<T>>().setMessage(resultList.getMessage());
+        }
+
+        List<T> data = resultList.getData();
+        String nextToken = null;
+        if (data.size() >= limit) {
+            try {
+                nextToken = KeysetToken.encode(keyColumns, getColumnValues(data.get(data.size() - 1), keyColumns));
+            } catch (IllegalArgumentException e) {
+                // 정렬 기준 컬럼값이 null 이거나 지원하지 않는 데이터 타입인 경우
+                return new Result<KeysetPage<T>>().setMessage("다음 데이터 조회 토큰을 생성할 수 없습니다. keyset.columns=%s, 원인=%s", keyColumns, e.getMessage());
+            }
+        }
+
+        return new Result<>(new KeysetPage<>(data, nextToken), true);
+    }
+
     /**
      * 주어진 조건에 맞는 여러 개의 데이터를 제공합니다. <br>
      * 
@@ -2338,6 +3404,7 @@ public abstract class AbstractGenericView<T> extends AbstractGenericRetrieve imp
      *      날짜      | 작성자   |   내용
      * ------------------------------------------
      * 2022. 11. 15.        박준홍         최초 작성
+     * 2026. 10. 18.        박준홍         조회 결과 캐시 적용
      * </pre>
      *
      * @param queryForSelect
@@ -2362,7 +3429,7 @@ public abstract class AbstractGenericView<T> extends AbstractGenericRetrieve imp
 
         logger.debug("Query: {}", query);
 
-        return getList(query, SQLConsumer.setParameters(ArrayUtils.objectArray(whereArgs, offset, limit)), this.entityType);
+        return selectList(query, ArrayUtils.objectArray(whereArgs, offset, limit));
     }
 
     /**
@@ -2373,6 +3440,7 @@ public abstract class AbstractGenericView<T> extends AbstractGenericRetrieve imp
      *      날짜      | 작성자   |   내용
      * ------------------------------------------
      * 2022. 11. 15.        박준홍         최초 작성
+     * 2026. 10. 18.        박준홍         조회 결과 캐시 적용
      * </pre>
      *
      * @param queryForSelect
@@ -2400,7 +3468,7 @@ public abstract class AbstractGenericView<T> extends AbstractGenericRetrieve imp
 
         logger.debug("Query: {}, offset={}, limit={}", query, offset, limit);
 
-        return getList(query, SQLConsumer.setParameters(ArrayUtils.objectArray(whereArgs, offset, limit)), this.entityType, columnNames);
+        return selectList(query, ArrayUtils.objectArray(whereArgs, offset, limit), columnNames);
     }
 
     /**
@@ -2626,6 +3694,7 @@ public abstract class AbstractGenericView<T> extends AbstractGenericRetrieve imp
      *      날짜      | 작성자   |   내용
      * ------------------------------------------
      * 2022. 2. 10.     박준홍         최초 작성
+     * 2026. 10. 18.        박준홍         조회 결과 캐시 적용
      * </pre>
      * 
      * @param whereArgs
@@ -2652,7 +3721,7 @@ public abstract class AbstractGenericView<T> extends AbstractGenericRetrieve imp
 
         logger.debug("Query: {}, where.columns={}, offset={}, limit={}", query, Arrays.toString(whereArgs), offset, limit);
 
-        return getList(query, SQLConsumer.setParameters(ArrayUtils.objectArray(whereArgs, offset, limit)), this.entityType);
+        return selectList(query, ArrayUtils.objectArray(whereArgs, offset, limit));
     }
 
     /**
@@ -2671,6 +3740,7 @@ public abstract class AbstractGenericView<T> extends AbstractGenericRetrieve imp
      *      날짜      | 작성자   |   내용
      * ------------------------------------------
      * 2022. 2. 10.     박준홍         최초 작성
+     * 2026. 10. 18.        박준홍         조회 결과 캐시 적용
      * </pre>
      * 
      * @param whereArgs
@@ -2700,7 +3770,7 @@ public abstract class AbstractGenericView<T> extends AbstractGenericRetrieve imp
 
         logger.debug("Query: {}, offset={}, limit={}", query, offset, limit);
 
-        return getList(query, SQLConsumer.setParameters(ArrayUtils.objectArray(whereArgs, offset, limit)), this.entityType, columnNames);
+        return selectList(query, ArrayUtils.objectArray(whereArgs, offset, limit), columnNames);
     }
 
     /**
@@ -2711,6 +3781,7 @@ public abstract class AbstractGenericView<T> extends AbstractGenericRetrieve imp
      *      날짜      | 작성자   |   내용
      * ------------------------------------------
      * 2022. 11. 15.        박준홍         최초 작성
+     * 2026. 10. 18.        박준홍         조회 결과 캐시 적용
      * </pre>
      *
      * @param queryForSelect
@@ -2736,7 +3807,7 @@ public abstract class AbstractGenericView<T> extends AbstractGenericRetrieve imp
 
         logger.debug("Query: {}", query);
 
-        return getList(query, SQLConsumer.setParameters(whereArgs), this.entityType);
+        return selectList(query, whereArgs);
     }
 
     /**
@@ -2747,6 +3818,7 @@ public abstract class AbstractGenericView<T> extends AbstractGenericRetrieve imp
      *      날짜      | 작성자   |   내용
      * ------------------------------------------
      * 2022. 11. 15.        박준홍         최초 작성
+     * 2026. 10. 18.        박준홍         조회 결과 캐시 적용
      * </pre>
      *
      * @param queryForSelect
@@ -2775,7 +3847,7 @@ public abstract class AbstractGenericView<T> extends AbstractGenericRetrieve imp
 
         logger.debug("Query: {}", query);
 
-        return getList(query, SQLConsumer.setParameters(whereArgs), this.entityType, columnNames);
+        return selectList(query, whereArgs, columnNames);
     }
 
     /**
@@ -2853,6 +3925,7 @@ public abstract class AbstractGenericView<T> extends AbstractGenericRetrieve imp
      *      날짜      | 작성자   |   내용
      * ------------------------------------------
      * 2022. 11. 15.        박준홍         최초 작성
+     * 2026. 10. 18.        박준홍         조회 결과 캐시 적용
      * </pre>
      *
      * @param queryForSelect
@@ -2885,7 +3958,7 @@ public abstract class AbstractGenericView<T> extends AbstractGenericRetrieve imp
 
         logger.debug("Query: {}, where.columns={}, offset={}, limit={}", query, Arrays.toString(whereArgs), offset, limit);
 
-        return getList(query, SQLConsumer.setParameters(ArrayUtils.objectArray(whereArgs, offset, limit)), this.entityType);
+        return selectList(query, ArrayUtils.objectArray(whereArgs, offset, limit));
     }
 
     /**
@@ -2896,6 +3969,7 @@ public abstract class AbstractGenericView<T> extends AbstractGenericRetrieve imp
      *      날짜      | 작성자   |   내용
      * ------------------------------------------
      * 2022. 11. 15.        박준홍         최초 작성
+     * 2026. 10. 18.        박준홍         조회 결과 캐시 적용
      * </pre>
      *
      * @param queryForSelect
@@ -2931,7 +4005,7 @@ public abstract class AbstractGenericView<T> extends AbstractGenericRetrieve imp
 
         logger.debug("Query: {}, offset={}, limit={}", query, offset, limit);
 
-        return getList(query, SQLConsumer.setParameters(ArrayUtils.objectArray(whereArgs, offset, limit)), this.entityType, columnNames);
+        return selectList(query, ArrayUtils.objectArray(whereArgs, offset, limit), columnNames);
     }
 
     /**
@@ -2950,6 +4024,7 @@ public abstract class AbstractGenericView<T> extends AbstractGenericRetrieve imp
      *      날짜      | 작성자   |   내용
      * ------------------------------------------
      * 2022. 11. 15.        박준홍         최초 작성
+     * 2026. 10. 18.        박준홍         조회 결과 캐시 적용
      * </pre>
      *
      * @param queryForSelect
@@ -2978,7 +4053,7 @@ public abstract class AbstractGenericView<T> extends AbstractGenericRetrieve imp
 
         logger.debug("Query: {}, where.columns={}, offset={}, limit={}", query, Arrays.toString(whereArgs), offset, limit);
 
-        return getList(query, SQLConsumer.setParameters(ArrayUtils.objectArray(whereArgs, offset, limit)), this.entityType);
+        return selectList(query, ArrayUtils.objectArray(whereArgs, offset, limit));
     }
 
     /**
@@ -2997,6 +4072,7 @@ public abstract class AbstractGenericView<T> extends AbstractGenericRetrieve imp
      *      날짜      | 작성자   |   내용
      * ------------------------------------------
      * 2022. 11. 15.        박준홍         최초 작성
+     * 2026. 10. 18.        박준홍         조회 결과 캐시 적용
      * </pre>
      *
      * @param queryForSelect
@@ -3028,7 +4104,7 @@ public abstract class AbstractGenericView<T> extends AbstractGenericRetrieve imp
 
         logger.debug("Query: {}, offset={}, limit={}", query, offset, limit);
 
-        return getList(query, SQLConsumer.setParameters(ArrayUtils.objectArray(whereArgs, offset, limit)), this.entityType, columnNames);
+        return selectList(query, ArrayUtils.objectArray(whereArgs, offset, limit), columnNames);
     }
 
     /**
@@ -3039,6 +4115,9 @@ public abstract class AbstractGenericView<T> extends AbstractGenericRetrieve imp
      *      날짜      | 작성자   |   내용
      * ------------------------------------------
      * 2021. 11. 29.        박준홍         최초 작성
+     * 2026. 10. 18.        박준홍         Primary Key 조회 데이터 캐시 적용
+     * 2026. 10. 18.        박준홍         트랜잭션 진행 중 Primary Key 조회 데이터 캐시 미사용
+     * 2026. 10. 18.        박준홍         {@link #getEntityCache()} 적용
      * </pre>
      * 
      * @param required
@@ -3061,7 +4140,31 @@ public abstract class AbstractGenericView<T> extends AbstractGenericRetrieve imp
      * @see ColumnValue
      */
     protected Result<T> selectSingleBy(boolean required, @NotNull Method method, Object... whereArgs) {
-        return selectSingleByQuery(QUERY_FOR_SELECT, required, method, whereArgs);
+        // 트랜잭션 도중에 조회한 데이터는 Commit 되지 않은 데이터일 수 있으므로 캐시를 사용하지 않음.
+        EntityCache<T> cache = TransactionSynchronizationManager.isActualTransactionActive() ? null : getEntityCache();
+        int[] pkIndexes = cache != null ? getPrimaryKeyParameterIndexes(method) : null;
+        if (pkIndexes == null || pkIndexes.length < 1 || whereArgs.length != getVariableBindingParameters(method).size()) {
+            return selectSingleByQuery(QUERY_FOR_SELECT, required, method, whereArgs);
+        }
+
+        Object[] pk = new Object[pkIndexes.length];
+        for (int i = 0; i < pk.length; i++) {
+            pk[i] = whereArgs[pkIndexes[i]];
+        }
+        List<Object> key = EntityCache.key(pk);
+
+        T data = cache.get(key);
+        if (data != null) {
+            return new Result<>(data, true);
+        }
+
+        long generation = cache.generation();
+        Result<T> result = selectSingleByQuery(QUERY_FOR_SELECT, required, method, whereArgs);
+        if (result.getResult() && result.getData() != null) {
+            cache.put(key, result.getData(), generation);
+        }
+
+        return result;
     }
 
     /**
@@ -3320,6 +4423,54 @@ public abstract class AbstractGenericView<T> extends AbstractGenericRetrieve imp
         return selectSingleByQuery(queryForSelect, required, getCurrentMethod(1, whereArgs), whereArgs, columnNames);
     }
 
+    /**
+     * Primary Key 값을 Primary Key 컬럼 데이터 타입으로 변환합니다. <br>
+     * 조회 결과는 Entity의 Primary Key 값으로 식별하기 때문에, 타입이 다른 값({@link Long} - {@link java.math.BigDecimal} 등)으로 요청하는 경우 조회 결과를 찾지 못하는 것을
+     * 막습니다. 숫자는 값의 손실 없이 변환할 수 있는 경우에만 변환합니다.
+     * 
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @param pkColumn
+     *            Primary Key 컬럼
+     * @param id
+     *            Primary Key 값
+     * @return
+     * @throws IllegalArgumentException
+     *             Primary Key 컬럼 데이터 타입으로 변환할 수 없는 경우
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private Object toPrimaryKeyValue(@NotEmpty String pkColumn, @NotNull Object id) {
+        int index = getColumnNames().indexOf(pkColumn);
+        Class<?> type = index < 0 ? Object.class : ClassUtils.resolvePrimitiveIfNecessary(getColumns().get(index).getReturnType());
+        if (type.isInstance(id)) {
+            return id;
+        }
+
+        if (id instanceof Number && Number.class.isAssignableFrom(type)) {
+            try {
+                Number value = NumberUtils.convertNumberToTargetClass((Number) id, (Class<? extends Number>) type);
+                // 값의 손실 여부 확인
+                Number origin = NumberUtils.convertNumberToTargetClass(value, ((Number) id).getClass());
+                if (origin instanceof Comparable ? ((Comparable) origin).compareTo(id) == 0 : origin.equals(id)) {
+                    return value;
+                }
+            } catch (IllegalArgumentException ignored) {
+            }
+        }
+
+        throw ExceptionUtils.newException(IllegalArgumentException.class, "Primary Key 값을 컬럼 데이터 타입으로 변환할 수 없습니다. entity=%s, primary-key=%s, type=%s, 입력값=%s (%s)",
+                this.entityType, pkColumn, type.getName(), id, id.getClass().getName());
+    }
+
     /**
      * 컬럼이름이 DBMS Reserved Keyword인 경우 DBMS에서 정한 문자로 감싼 문자열을 제공합니다. <br>
      * 
@@ -3454,4 +4605,46 @@ public abstract class AbstractGenericView<T> extends AbstractGenericRetrieve imp
     protected static final Set<String> loadReservedKeywords(@NotNull String reservedKeywordString) {
         return Collections.unmodifiableSet(StringUtils.splitAsSet(reservedKeywordString, ",", kw -> kw != null ? kw.trim().toUpperCase() : null));
     }
+
+    /**
+     * 메소드 정보 식별자.
+     * 
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     */
+    private static final class MethodKey {
+        private final String name;
+        private final Class<?>[] parameterTypes;
+        private final int hash;
+
+        private MethodKey(String name, Class<?>[] parameterTypes) {
+            this.name = name;
+            this.parameterTypes = parameterTypes != null ? parameterTypes : new Class<?>[0];
+            this.hash = 31 * name.hashCode() + Arrays.hashCode(this.parameterTypes);
+        }
+
+        /**
+         * @see java.lang.Object#equals(java.lang.Object)
+         */
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof MethodKey)) {
+                return false;
+            }
+            MethodKey other = (MethodKey) obj;
+            return this.name.equals(other.name) && Arrays.equals(this.parameterTypes, other.parameterTypes);
+        }
+
+        /**
+         * @see java.lang.Object#hashCode()
+         */
+        @Override
+        public int hashCode() {
+            return this.hash;
+        }
+    }
 }
@@ -0,0 +1,300 @@
+/*
+ * Copyright 2026 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/*
+ *
+ * This file is generated under this project, "open-commons-spring-jdbc".
+ *
+ * Date  : 2026. 10. 18. 오후 11:02:45
+ *
+ * Author: parkjunhong77@gmail.com
+ * 
+ */
+
+package open.commons.spring.jdbc.view;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+
+import open.commons.spring.jdbc.dao.LruMap;
+
+/**
+ * Primary Key로 조회한 데이터를 재사용하기 위한 크기와 유효시간이 제한된 LRU 캐시.<br>
+ * 데이터가 변경된 경우 {@link #remove(List)}, {@link #clear()}를 호출해야 하며, 조회 도중에 데이터가 변경된 경우 조회 결과가 저장되지 않도록 조회 전에
+ * {@link #generation()}을 확인하고 {@link #put(List, Object, long)}에 전달합니다.
+ *
+ * <pre>
+ * 사용 예)
+ * List&lt;Object&gt; key = EntityCache.key(pk);
+ * T data = cache.get(key);
+ * if (data == null) {
+ *     long generation = cache.generation();
+ *     data = ... // 조회
+ *     cache.put(key, data, generation);
+ * }
+ * </pre>
+ *
+ * @param <T>
+ *            DBMS Table에 연결된 데이터 타입.
+ *
+ * @since 2026. 10. 18.
+ * @version 0.6.0
+ * @author parkjunhong77@gmail.com
+ */
+public class EntityCache<T> {
+
+    /**
+     * 데이터 캐시.<br>
+     * <ul>
+     * <li>key: {@link #key(Object...)}
+     * <li>value: 데이터
+     * </ul>
+     */
+    private final Map<List<Object>, CacheEntry<T>> entities;
+    /** 유효시간 (nanoseconds) */
+    private final long timeToLiveNanos;
+    /** 데이터 변경(삭제) 횟수 */
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @param cacheSize
+     *            캐시 크기
+     * @param timeToLive
+     *            유효시간
+     * @param unit
+     *            유효시간 단위
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     */
+    public EntityCache(@Min(1) int cacheSize, @Min(1) long timeToLive, @NotNull TimeUnit unit) {
+        if (cacheSize < 1 || timeToLive < 1) {
+            throw new IllegalArgumentException(String.format("캐시 크기, 유효시간은 0보다 커야 합니다. 입력값=%s, %s", cacheSize, timeToLive));
+        }
+
+        this.timeToLiveNanos = unit.toNanos(timeToLive);
+        this.entities = LruMap.synchronizedMap(cacheSize);
+    }
+
+    /**
+     * 캐시된 데이터를 모두 삭제합니다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     */
+    public void clear() {
+        this.generation.incrementAndGet();
+        this.entities.clear();
+    }
+
+    /**
+     * 데이터 변경(삭제) 횟수를 제공합니다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     */
+    public long generation() {
+        return this.generation.get();
+    }
+
+    /**
+     * 캐시된 데이터를 제공합니다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @param key
+     *            캐시 식별자. {@link #key(Object...)}
+     * @return 데이터가 없거나 유효시간이 지난 경우 <code>null</code>
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     */
+    public T get(@NotNull List<Object> key) {
+        CacheEntry<T> entry = this.entities.get(key);
+        if (entry == null) {
+            return null;
+        } else if (entry.expiresAt - System.nanoTime() < 0) {
+            this.entities.remove(key, entry);
+            return null;
+        } else {
+            return entry.value;
+        }
+    }
+
+    /**
+     * 캐시 식별자를 생성합니다. <br>
+     * 정수형 데이터는 파라미터 타입과 Entity 타입이 달라도 동일한 값으로 비교되도록 {@link Long}으로 변환하고, {@link BigDecimal}은 소수점 이하 자릿수(scale)가 달라도
+     * 동일한 값으로 비교되도록 끝의 0을 제거합니다.
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * 2026. 10. 18.        박준홍         BigDecimal 자릿수 정규화
+     * </pre>
+     *
+     * @param pk
+     *            Primary Key 컬럼 데이터. (Primary Key 컬럼 순서)
+     * @return
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     */
+    public static List<Object> key(@NotNull Object... pk) {
+        Object[] key = new Object[pk.length];
+        for (int i = 0; i < pk.length; i++) {
+            if (pk[i] instanceof Byte || pk[i] instanceof Short || pk[i] instanceof Integer) {
+                key[i] = Long.valueOf(((Number) pk[i]).longValue());
+            } else if (pk[i] instanceof BigDecimal) {
+                key[i] = ((BigDecimal) pk[i]).stripTrailingZeros();
+            } else {
+                key[i] = pk[i];
+            }
+        }
+        return Arrays.asList(key);
+    }
+
+    /**
+     * 데이터를 저장합니다. <br>
+     * 조회를 시작한 이후에 데이터가 변경(삭제)된 경우 저장하지 않습니다.
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @param key
+     *            캐시 식별자. {@link #key(Object...)}
+     * @param value
+     *            데이터
+     * @param generation
+     *            조회를 시작할 때의 데이터 변경(삭제) 횟수. {@link #generation()}
+     * @return 저장 여부
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     */
+    public boolean put(@NotNull List<Object> key, @NotNull T value, long generation) {
+        CacheEntry<T> entry = new CacheEntry<>(value, System.nanoTime() + this.timeToLiveNanos);
+        synchronized (this.entities) {
+            if (this.generation.get() != generation) {
+                return false;
+            }
+            this.entities.put(key, entry);
+            return true;
+        }
+    }
+
+    /**
+     * 캐시된 데이터를 삭제합니다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @param key
+     *            캐시 식별자. {@link #key(Object...)}
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     */
+    public void remove(@NotNull List<Object> key) {
+        this.generation.incrementAndGet();
+        this.entities.remove(key);
+    }
+
+    /**
+     * 캐시된 데이터 개수를 제공합니다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     */
+    public int size() {
+        return this.entities.size();
+    }
+
+    private static final class CacheEntry<T> {
+        private final T value;
+        /** 만료 시각 ({@link System#nanoTime()}) */
+        private final long expiresAt;
+
+        private CacheEntry(T value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
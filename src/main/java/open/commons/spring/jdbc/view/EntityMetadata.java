@@ -0,0 +1,539 @@
+/*
+ * Copyright 2026 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/*
+ *
+ * This file is generated under this project, "open-commons-spring-jdbc".
+ *
+ * Date  : 2026. 10. 18. 오후 4:21:05
+ *
+ * Author: parkjunhong77@gmail.com
+ * 
+ */
+
+package open.commons.spring.jdbc.view;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+
+import javax.validation.constraints.NotNull;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import open.commons.core.annotation.ColumnValue;
+import open.commons.core.utils.SQLUtils;
+
+/**
+ * DBMS Table에 연결된 Entity의 컬럼 정보.<br>
+ * Entity 타입의 {@link ColumnValue} 정보를 생성시 1번만 분석하고, 이후에는 변경되지 않습니다.
+ *
+ * <ul>
+ * <li>컬럼: {@link ColumnValue#defaultColumn()}이 <code>false</code>인 메소드를 {@link SQLUtils#sortColumns(Class, List)} 순서로 정렬
+ * <li>컬럼 이름: {@link SQLUtils#getColumnName(Method)}, DBMS 예약어 변환 적용/미적용
+ * <li>Primary Key 컬럼, 변경 대상 컬럼
+ * <li>컬럼 데이터 제공 함수 ({@link MethodHandle})
+ * </ul>
+ *
+ * @param <T>
+ *            DBMS Table에 연결된 데이터 타입.
+ *
+ * @since 2026. 10. 18.
+ * @version 0.6.0
+ * @author parkjunhong77@gmail.com
+ */
+public final class EntityMetadata<T> {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.publicLookup();
+
+    private static final MethodType TYPE_GETTER = MethodType.methodType(Object.class, Object.class);
+
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+
+    /** DB Table 데이터 타입. */
+    private final Class<T> entityType;
+    /** 컬럼 데이터를 제공하는 메소드 */
+    private final List<Method> columns;
+    /** 컬럼 이름 */
+    private final List<String> columnNames;
+    /** DBMS 예약어 변환이 적용된 컬럼 이름 */
+    private final List<String> quotedColumnNames;
+    /** 컬럼 정보 */
+    private final List<ColumnValue> columnValues;
+    /** Primary Key 컬럼 이름 */
+    private final List<String> primaryKeyColumns;
+    /** {@link ColumnValue#defaultColumn()} 여부와 상관없이 Primary Key로 선언된 컬럼 이름 */
+    private final List<String> declaredPrimaryKeyColumns;
+    /** 변경 대상인 컬럼 데이터를 제공하는 메소드 */
+    private final List<Method> updatableColumns;
+    /** 변경 대상인 컬럼 이름 */
+    private final List<String> updatableColumnNames;
+    /** 변경 대상인 컬럼 정보 */
+    private final List<ColumnValue> updatableColumnValues;
+    /** 컬럼 순서와 동일한 컬럼 데이터 제공 함수 */
+    private final List<Function<T, Object>> accessors;
+    /** 변경 대상인 컬럼 순서와 동일한 컬럼 데이터 제공 함수 */
+    private final List<Function<T, Object>> updatableAccessors;
+    /**
+     * 컬럼 데이터 제공 함수<br>
+     * key: {@link SQLUtils#getColumnNameByColumnValue(Method)}
+     */
+    private final Map<String, Function<T, Object>> accessorsByName;
+
+    /**
+     * <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @param entityType
+     *            DBMS Table에 연결된 데이터 타입.
+     * @param quoter
+     *            컬럼 이름에 DBMS 예약어 변환을 적용하는 함수
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     */
+    public EntityMetadata(@NotNull Class<T> entityType, @NotNull UnaryOperator<String> quoter) {
+        this.entityType = entityType;
+
+        List<Method> methods = Arrays.stream(entityType.getMethods()) //
+                .filter(m -> {
+                    ColumnValue annoCv = m.getAnnotation(ColumnValue.class);
+                    return annoCv != null && !annoCv.defaultColumn();
+                }) //
+                .collect(Collectors.toList());
+        if (!methods.isEmpty()) {
+            SQLUtils.sortColumns(entityType, methods);
+        }
+
+        this.columns = Collections.unmodifiableList(methods);
+        this.columnNames = unmodifiable(methods, m -> SQLUtils.getColumnName(m));
+        this.quotedColumnNames = Collections.unmodifiableList(this.columnNames.stream().map(quoter).collect(Collectors.toList()));
+        this.columnValues = unmodifiable(methods, m -> m.getAnnotation(ColumnValue.class));
+        this.primaryKeyColumns = unmodifiable(methods.stream().filter(m -> m.getAnnotation(ColumnValue.class).primaryKey()).collect(Collectors.toList()),
+                m -> SQLUtils.getColumnName(m));
+        this.declaredPrimaryKeyColumns = unmodifiable(Arrays.stream(entityType.getMethods()) //
+                .filter(m -> {
+                    ColumnValue annoCv = m.getAnnotation(ColumnValue.class);
+                    return annoCv != null && annoCv.primaryKey();
+                }) //
+                .collect(Collectors.toList()), m -> SQLUtils.getColumnName(m));
+
+        List<Method> updatables = methods.stream().filter(m -> m.getAnnotation(ColumnValue.class).updatable()).collect(Collectors.toList());
+        this.updatableColumns = Collections.unmodifiableList(updatables);
+        this.updatableColumnNames = unmodifiable(updatables, m -> SQLUtils.getColumnNameByColumnValue(m));
+        this.updatableColumnValues = unmodifiable(updatables, m -> m.getAnnotation(ColumnValue.class));
+
+        Map<Method, Function<T, Object>> bound = new HashMap<>();
+        methods.forEach(m -> bound.put(m, bind(m)));
+
+        this.accessors = unmodifiable(methods, bound::get);
+        this.updatableAccessors = unmodifiable(updatables, bound::get);
+
+        Map<String, Function<T, Object>> byName = new HashMap<>();
+        methods.forEach(m -> byName.put(SQLUtils.getColumnNameByColumnValue(m), bound.get(m)));
+        this.accessorsByName = Collections.unmodifiableMap(byName);
+    }
+
+    private static <E, R> List<R> unmodifiable(List<E> list, Function<E, R> mapper) {
+        return Collections.unmodifiableList(list.stream().map(mapper).collect(Collectors.toList()));
+    }
+
+    /**
+     * 컬럼 데이터 제공 함수를 생성합니다. <br>
+     * {@link MethodHandle}을 생성할 수 없는 경우 {@link Method#invoke(Object, Object...)}를 사용합니다.
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @param m
+     * @return
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     */
+    private Function<T, Object> bind(@NotNull Method m) {
+        try {
+            MethodHandle getter = LOOKUP.unreflect(m).asType(TYPE_GETTER);
+            return data -> {
+                try {
+                    return getter.invokeExact((Object) data);
+                } catch (Throwable e) {
+                    throw newException(data, e);
+                }
+            };
+        } catch (IllegalAccessException e) {
+            logger.debug("MethodHandle을 생성할 수 없어 Reflection을 사용합니다. entity={}, method={}, cause={}", this.entityType, m.getName(), e.getMessage());
+            return data -> {
+                try {
+                    return m.invoke(data);
+                } catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException ex) {
+                    throw newException(data, ex);
+                }
+            };
+        }
+    }
+
+    /**
+     *
+     * <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @return the columnNames
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     *
+     * @see #columnNames
+     */
+    public List<String> getColumnNames() {
+        return columnNames;
+    }
+
+    /**
+     *
+     * <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @return the columns
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     *
+     * @see #columns
+     */
+    public List<Method> getColumns() {
+        return columns;
+    }
+
+    /**
+     *
+     * <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @return the columnValues
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     *
+     * @see #columnValues
+     */
+    public List<ColumnValue> getColumnValues() {
+        return columnValues;
+    }
+
+    /**
+     * 전체 컬럼 데이터를 컬럼 순서대로 제공합니다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @param data
+     * @return
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     */
+    public Object[] getColumnValues(T data) {
+        return values(data, this.accessors);
+    }
+
+    /**
+     * 컬럼에 해당하는 데이터를 제공합니다. 존재하지 않는 컬럼은 제외됩니다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @param data
+     * @param clmns
+     *            컬럼 이름 ({@link SQLUtils#getColumnNameByColumnValue(Method)})
+     * @return
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     */
+    public Object[] getColumnValues(T data, @NotNull List<String> clmns) {
+        List<Object> values = new ArrayList<>(clmns.size());
+        Function<T, Object> accessor = null;
+        for (String clmn : clmns) {
+            accessor = this.accessorsByName.get(clmn);
+            if (accessor != null) {
+                values.add(accessor.apply(data));
+            }
+        }
+        return values.toArray();
+    }
+
+    /**
+     *
+     * <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @return the declaredPrimaryKeyColumns
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     *
+     * @see #declaredPrimaryKeyColumns
+     */
+    public List<String> getDeclaredPrimaryKeyColumns() {
+        return declaredPrimaryKeyColumns;
+    }
+
+    /**
+     *
+     * <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @return the entityType
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     *
+     * @see #entityType
+     */
+    public Class<T> getEntityType() {
+        return entityType;
+    }
+
+    /**
+     *
+     * <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @return the primaryKeyColumns
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     *
+     * @see #primaryKeyColumns
+     */
+    public List<String> getPrimaryKeyColumns() {
+        return primaryKeyColumns;
+    }
+
+    /**
+     *
+     * <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @return the quotedColumnNames
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     *
+     * @see #quotedColumnNames
+     */
+    public List<String> getQuotedColumnNames() {
+        return quotedColumnNames;
+    }
+
+    /**
+     *
+     * <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @return the updatableColumnNames
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     *
+     * @see #updatableColumnNames
+     */
+    public List<String> getUpdatableColumnNames() {
+        return updatableColumnNames;
+    }
+
+    /**
+     *
+     * <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @return the updatableColumns
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     *
+     * @see #updatableColumns
+     */
+    public List<Method> getUpdatableColumns() {
+        return updatableColumns;
+    }
+
+    /**
+     *
+     * <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @return the updatableColumnValues
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     *
+     * @see #updatableColumnValues
+     */
+    public List<ColumnValue> getUpdatableColumnValues() {
+        return updatableColumnValues;
+    }
+
+    /**
+     * 변경 대상인 컬럼 데이터를 컬럼 순서대로 제공합니다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @param data
+     * @return
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     */
+    public Object[] getUpdatableColumnValues(T data) {
+        return values(data, this.updatableAccessors);
+    }
+
+    private UnsupportedOperationException newException(Object data, Throwable e) {
+        Throwable cause = e instanceof InvocationTargetException ? ((InvocationTargetException) e).getCause() : e;
+        String errMsg = String.format("'%s' 정보를 변경하기 위한 정보를 생성 도중 에러가 발생하였습니다. 원인=%s", data != null ? data.getClass() : this.entityType,
+                cause != null ? cause.getMessage() : e.getMessage());
+        logger.error(errMsg, e);
+        return new UnsupportedOperationException(errMsg, e);
+    }
+
+    /**
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        builder.append("EntityMetadata [entityType=");
+        builder.append(entityType);
+        builder.append(", columnNames=");
+        builder.append(columnNames);
+        builder.append(", primaryKeyColumns=");
+        builder.append(primaryKeyColumns);
+        builder.append(", updatableColumnNames=");
+        builder.append(updatableColumnNames);
+        builder.append("]");
+        return builder.toString();
+    }
+
+    private Object[] values(T data, List<Function<T, Object>> accessors) {
+        Object[] values = new Object[accessors.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = accessors.get(i).apply(data);
+        }
+        return values;
+    }
+}
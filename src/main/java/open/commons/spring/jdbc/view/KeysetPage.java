@@ -0,0 +1,151 @@
+/*
+ * Copyright 2026 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/*
+ *
+ * This file is generated under this project, "open-commons-spring-jdbc".
+ *
+ * Date  : 2026. 10. 18. 오후 1:05:21
+ *
+ * Author: parkjunhong77@gmail.com
+ * 
+ */
+
+package open.commons.spring.jdbc.view;
+
+import java.util.List;
+
+/**
+ * Keyset(Seek) 방식으로 조회한 데이터와 다음 데이터 조회에 사용할 토큰 정보.
+ *
+ * @param <T>
+ *            데이터 타입
+ *
+ * @since 2026. 10. 18.
+ * @version 0.6.0
+ * @author parkjunhong77@gmail.com
+ *
+ * @see KeysetToken
+ */
+public class KeysetPage<T> {
+
+    /** 조회 데이터 */
+    private final List<T> data;
+    /** 다음 데이터 조회 토큰. 더 이상 데이터가 없는 경우 <code>null</code> */
+    private final String nextToken;
+
+    /**
+     * <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @param data
+     *            조회 데이터
+     * @param nextToken
+     *            다음 데이터 조회 토큰
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     */
+    public KeysetPage(List<T> data, String nextToken) {
+        this.data = data;
+        this.nextToken = nextToken;
+    }
+
+    /**
+     *
+     * <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @return the data
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     *
+     * @see #data
+     */
+    public List<T> getData() {
+        return data;
+    }
+
+    /**
+     *
+     * <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @return the nextToken
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     *
+     * @see #nextToken
+     */
+    public String getNextToken() {
+        return nextToken;
+    }
+
+    /**
+     * 다음 데이터 존재 여부를 제공합니다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     */
+    public boolean hasNext() {
+        return this.nextToken != null;
+    }
+
+    /**
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        builder.append("KeysetPage [data.size=");
+        builder.append(data != null ? data.size() : 0);
+        builder.append(", nextToken=");
+        builder.append(nextToken);
+        builder.append("]");
+        return builder.toString();
+    }
+}
@@ -0,0 +1,257 @@
+/*
+ * Copyright 2026 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/*
+ *
+ * This file is generated under this project, "open-commons-spring-jdbc".
+ *
+ * Date  : 2026. 10. 18. 오후 1:12:48
+ *
+ * Author: parkjunhong77@gmail.com
+ * 
+ */
+
+package open.commons.spring.jdbc.view;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+
+import javax.validation.constraints.NotNull;
+
+import open.commons.core.utils.ExceptionUtils;
+
+/**
+ * Keyset(Seek) 방식 조회에 사용하는 토큰을 생성/해석하는 클래스.<br>
+ * 토큰은 정렬 기준 컬럼 목록과 마지막 데이터의 컬럼값을 포함하며, 외부에서는 내용을 알 수 없는 문자열로 취급합니다.
+ *
+ * <pre>
+ * 포맷: v1.{base64(컬럼1,컬럼2,...)}.{타입}{base64(값1)}.{타입}{base64(값2)}...
+ * </pre>
+ *
+ * @since 2026. 10. 18.
+ * @version 0.6.0
+ * @author parkjunhong77@gmail.com
+ */
+public final class KeysetToken {
+
+    private static final String VERSION = "v1";
+    private static final String DELIMITER = ".";
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private KeysetToken() {
+    }
+
+    /**
+     * 토큰에 포함된 컬럼값을 제공합니다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @param columns
+     *            정렬 기준 컬럼
+     * @param token
+     *            토큰
+     * @return
+     * @throws IllegalArgumentException
+     *             토큰이 올바르지 않거나, 정렬 기준 컬럼이 토큰을 생성할 때와 다른 경우
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     */
+    public static Object[] decode(@NotNull List<String> columns, @NotNull String token) throws IllegalArgumentException {
+        String[] fields = token.split("\\" + DELIMITER, -1);
+        if (fields.length != columns.size() + 2 || !VERSION.equals(fields[0])) {
+            throw ExceptionUtils.newException(IllegalArgumentException.class, "올바르지 않은 토큰입니다. token=%s", token);
+        }
+
+        try {
+            if (!String.join(",", columns).equals(decodeString(fields[1]))) {
+                throw ExceptionUtils.newException(IllegalArgumentException.class, "정렬 기준 컬럼이 일치하지 않습니다. columns=%s, token=%s", columns, token);
+            }
+
+            Object[] values = new Object[columns.size()];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = decodeValue(fields[i + 2]);
+            }
+            return values;
+        } catch (IllegalArgumentException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            throw ExceptionUtils.newException(IllegalArgumentException.class, e, "올바르지 않은 토큰입니다. token=%s", token);
+        }
+    }
+
+    private static String decodeString(String value) {
+        return new String(DECODER.decode(value), StandardCharsets.UTF_8);
+    }
+
+    private static Object decodeValue(@NotNull String field) {
+        char type = field.charAt(0);
+        String value = decodeString(field.substring(1));
+        switch (type) {
+            case 'S':
+                return value;
+            case 'Z':
+                return Boolean.valueOf(value);
+            case 'B':
+                return Byte.valueOf(value);
+            case 'H':
+                return Short.valueOf(value);
+            case 'I':
+                return Integer.valueOf(value);
+            case 'J':
+                return Long.valueOf(value);
+            case 'F':
+                return Float.valueOf(value);
+            case 'D':
+                return Double.valueOf(value);
+            case 'M':
+                return new BigDecimal(value);
+            case 'G':
+                return new BigInteger(value);
+            case 'd':
+                return java.sql.Date.valueOf(value);
+            case 't':
+                return java.sql.Time.valueOf(value);
+            case 'T':
+                return java.sql.Timestamp.valueOf(value);
+            case 'U':
+                return new java.util.Date(Long.parseLong(value));
+            case 'L':
+                return LocalDate.parse(value);
+            case 'l':
+                return LocalDateTime.parse(value);
+            case 'O':
+                return OffsetDateTime.parse(value);
+            case 'i':
+                return Instant.parse(value);
+            case 'u':
+                return UUID.fromString(value);
+            default:
+                throw ExceptionUtils.newException(IllegalArgumentException.class, "지원하지 않는 데이터 타입입니다. type=%s", type);
+        }
+    }
+
+    /**
+     * 토큰을 생성합니다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @param columns
+     *            정렬 기준 컬럼
+     * @param values
+     *            마지막 데이터의 컬럼값
+     * @return
+     * @throws IllegalArgumentException
+     *             컬럼과 컬럼값의 개수가 다르거나, 컬럼값이 <code>null</code> 또는 지원하지 않는 데이터 타입인 경우
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     */
+    public static String encode(@NotNull List<String> columns, @NotNull Object[] values) throws IllegalArgumentException {
+        if (columns.size() != values.length) {
+            throw ExceptionUtils.newException(IllegalArgumentException.class, "컬럼 개수(%s)와 데이터 개수(%s)가 일치하지 않습니다.", columns.size(), values.length);
+        }
+
+        StringBuffer buf = new StringBuffer(VERSION);
+        buf.append(DELIMITER);
+        buf.append(encodeString(String.join(",", columns)));
+        for (int i = 0; i < values.length; i++) {
+            buf.append(DELIMITER);
+            buf.append(encodeValue(columns.get(i), values[i]));
+        }
+
+        return buf.toString();
+    }
+
+    private static String encodeString(String value) {
+        return ENCODER.encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String encodeValue(String column, Object value) {
+        if (value == null) {
+            throw ExceptionUtils.newException(IllegalArgumentException.class, "정렬 기준 컬럼값은 null 일 수 없습니다. column=%s", column);
+        }
+
+        char type;
+        String str = value.toString();
+        if (value instanceof String) {
+            type = 'S';
+        } else if (value instanceof Boolean) {
+            type = 'Z';
+        } else if (value instanceof Byte) {
+            type = 'B';
+        } else if (value instanceof Short) {
+            type = 'H';
+        } else if (value instanceof Integer) {
+            type = 'I';
+        } else if (value instanceof Long) {
+            type = 'J';
+        } else if (value instanceof Float) {
+            type = 'F';
+        } else if (value instanceof Double) {
+            type = 'D';
+        } else if (value instanceof BigDecimal) {
+            type = 'M';
+        } else if (value instanceof BigInteger) {
+            type = 'G';
+        } else if (value instanceof java.sql.Date) {
+            type = 'd';
+        } else if (value instanceof java.sql.Time) {
+            type = 't';
+        } else if (value instanceof java.sql.Timestamp) {
+            type = 'T';
+        } else if (value instanceof java.util.Date) {
+            type = 'U';
+            str = String.valueOf(((java.util.Date) value).getTime());
+        } else if (value instanceof LocalDate) {
+            type = 'L';
+        } else if (value instanceof LocalDateTime) {
+            type = 'l';
+        } else if (value instanceof OffsetDateTime) {
+            type = 'O';
+        } else if (value instanceof Instant) {
+            type = 'i';
+        } else if (value instanceof UUID) {
+            type = 'u';
+        } else {
+            throw ExceptionUtils.newException(IllegalArgumentException.class, "지원하지 않는 데이터 타입입니다. column=%s, type=%s", column, value.getClass());
+        }
+
+        return type + encodeString(str);
+    }
+}
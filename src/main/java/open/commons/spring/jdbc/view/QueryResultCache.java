@@ -0,0 +1,325 @@
+/*
+ * Copyright 2026 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/*
+ *
+ * This file is generated under this project, "open-commons-spring-jdbc".
+ *
+ * Date  : 2026. 10. 18. 오후 11:38:52
+ *
+ * Author: parkjunhong77@gmail.com
+ * 
+ */
+
+package open.commons.spring.jdbc.view;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+
+import open.commons.spring.jdbc.dao.QueryKey;
+
+/**
+ * 조회 결과를 재사용하기 위한 메모리 크기(bytes)와 유효시간이 제한된 LRU 캐시.<br>
+ * 조회 결과는 테이블 버전({@link #version(String)})과 함께 저장되며, 테이블 데이터가 변경되어 버전이 증가({@link #invalidate(String)})한 이후에는 제공되지 않습니다.
+ * 테이블 버전은 모든 캐시가 공유하므로, 같은 테이블을 사용하는 어느 Repository에서 데이터를 변경하더라도 모든 캐시에 반영됩니다.
+ *
+ * <pre>
+ * 사용 예)
+ * List&lt;T&gt; data = cache.get(key, table);
+ * if (data == null) {
+ *     long version = QueryResultCache.version(table);
+ *     data = ... // 조회
+ *     cache.put(key, table, version, data, bytes);
+ * }
+ * </pre>
+ *
+ * @since 2026. 10. 18.
+ * @version 0.6.0
+ * @author parkjunhong77@gmail.com
+ */
+public class QueryResultCache {
+
+    /**
+     * 테이블 버전.<br>
+     * <ul>
+     * <li>key: 테이블 이름 (대문자)
+     * <li>value: 버전
+     * </ul>
+     */
+    private static final ConcurrentMap<String, AtomicLong> TABLE_VERSIONS = new ConcurrentHashMap<>();
+
+    /** 조회 결과. (사용 순서) */
+    private final LinkedHashMap<QueryKey, CacheEntry> results = new LinkedHashMap<>(16, 0.75f, true);
+    /** 최대 메모리 크기 (bytes) */
+    private final long maxBytes;
+    /** 유효시간 (nanoseconds) */
+    private final long timeToLiveNanos;
+    /** 사용 중인 메모리 크기 (bytes) */
+    private long usedBytes;
+
+    /**
+     * <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @param maxBytes
+     *            최대 메모리 크기 (bytes)
+     * @param timeToLive
+     *            유효시간
+     * @param unit
+     *            유효시간 단위
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     */
+    public QueryResultCache(@Min(1) long maxBytes, @Min(1) long timeToLive, @NotNull TimeUnit unit) {
+        if (maxBytes < 1 || timeToLive < 1) {
+            throw new IllegalArgumentException(String.format("최대 메모리 크기, 유효시간은 0보다 커야 합니다. 입력값=%s, %s", maxBytes, timeToLive));
+        }
+
+        this.maxBytes = maxBytes;
+        this.timeToLiveNanos = unit.toNanos(timeToLive);
+    }
+
+    /**
+     * 캐시된 조회 결과를 모두 삭제합니다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     */
+    public synchronized void clear() {
+        this.results.clear();
+        this.usedBytes = 0;
+    }
+
+    /**
+     * 캐시된 조회 결과를 제공합니다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @param <E>
+     *            조회 결과 타입
+     * @param key
+     *            조회 요청 식별자
+     * @param table
+     *            테이블 이름
+     * @return 조회 결과가 없거나, 유효시간이 지났거나, 테이블 데이터가 변경된 경우 <code>null</code>
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     */
+    @SuppressWarnings("unchecked")
+    public synchronized <E> E get(@NotNull QueryKey key, @NotNull String table) {
+        CacheEntry entry = this.results.get(key);
+        if (entry == null) {
+            return null;
+        } else if (entry.expiresAt - System.nanoTime() < 0 || entry.version != version(table)) {
+            remove(key);
+            return null;
+        } else {
+            return (E) entry.value;
+        }
+    }
+
+    /**
+     * 테이블 데이터가 변경되었음을 알립니다. (테이블 버전 증가) <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @param table
+     *            테이블 이름
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     */
+    public static void invalidate(@NotNull String table) {
+        TABLE_VERSIONS.computeIfAbsent(normalize(table), t -> new AtomicLong()).incrementAndGet();
+    }
+
+    private static String normalize(String table) {
+        return table.trim().toUpperCase(Locale.ROOT);
+    }
+
+    /**
+     * 조회 결과를 저장합니다. <br>
+     * 조회 결과가 최대 메모리 크기보다 크거나 조회를 시작한 이후에 테이블 데이터가 변경된 경우 저장하지 않으며, 메모리가 부족한 경우 오래 사용하지 않은 조회 결과부터
+     * 삭제합니다.
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @param key
+     *            조회 요청 식별자
+     * @param table
+     *            테이블 이름
+     * @param version
+     *            조회를 시작할 때의 테이블 버전. {@link #version(String)}
+     * @param value
+     *            조회 결과
+     * @param bytes
+     *            조회 결과 메모리 크기 (bytes)
+     * @return 저장 여부
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     */
+    public synchronized boolean put(@NotNull QueryKey key, @NotNull String table, long version, @NotNull Object value, @Min(0) long bytes) {
+        if (bytes > this.maxBytes || version != version(table)) {
+            return false;
+        }
+
+        remove(key);
+
+        Iterator<Map.Entry<QueryKey, CacheEntry>> itr = this.results.entrySet().iterator();
+        while (this.usedBytes + bytes > this.maxBytes && itr.hasNext()) {
+            this.usedBytes -= itr.next().getValue().bytes;
+            itr.remove();
+        }
+
+        this.results.put(key, new CacheEntry(value, version, bytes, System.nanoTime() + this.timeToLiveNanos));
+        this.usedBytes += bytes;
+
+        return true;
+    }
+
+    private void remove(QueryKey key) {
+        CacheEntry entry = this.results.remove(key);
+        if (entry != null) {
+            this.usedBytes -= entry.bytes;
+        }
+    }
+
+    /**
+     * 캐시된 조회 결과 개수를 제공합니다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     */
+    public synchronized int size() {
+        return this.results.size();
+    }
+
+    /**
+     * 사용 중인 메모리 크기(bytes)를 제공합니다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     */
+    public synchronized long usedBytes() {
+        return this.usedBytes;
+    }
+
+    /**
+     * 테이블 버전을 제공합니다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @param table
+     *            테이블 이름
+     * @return
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     */
+    public static long version(@NotNull String table) {
+        AtomicLong version = TABLE_VERSIONS.get(normalize(table));
+        return version != null ? version.get() : 0;
+    }
+
+    private static final class CacheEntry {
+        private final Object value;
+        /** 테이블 버전 */
+        private final long version;
+        /** 메모리 크기 (bytes) */
+        private final long bytes;
+        /** 만료 시각 ({@link System#nanoTime()}) */
+        private final long expiresAt;
+
+        private CacheEntry(Object value, long version, long bytes, long expiresAt) {
+            this.value = value;
+            this.version = version;
+            this.bytes = bytes;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,198 @@
+/*
+ * Copyright 2026 Park Jun-Hong (parkjunhong77@gmail.com)
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/*
+ *
+ * This file is generated under this project, "open-commons-spring-jdbc".
+ *
+ * Date  : 2026. 10. 18. 오후 5:41:26
+ *
+ * Author: parkjunhong77@gmail.com
+ * 
+ */
+
+package open.commons.spring.jdbc.view;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+
+import open.commons.spring.jdbc.dao.LruMap;
+
+/**
+ * 생성된 쿼리를 재사용하기 위한 크기가 제한된 LRU 캐시.<br>
+ * 쿼리는 메소드, 파라미터 개수, 정렬 기준 등 쿼리의 형태를 결정하는 정보를 식별자로 사용하며, 파라미터 값은 포함하지 않습니다.
+ *
+ * @since 2026. 10. 18.
+ * @version 0.6.0
+ * @author parkjunhong77@gmail.com
+ */
+public class QueryTemplateCache {
+
+    /** 기본 캐시 크기 */
+    public static final int DEFAULT_CACHE_SIZE = 512;
+
+    /**
+     * 쿼리 캐시.<br>
+     * <ul>
+     * <li>key: {@link #key(Object...)}
+     * <li>value: 쿼리
+     * </ul>
+     */
+    private final Map<List<Object>, String> templates;
+
+    /**
+     * <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     *
+     * @see #DEFAULT_CACHE_SIZE
+     */
+    public QueryTemplateCache() {
+        this(DEFAULT_CACHE_SIZE);
+    }
+
+    /**
+     * <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @param cacheSize
+     *            캐시 크기
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     */
+    public QueryTemplateCache(@Min(1) int cacheSize) {
+        this.templates = LruMap.synchronizedMap(cacheSize);
+    }
+
+    /**
+     * 캐시 식별자를 생성합니다. 배열은 내용으로 비교되도록 {@link List}로 변환합니다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @param parts
+     *            쿼리의 형태를 결정하는 정보
+     * @return
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     */
+    public static List<Object> key(Object... parts) {
+        Object[] key = new Object[parts.length];
+        for (int i = 0; i < parts.length; i++) {
+            key[i] = parts[i] instanceof Object[] ? Arrays.asList((Object[]) parts[i]) : parts[i];
+        }
+        return Arrays.asList(key);
+    }
+
+    /**
+     * 캐시를 초기화합니다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     */
+    public void clear() {
+        this.templates.clear();
+    }
+
+    /**
+     * 캐시된 쿼리를 제공합니다. 캐시된 쿼리가 없는 경우 생성하여 저장합니다. <br>
+     * 쿼리 생성 함수는 캐시 잠금 밖에서 실행되므로, 동시에 요청된 경우 중복 생성될 수 있습니다.
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @param key
+     *            캐시 식별자. {@link #key(Object...)}
+     * @param renderer
+     *            쿼리 생성 함수
+     * @return
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     */
+    public String get(@NotNull List<Object> key, @NotNull Supplier<String> renderer) {
+        String query = this.templates.get(key);
+        if (query != null) {
+            return query;
+        }
+
+        query = renderer.get();
+        String prev = this.templates.putIfAbsent(key, query);
+        return prev != null ? prev : query;
+    }
+
+    /**
+     * 캐시된 쿼리 개수를 제공합니다. <br>
+     *
+     * <pre>
+     * [개정이력]
+     *      날짜      | 작성자   |   내용
+     * ------------------------------------------
+     * 2026. 10. 18.        박준홍         최초 작성
+     * </pre>
+     *
+     * @return
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     */
+    public int size() {
+        return this.templates.size();
+    }
+}
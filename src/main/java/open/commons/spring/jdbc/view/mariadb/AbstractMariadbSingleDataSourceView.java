@@ -137,6 +137,33 @@ public abstract class AbstractMariadbSingleDataSourceView<T> extends AbstractSin
         return MariadbCommons.RESERVED_KEYWORDS_WRAPPING_CHARACTER;
     }
 
+    /**
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     *
+     * @see open.commons.spring.jdbc.dao.AbstractGenericRetrieve#getStreamFetchSize()
+     */
+    @Override
+    protected int getStreamFetchSize() {
+        return MariadbCommons.STREAM_FETCH_SIZE;
+    }
+
+    /**
+     * MariaDB는 Row Value 크기 비교(<code>( k1, k2 ) &gt; ( ?, ? )</code>)에 대해 인덱스 범위 검색을 적용하지 못하는 경우가 있음.
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     *
+     * @see open.commons.spring.jdbc.view.AbstractGenericView#isRowValueComparisonSupported()
+     */
+    @Override
+    protected boolean isRowValueComparisonSupported() {
+        return false;
+    }
+
     /**
      *
      * @since 2025. 5. 13.
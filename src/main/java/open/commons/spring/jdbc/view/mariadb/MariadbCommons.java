@@ -91,6 +91,32 @@ public class MariadbCommons {
 
     public static final String QUERY_FOR_OFFSET = "LIMIT ?, ?";
 
+    /**
+     * 대용량 데이터 조회(Streaming)시 Fetch Size.<br>
+     * MariaDB Connector/J(2.x, 3.x)는 0보다 큰 경우 전체 데이터를 메모리에 적재하지 않고 Fetch Size 만큼씩 조회합니다. MariaDB Connector/J 3.x는 음수를 허용하지 않기
+     * 때문에 {@link Integer#MIN_VALUE}를 사용하지 않습니다.<br>
+     * MySQL Connector/J를 사용하는 경우 JDBC URL에 <code>useCursorFetch=true</code>를 설정해야 합니다.
+     * 
+     * @since 2026. 10. 18.
+     */
+    public static final int STREAM_FETCH_SIZE = 1000;
+
+    /**
+     * <code>LOAD DATA LOCAL INFILE</code> 데이터를 {@link java.io.InputStream}으로 설정할 수 있는 JDBC Driver의 {@link java.sql.Statement} 타입.<br>
+     * (MariaDB Connector/J 3.x, 2.x, MySQL Connector/J 8.x)
+     * 
+     * @since 2026. 10. 18.
+     */
+    public static final String[] LOCAL_INFILE_STATEMENT_TYPES = { "org.mariadb.jdbc.Statement", "org.mariadb.jdbc.MariaDbStatement", "com.mysql.cj.jdbc.JdbcStatement" };
+
+    /**
+     * 쿼리 1개의 최대 크기. (<code>max_allowed_packet</code> 기본값, MariaDB 10.2.4 이상)<br>
+     * 서버 설정이 다른 경우 {@link open.commons.spring.jdbc.repository.AbstractGenericRepository#getMaxStatementBytes()}를 재정의합니다.
+     * 
+     * @since 2026. 10. 18.
+     */
+    public static final long MAX_ALLOWED_PACKET = 16L * 1024 * 1024;
+
     private MariadbCommons() {
     }
 
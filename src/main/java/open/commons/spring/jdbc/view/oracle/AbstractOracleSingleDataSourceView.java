@@ -111,6 +111,20 @@ public abstract class AbstractOracleSingleDataSourceView<T> extends AbstractSing
         super(entityType, forceToPrimitive, ignoreNoDataMethod);
     }
 
+    /**
+     * 'IN' 목록은 1,000개로 제한됩니다. (ORA-01795)
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     *
+     * @see open.commons.spring.jdbc.dao.AbstractGenericRetrieve#getMaxInListSize()
+     */
+    @Override
+    protected int getMaxInListSize() {
+        return OracleCommons.MAX_IN_LIST_SIZE;
+    }
+
     /**
      *
      * @since 2025. 5. 13.
@@ -137,6 +151,20 @@ public abstract class AbstractOracleSingleDataSourceView<T> extends AbstractSing
         return OracleCommons.RESERVED_KEYWORDS_WRAPPING_CHARACTER;
     }
 
+    /**
+     * Oracle은 Row Value 크기 비교(<code>( k1, k2 ) &gt; ( ?, ? )</code>)를 지원하지 않음.
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     *
+     * @see open.commons.spring.jdbc.view.AbstractGenericView#isRowValueComparisonSupported()
+     */
+    @Override
+    protected boolean isRowValueComparisonSupported() {
+        return false;
+    }
+
     /**
      *
      * @since 2025. 5. 13.
@@ -72,6 +72,22 @@ public class OracleCommons {
 
     public static final String QUERY_FOR_OFFSET = "OFFSET ? ROWS FETCH NEXT ? ROWS ONLY";
 
+    /**
+     * 'INSERT ALL' 쿼리 1개에 설정할 수 있는 최대 파라미터 개수.<br>
+     * 'INSERT ALL'의 모든 'INTO' 구문의 컬럼 개수 합계는 1,000개 미만이어야 합니다. (ORA-24335)
+     * 
+     * @since 2026. 10. 18.
+     */
+    public static final int MAX_INSERT_ALL_BIND_PARAMETERS = 999;
+
+    /**
+     * 'IN' 목록에 설정할 수 있는 최대 값 개수.<br>
+     * 'IN' 목록의 값은 1,000개 이하이어야 합니다. (ORA-01795)
+     * 
+     * @since 2026. 10. 18.
+     */
+    public static final int MAX_IN_LIST_SIZE = 1000;
+
     private OracleCommons() {
     }
 }
@@ -111,6 +111,20 @@ public abstract class AbstractPostgreSingleDataSrouceView<T> extends AbstractSin
         super(entityType, forceToPrimitive, ignoreNoDataMethod);
     }
 
+    /**
+     * 'IN' 목록의 값은 모두 파라미터이므로 최대 파라미터 개수를 따릅니다.
+     *
+     * @since 2026. 10. 18.
+     * @version 0.6.0
+     * @author parkjunhong77@gmail.com
+     *
+     * @see open.commons.spring.jdbc.dao.AbstractGenericRetrieve#getMaxInListSize()
+     */
+    @Override
+    protected int getMaxInListSize() {
+        return PgSqlCommons.MAX_IN_LIST_SIZE;
+    }
+
     /**
      *
      * @since 2025. 5. 13.
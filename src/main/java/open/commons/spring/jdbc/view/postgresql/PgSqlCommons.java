@@ -69,6 +69,22 @@ public class PgSqlCommons {
 
     public static final String QUERY_FOR_OFFSET = "OFFSET ? LIMIT ?";
 
+    /**
+     * 쿼리 1개에 설정할 수 있는 최대 파라미터 개수.<br>
+     * PostgreSQL JDBC Driver는 파라미터 개수를 2 bytes 부호 있는 정수로 전송합니다.
+     * 
+     * @since 2026. 10. 18.
+     */
+    public static final int MAX_BIND_PARAMETERS = 32767;
+
+    /**
+     * 'IN' 목록에 설정할 수 있는 최대 값 개수.<br>
+     * 'IN' 목록의 값은 모두 파라미터이므로 최대 파라미터 개수({@link #MAX_BIND_PARAMETERS})를 따릅니다.
+     * 
+     * @since 2026. 10. 18.
+     */
+    public static final int MAX_IN_LIST_SIZE = MAX_BIND_PARAMETERS;
+
     private PgSqlCommons() {
     }
 